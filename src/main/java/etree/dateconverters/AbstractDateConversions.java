@@ -22,7 +22,8 @@
 */
 package etree.dateconverters;
 
-import java.time.OffsetDateTime;
+import java.nio.CharBuffer;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Locale;
@@ -46,9 +47,203 @@ class AbstractDateConversions {
 	/** The Constant DEFAULT_ZONE_ID. */
 	protected static final ZoneId DEFAULT_ZONE_ID = ZoneId.systemDefault();
 	
-	/** The Constant DEFAULT_ZONE_OFFSET. */
-	protected static final ZoneOffset DEFAULT_ZONE_OFFSET = OffsetDateTime.now().getOffset();
-	
 	/** The Constant DEFAULT_JODA_DATE_TIME_ZONE. */
 	protected static final DateTimeZone DEFAULT_JODA_DATE_TIME_ZONE = DateTimeZone.forTimeZone(DEFAULT_TIME_ZONE);
-}
+
+	/** The context of the default zone and locale, which the static conversion tables are bound to. */
+	protected static final ZoneContext DEFAULT_ZONE = new ZoneContext(DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+			FormatterCache.SHARED, EpochDayTable.DEFAULT_FIRST_YEAR, EpochDayTable.DEFAULT_LAST_YEAR,
+			DateInterner.DEFAULT);
+
+	/** The Constant MILLIS_PER_DAY. */
+	protected static final long MILLIS_PER_DAY = 86_400_000L;
+
+	/** The Constant SECONDS_PER_DAY. */
+	protected static final long SECONDS_PER_DAY = 86_400L;
+
+	/** The Constant NANOS_PER_MILLI. */
+	protected static final long NANOS_PER_MILLI = 1_000_000L;
+
+	/** The sink of the conversion diagnostics. */
+	private static volatile DiagnosticsSink diagnosticsSink = DiagnosticsSink.NO_OP;
+
+	/**
+	 * The sink of the conversion diagnostics.
+	 *
+	 * @return the diagnostics sink
+	 */
+	static DiagnosticsSink diagnosticsSink() {
+		return diagnosticsSink;
+	}
+
+	/**
+	 * Sets the sink of the conversion diagnostics.
+	 *
+	 * @param sink the sink, or null to drop the diagnostics
+	 */
+	static void diagnosticsSink(DiagnosticsSink sink) {
+		diagnosticsSink = sink == null ? DiagnosticsSink.NO_OP : sink;
+	}
+
+	/**
+	 * Reports a diagnostic of a conversion to the diagnostics sink.
+	 *
+	 * @param source the source class
+	 * @param target the target class
+	 * @param diagnostic the diagnostic
+	 */
+	protected static void diagnose(Class<?> source, Class<?> target, ConversionDiagnostic diagnostic) {
+		diagnosticsSink.report(source, target, diagnostic);
+	}
+
+	/**
+	 * Reports the conversion of a date without date information and converts it to null.
+	 *
+	 * @param <T> the target type
+	 * @param date the date
+	 * @param target the target class
+	 * @return null
+	 */
+	protected static <T> T missingDate(Object date, Class<?> target) {
+		diagnose(date.getClass(), target, ConversionDiagnostic.NO_DATE_INFORMATION);
+		return null;
+	}
+
+	/**
+	 * Reports the conversion of a date without time information and converts it to null.
+	 *
+	 * @param <T> the target type
+	 * @param date the date
+	 * @param target the target class
+	 * @return null
+	 */
+	protected static <T> T missingTime(Object date, Class<?> target) {
+		diagnose(date.getClass(), target, ConversionDiagnostic.NO_TIME_INFORMATION);
+		return null;
+	}
+
+	/**
+	 * Local date-time of the given epoch-millis at the given offset.
+	 *
+	 * @param epochMillis the epoch millis
+	 * @param offset the offset
+	 * @return the local date time
+	 */
+	protected static LocalDateTime localDateTime(long epochMillis, ZoneOffset offset) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L),
+				(int) Math.floorMod(epochMillis, 1000L) * (int) NANOS_PER_MILLI, offset);
+	}
+
+	/**
+	 * Epoch-millis of the given local millis in the given zone, as a lenient GregorianCalendar of the zone computes
+	 * them, unless an offset transition is close by.
+	 *
+	 * @param zone the zone
+	 * @param localMillis the local millis
+	 * @return the epoch millis, or Long.MIN_VALUE if an offset transition is within a day
+	 */
+	protected static long zoneMillis(TimeZone zone, long localMillis) {
+		int offset = zone.getOffset(localMillis - zone.getRawOffset());
+		long millis = localMillis - offset;
+		if (zone.getOffset(millis - MILLIS_PER_DAY) != offset || zone.getOffset(millis + MILLIS_PER_DAY) != offset) {
+			return Long.MIN_VALUE;
+		}
+		return millis;
+	}
+
+	/**
+	 * The given range of characters as a CharSequence, sharing the characters of the text.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the text itself if the range covers it, else a read-only view of the range
+	 */
+	protected static CharSequence subSequence(CharSequence text, int start, int end) {
+		if (start == 0 && end == text.length()) {
+			return text;
+		}
+		return CharBuffer.wrap(text, start, end);
+	}
+
+	/**
+	 * Epoch day of the given ISO date, computed the way {@link java.time.LocalDate#toEpochDay()} does but without
+	 * creating the LocalDate. The fields are not validated.
+	 *
+	 * @param year the year
+	 * @param month the month, from 1 to 12
+	 * @param day the day of month, from 1 to 31
+	 * @return the epoch day
+	 */
+	protected static long epochDay(int year, int month, int day) {
+		long y = year;
+		long total = 365 * y;
+		if (y >= 0) {
+			total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+		} else {
+			total -= y / -4 - y / -100 + y / -400;
+		}
+		total += (367 * month - 362) / 12;
+		total += day - 1;
+		if (month > 2) {
+			total--;
+			if (!isLeapYear(year)) {
+				total--;
+			}
+		}
+		return total - 719_528L;
+	}
+
+	/**
+	 * ISO date of the given epoch day, computed the way {@link java.time.LocalDate#ofEpochDay(long)} does but without
+	 * creating the LocalDate. The date is packed as {@code year << 9 | month << 5 | day}, so that {@code date >> 9}
+	 * gives the year, {@code (date >> 5) & 15} the month and {@code date & 31} the day of month.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the packed date
+	 */
+	protected static long yearMonthDay(long epochDay) {
+		long zeroDay = epochDay + 719_528L - 60;
+		long adjust = 0;
+		if (zeroDay < 0) {
+			long adjustCycles = (zeroDay + 1) / 146_097L - 1;
+			adjust = adjustCycles * 400;
+			zeroDay -= adjustCycles * 146_097L;
+		}
+		long year = (400 * zeroDay + 591) / 146_097L;
+		long dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+		if (dayOfYear < 0) {
+			year--;
+			dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+		}
+		int marchMonth = ((int) dayOfYear * 5 + 2) / 153;
+		int month = (marchMonth + 2) % 12 + 1;
+		int day = (int) dayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+		year += adjust + marchMonth / 10;
+		return year << 9 | month << 5 | day;
+	}
+
+	/**
+	 * Checks if the given ISO year is a leap year.
+	 *
+	 * @param year the year
+	 * @return true, if is leap year
+	 */
+	protected static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * Length of the given month of the given ISO year.
+	 *
+	 * @param year the year
+	 * @param month the month, from 1 to 12
+	 * @return the length of month
+	 */
+	protected static int lengthOfMonth(int year, int month) {
+		if (month == 2) {
+			return isLeapYear(year) ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+}
\ No newline at end of file
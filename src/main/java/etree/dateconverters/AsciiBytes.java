@@ -0,0 +1,271 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * The Class AsciiBytes.
+ * 
+ * A CharSequence view of a range of ASCII bytes, of a byte array or a heap or direct ByteBuffer, which lets UTF-8
+ * input be parsed without decoding it into a String. {@link IsoDateParser} reads such views eight bytes at a time.
+ * The other way, formatted dates are encoded into the bytes of a caller's array or buffer.
+ */
+final class AsciiBytes implements CharSequence {
+
+	/** The Constant HIGH_BITS. */
+	private static final long HIGH_BITS = 0x8080808080808080L;
+
+	/** The bytes, or null for a direct buffer. */
+	private final byte[] bytes;
+
+	/** The direct buffer, or null for bytes. */
+	private final ByteBuffer buffer;
+
+	/** The offset of the view in the bytes or buffer. */
+	private final int offset;
+
+	/** The length. */
+	private final int length;
+
+	/**
+	 * Instantiates a new ascii bytes.
+	 *
+	 * @param bytes the bytes
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @param length the length
+	 */
+	private AsciiBytes(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+		this.bytes = bytes;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * The UTF-8 text of the given range of bytes: a view of the bytes if they are all ASCII, else the decoded String.
+	 *
+	 * @param bytes the bytes
+	 * @param offset the offset
+	 * @param length the length
+	 * @return the text
+	 */
+	static CharSequence utf8(byte[] bytes, int offset, int length) {
+		int end = offset + length;
+		int idx = offset;
+		for (; idx + 8 <= end; idx += 8) {
+			if ((longAt(bytes, idx) & HIGH_BITS) != 0) {
+				return new String(bytes, offset, length, StandardCharsets.UTF_8);
+			}
+		}
+		for (; idx < end; idx++) {
+			if (bytes[idx] < 0) {
+				return new String(bytes, offset, length, StandardCharsets.UTF_8);
+			}
+		}
+		return new AsciiBytes(bytes, null, offset, length);
+	}
+
+	/**
+	 * The UTF-8 text of the given range of the buffer, in the manner of {@link #utf8(byte[], int, int)}. The offset
+	 * is an absolute index into the buffer, independent of its position.
+	 *
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @param length the length
+	 * @return the text
+	 */
+	static CharSequence utf8(ByteBuffer buffer, int offset, int length) {
+		if (buffer.hasArray()) {
+			return utf8(buffer.array(), buffer.arrayOffset() + offset, length);
+		}
+		int end = offset + length;
+		for (int idx = offset; idx < end; idx++) {
+			if (buffer.get(idx) < 0) {
+				byte[] copy = new byte[length];
+				for (int pos = 0; pos < length; pos++) {
+					copy[pos] = buffer.get(offset + pos);
+				}
+				return new String(copy, StandardCharsets.UTF_8);
+			}
+		}
+		return new AsciiBytes(null, buffer, offset, length);
+	}
+
+	/**
+	 * The length of the given text encoded in UTF-8.
+	 *
+	 * @param text the text
+	 * @return the length
+	 */
+	static int utf8Length(CharSequence text) {
+		int length = text.length();
+		int utf8Length = length;
+		for (int idx = 0; idx < length; idx++) {
+			char c = text.charAt(idx);
+			if (c < 0x80) {
+				continue;
+			}
+			if (c < 0x800) {
+				utf8Length++;
+			} else if (!Character.isSurrogate(c)) {
+				utf8Length += 2;
+			} else if (Character.isHighSurrogate(c) && idx + 1 < length
+					&& Character.isLowSurrogate(text.charAt(idx + 1))) {
+				utf8Length += 2;
+				idx++;
+			}
+		}
+		return utf8Length;
+	}
+
+	/**
+	 * Writes the given text encoded in UTF-8 into the bytes, from the given offset. Unpaired surrogates are written
+	 * as '?', as {@link String#getBytes(java.nio.charset.Charset)} writes them.
+	 *
+	 * @param text the text
+	 * @param bytes the bytes, with room for {@link #utf8Length(CharSequence)} bytes
+	 * @param offset the offset
+	 * @return the offset after the last byte written
+	 */
+	static int putUtf8(CharSequence text, byte[] bytes, int offset) {
+		int length = text.length();
+		int pos = offset;
+		for (int idx = 0; idx < length; idx++) {
+			char c = text.charAt(idx);
+			if (c < 0x80) {
+				bytes[pos++] = (byte) c;
+			} else if (c < 0x800) {
+				bytes[pos++] = (byte) (0xC0 | c >> 6);
+				bytes[pos++] = (byte) (0x80 | c & 0x3F);
+			} else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && idx + 1 < length
+						&& Character.isLowSurrogate(text.charAt(idx + 1))) {
+					int codePoint = Character.toCodePoint(c, text.charAt(++idx));
+					bytes[pos++] = (byte) (0xF0 | codePoint >> 18);
+					bytes[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+					bytes[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+					bytes[pos++] = (byte) (0x80 | codePoint & 0x3F);
+				} else {
+					bytes[pos++] = '?';
+				}
+			} else {
+				bytes[pos++] = (byte) (0xE0 | c >> 12);
+				bytes[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+				bytes[pos++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes the given text encoded in UTF-8 into the buffer, in the manner of
+	 * {@link #putUtf8(CharSequence, byte[], int)}. The offset is an absolute index into the buffer, independent of
+	 * its position, which is left as it is.
+	 *
+	 * @param text the text
+	 * @param utf8Length the {@link #utf8Length(CharSequence)} of the text
+	 * @param buffer the buffer, with room for utf8Length bytes
+	 * @param offset the offset
+	 * @return the offset after the last byte written
+	 */
+	static int putUtf8(CharSequence text, int utf8Length, ByteBuffer buffer, int offset) {
+		if (buffer.hasArray()) {
+			return putUtf8(text, buffer.array(), buffer.arrayOffset() + offset) - buffer.arrayOffset();
+		}
+		int length = text.length();
+		if (utf8Length == length) {
+			for (int idx = 0; idx < length; idx++) {
+				buffer.put(offset + idx, (byte) text.charAt(idx));
+			}
+			return offset + length;
+		}
+		byte[] bytes = new byte[utf8Length];
+		putUtf8(text, bytes, 0);
+		for (int idx = 0; idx < utf8Length; idx++) {
+			buffer.put(offset + idx, bytes[idx]);
+		}
+		return offset + utf8Length;
+	}
+
+	/**
+	 * The eight bytes from the given index of the view, the first in the lowest byte of the long.
+	 *
+	 * @param index the index, at most length - 8
+	 * @return the bytes
+	 */
+	long longAt(int index) {
+		if (bytes != null) {
+			return longAt(bytes, offset + index);
+		}
+		long word = buffer.getLong(offset + index);
+		return buffer.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		return (char) (bytes != null ? bytes[offset + index] : buffer.get(offset + index));
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || start > end || end > length) {
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+		}
+		return new AsciiBytes(bytes, buffer, offset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		if (bytes != null) {
+			return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+		}
+		char[] chars = new char[length];
+		for (int idx = 0; idx < length; idx++) {
+			chars[idx] = (char) buffer.get(offset + idx);
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * The eight bytes from the given index of the array, the first in the lowest byte of the long.
+	 *
+	 * @param bytes the bytes
+	 * @param index the index
+	 * @return the bytes
+	 */
+	private static long longAt(byte[] bytes, int index) {
+		return (bytes[index] & 0xFFL) | (bytes[index + 1] & 0xFFL) << 8 | (bytes[index + 2] & 0xFFL) << 16
+				| (bytes[index + 3] & 0xFFL) << 24 | (bytes[index + 4] & 0xFFL) << 32 | (bytes[index + 5] & 0xFFL) << 40
+				| (bytes[index + 6] & 0xFFL) << 48 | (bytes[index + 7] & 0xFFL) << 56;
+	}
+}
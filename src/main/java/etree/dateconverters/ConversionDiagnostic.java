@@ -0,0 +1,42 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+
+/**
+ * The Enum ConversionDiagnostic.
+ * 
+ * The reasons a conversion reports to the {@link DiagnosticsSink} of {@link DateConverterFacade}: conversions that
+ * return null or ignore part of their input rather than fail.
+ */
+public enum ConversionDiagnostic {
+
+	/** A date-type without date information, e.g. a LocalTime, converted to null. */
+	NO_DATE_INFORMATION,
+
+	/** A date-type without time information, e.g. a LocalDate, converted to null. */
+	NO_TIME_INFORMATION,
+
+	/** A date-format ignored by a conversion that reads a fixed format. */
+	DATE_FORMAT_IGNORED
+}
@@ -0,0 +1,333 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class ConversionMetrics.
+ * 
+ * Opt-in instrumentation of the conversions of {@link DateConverterFacade}: the conversions of single dates and
+ * date-strings, including the non-throwing ones, are counted per pair of source and target types, with their
+ * failures per {@link ErrorCode} and a histogram of their latencies, in striped LongAdder counters. A conversion to
+ * null of a date lacking the date or time information of the target counts as a failure with
+ * {@link ErrorCode#INCOMPLETE_DATE}. The source type of the date-strings of a range of characters is CharSequence,
+ * the target type of the conversions to a null type is void.
+ * 
+ * The metrics are enabled with {@link #setEnabled(boolean)}, through JMX, or at startup with the system property
+ * {@value #ENABLED_PROPERTY}; once first enabled, they are registered in the platform MBeanServer as
+ * {@value #OBJECT_NAME}. While disabled a conversion costs one volatile read more.
+ */
+public final class ConversionMetrics implements ConversionMetricsMXBean {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConversionMetrics.class);
+
+	/** The system property enabling the metrics at startup. */
+	public static final String ENABLED_PROPERTY = "etree.dateconverters.metrics.enabled";
+
+	/** The object name of the MBean. */
+	public static final String OBJECT_NAME = "etree.dateconverters:type=ConversionMetrics";
+
+	/** The number of latency buckets. */
+	public static final int LATENCY_BUCKETS = 32;
+
+	/** The single instance. */
+	private static final ConversionMetrics INSTANCE = new ConversionMetrics();
+
+	/** The enabled metrics, or null while disabled. */
+	private static volatile ConversionMetrics active;
+
+	/** Whether the MBean has been registered. */
+	private static boolean registered;
+
+	/** The counters, per source type and target type. */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Counters>> counters = new ConcurrentHashMap<>();
+
+	static {
+		if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+			INSTANCE.setEnabled(true);
+		}
+	}
+
+	/**
+	 * The counters of one pair of source and target types.
+	 */
+	private static final class Counters {
+
+		/** The conversion count. */
+		private final LongAdder count = new LongAdder();
+
+		/** The total nanos. */
+		private final LongAdder nanos = new LongAdder();
+
+		/** The failure counts, indexed by error code. */
+		private final LongAdder[] failures = newAdders(ErrorCode.values().length);
+
+		/** The latency histogram. */
+		private final LongAdder[] latencies = newAdders(LATENCY_BUCKETS);
+	}
+
+	/**
+	 * Instantiates new conversion metrics.
+	 */
+	private ConversionMetrics() {
+	}
+
+	/**
+	 * Gets the single instance.
+	 *
+	 * @return the conversion metrics
+	 */
+	public static ConversionMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * The enabled metrics.
+	 *
+	 * @return the metrics, or null while disabled
+	 */
+	static ConversionMetrics active() {
+		return active;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return active != null;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		if (enabled) {
+			register();
+		}
+		active = enabled ? this : null;
+	}
+
+	@Override
+	public long getConversionCount() {
+		long total = 0;
+		for (ConcurrentMap<Class<?>, Counters> targets : counters.values()) {
+			for (Counters pair : targets.values()) {
+				total += pair.count.sum();
+			}
+		}
+		return total;
+	}
+
+	@Override
+	public long getFailureCount() {
+		long total = 0;
+		for (ConcurrentMap<Class<?>, Counters> targets : counters.values()) {
+			for (Counters pair : targets.values()) {
+				for (LongAdder failures : pair.failures) {
+					total += failures.sum();
+				}
+			}
+		}
+		return total;
+	}
+
+	@Override
+	public List<ConversionPairStatistics> getPairs() {
+		List<ConversionPairStatistics> pairs = new ArrayList<>();
+		for (Map.Entry<Class<?>, ConcurrentMap<Class<?>, Counters>> targets : counters.entrySet()) {
+			for (Map.Entry<Class<?>, Counters> pair : targets.getValue().entrySet()) {
+				pairs.add(statistics(targets.getKey(), pair.getKey(), pair.getValue()));
+			}
+		}
+		return pairs;
+	}
+
+	/**
+	 * A snapshot of the statistics of the given pair of source and target types.
+	 *
+	 * @param source the source type
+	 * @param target the target type
+	 * @return the statistics, or null if no conversion of the pair has been measured
+	 */
+	public ConversionPairStatistics getPair(Class<?> source, Class<?> target) {
+		Class<?> key = target == null ? void.class : target;
+		Map<Class<?>, Counters> targets = counters.get(source);
+		Counters pair = targets == null ? null : targets.get(key);
+		return pair == null ? null : statistics(source, key, pair);
+	}
+
+	@Override
+	public void reset() {
+		counters.clear();
+	}
+
+	/**
+	 * Measures the given conversion of a date of the given source type to the given target type.
+	 *
+	 * @param <T> the target type
+	 * @param source the source type
+	 * @param target the target type
+	 * @param otherwise the error code of failures other than coded DateConverterExceptions
+	 * @param conversion the conversion
+	 * @return the converted date
+	 */
+	<T> T measure(Class<?> source, Class<?> target, ErrorCode otherwise, Supplier<T> conversion) {
+		long start = System.nanoTime();
+		T value;
+		try {
+			value = conversion.get();
+		} catch (RuntimeException e) {
+			ErrorCode code = e instanceof DateConverterException ? ((DateConverterException) e).getCode() : null;
+			record(source, target, System.nanoTime() - start, code == null ? otherwise : code);
+			throw e;
+		}
+		record(source, target, System.nanoTime() - start, value == null ? ErrorCode.INCOMPLETE_DATE : null);
+		return value;
+	}
+
+	/**
+	 * Measures the given non-throwing conversion of a date of the given source type to the given target type.
+	 *
+	 * @param source the source type
+	 * @param target the target type
+	 * @param result the result the conversion records in
+	 * @param conversion the conversion
+	 * @return true, if successful
+	 */
+	boolean measure(Class<?> source, Class<?> target, ConversionResult<?> result, Supplier<Boolean> conversion) {
+		long start = System.nanoTime();
+		boolean success = conversion.get();
+		record(source, target, System.nanoTime() - start, result.getError());
+		return success;
+	}
+
+	/**
+	 * Records a conversion.
+	 *
+	 * @param source the source type
+	 * @param target the target type
+	 * @param nanos the latency
+	 * @param failure the error code, or null if the conversion succeeded
+	 */
+	void record(Class<?> source, Class<?> target, long nanos, ErrorCode failure) {
+		Counters pair = counters(source, target);
+		pair.count.increment();
+		pair.nanos.add(nanos);
+		pair.latencies[Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+		if (failure != null) {
+			pair.failures[failure.ordinal()].increment();
+		}
+	}
+
+	/**
+	 * The counters of the given pair of source and target types.
+	 *
+	 * @param source the source type
+	 * @param target the target type
+	 * @return the counters
+	 */
+	private Counters counters(Class<?> source, Class<?> target) {
+		ConcurrentMap<Class<?>, Counters> targets = counters.get(source);
+		if (targets == null) {
+			targets = counters.computeIfAbsent(source, key -> new ConcurrentHashMap<>());
+		}
+		Class<?> key = target == null ? void.class : target;
+		Counters pair = targets.get(key);
+		if (pair == null) {
+			pair = targets.computeIfAbsent(key, clz -> new Counters());
+		}
+		return pair;
+	}
+
+	/**
+	 * A snapshot of the given counters.
+	 *
+	 * @param source the source type
+	 * @param target the target type
+	 * @param pair the counters
+	 * @return the statistics
+	 */
+	private static ConversionPairStatistics statistics(Class<?> source, Class<?> target, Counters pair) {
+		Map<String, Long> failures = new LinkedHashMap<>();
+		for (ErrorCode code : ErrorCode.values()) {
+			long count = pair.failures[code.ordinal()].sum();
+			if (count > 0) {
+				failures.put(code.name(), count);
+			}
+		}
+		long[] latencies = new long[LATENCY_BUCKETS];
+		for (int idx = 0; idx < LATENCY_BUCKETS; idx++) {
+			latencies[idx] = pair.latencies[idx].sum();
+		}
+		return new ConversionPairStatistics(source.getName(), target.getName(),
+				pair.count.sum(), failures, pair.nanos.sum(), latencies);
+	}
+
+	/**
+	 * Registers the MBean in the platform MBeanServer, unless it has been already.
+	 */
+	private static synchronized void register() {
+		if (registered) {
+			return;
+		}
+		registered = true;
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+		} catch (InstanceAlreadyExistsException e) {
+			LOGGER.warn("Date converter metrics MBean {} is registered already.", OBJECT_NAME);
+		} catch (JMException | SecurityException e) {
+			LOGGER.warn("Unable to register the date converter metrics MBean {}.", OBJECT_NAME, e);
+		}
+	}
+
+	/**
+	 * New counters.
+	 *
+	 * @param length the length
+	 * @return the counters
+	 */
+	private static LongAdder[] newAdders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for (int idx = 0; idx < length; idx++) {
+			adders[idx] = new LongAdder();
+		}
+		return adders;
+	}
+}
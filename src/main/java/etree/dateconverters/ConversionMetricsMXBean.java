@@ -0,0 +1,75 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.List;
+
+
+/**
+ * The Interface ConversionMetricsMXBean.
+ * 
+ * The JMX view of {@link ConversionMetrics}, registered as {@value ConversionMetrics#OBJECT_NAME} once the metrics
+ * are first enabled.
+ */
+public interface ConversionMetricsMXBean {
+
+	/**
+	 * Checks if the conversions are measured.
+	 *
+	 * @return true, if enabled
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Starts or stops measuring the conversions. The counts are kept while stopped.
+	 *
+	 * @param enabled the enabled
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * The number of measured conversions, failed ones included.
+	 *
+	 * @return the conversion count
+	 */
+	long getConversionCount();
+
+	/**
+	 * The number of measured conversions that failed.
+	 *
+	 * @return the failure count
+	 */
+	long getFailureCount();
+
+	/**
+	 * A snapshot of the statistics of every measured pair of source and target types.
+	 *
+	 * @return the pair statistics
+	 */
+	List<ConversionPairStatistics> getPairs();
+
+	/**
+	 * Forgets all measured conversions.
+	 */
+	void reset();
+}
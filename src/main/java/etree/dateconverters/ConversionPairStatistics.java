@@ -0,0 +1,198 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * The Class ConversionPairStatistics.
+ * 
+ * An immutable snapshot of the conversions measured by {@link ConversionMetrics} for one pair of source and target
+ * types. The latencies are counted in buckets of powers of two: bucket 0 counts latencies of 0 nanos and bucket i
+ * those from 2^(i-1), inclusive, to 2^i nanos, exclusive; the last bucket counts all longer ones as well. The
+ * percentiles are the upper bounds of the buckets they fall in.
+ */
+public final class ConversionPairStatistics {
+
+	/** The source type. */
+	private final String source;
+
+	/** The target type. */
+	private final String target;
+
+	/** The conversion count. */
+	private final long count;
+
+	/** The failure count. */
+	private final long failureCount;
+
+	/** The failure counts per error code. */
+	private final Map<String, Long> failures;
+
+	/** The total nanos. */
+	private final long totalNanos;
+
+	/** The latency histogram. */
+	private final long[] latencyHistogram;
+
+	/**
+	 * Instantiates a new conversion pair statistics.
+	 *
+	 * @param source the source type
+	 * @param target the target type
+	 * @param count the conversion count
+	 * @param failures the failure counts per error code
+	 * @param totalNanos the total nanos
+	 * @param latencyHistogram the latency histogram
+	 */
+	ConversionPairStatistics(String source, String target, long count, Map<String, Long> failures,
+			long totalNanos, long[] latencyHistogram) {
+		this.source = source;
+		this.target = target;
+		this.count = count;
+		this.failures = Collections.unmodifiableMap(failures);
+		this.failureCount = failures.values().stream().mapToLong(Long::longValue).sum();
+		this.totalNanos = totalNanos;
+		this.latencyHistogram = latencyHistogram;
+	}
+
+	/**
+	 * Gets the name of the source type.
+	 *
+	 * @return the source
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * Gets the name of the target type.
+	 *
+	 * @return the target
+	 */
+	public String getTarget() {
+		return target;
+	}
+
+	/**
+	 * Gets the number of conversions, failed ones included.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the number of failed conversions.
+	 *
+	 * @return the failure count
+	 */
+	public long getFailureCount() {
+		return failureCount;
+	}
+
+	/**
+	 * Gets the numbers of failed conversions per error code, for the error codes that occurred.
+	 *
+	 * @return the failures
+	 */
+	public Map<String, Long> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Gets the total latency of the conversions.
+	 *
+	 * @return the total nanos
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * Gets the mean latency of the conversions.
+	 *
+	 * @return the mean nanos, or 0 if there were none
+	 */
+	public double getMeanNanos() {
+		return count == 0 ? 0 : (double) totalNanos / count;
+	}
+
+	/**
+	 * Gets the median latency of the conversions, as the upper bound of its bucket.
+	 *
+	 * @return the median nanos
+	 */
+	public long getP50Nanos() {
+		return percentileNanos(0.5);
+	}
+
+	/**
+	 * Gets the 99th percentile latency of the conversions, as the upper bound of its bucket.
+	 *
+	 * @return the 99th percentile nanos
+	 */
+	public long getP99Nanos() {
+		return percentileNanos(0.99);
+	}
+
+	/**
+	 * Gets the latency histogram.
+	 *
+	 * @return the counts of the latency buckets
+	 */
+	public long[] getLatencyHistogram() {
+		return latencyHistogram.clone();
+	}
+
+	/**
+	 * The given percentile of the latencies, as the upper bound of its bucket.
+	 *
+	 * @param percentile the percentile, from 0 to 1
+	 * @return the nanos, or 0 if there were no conversions
+	 */
+	private long percentileNanos(double percentile) {
+		long total = 0;
+		for (long bucket : latencyHistogram) {
+			total += bucket;
+		}
+		long rank = (long) Math.ceil(total * percentile);
+		long seen = 0;
+		for (int idx = 0; idx < latencyHistogram.length; idx++) {
+			seen += latencyHistogram[idx];
+			if (seen >= rank && seen > 0) {
+				return idx == latencyHistogram.length - 1 ? Long.MAX_VALUE : 1L << idx;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		return source + " -> " + target + ": " + count + " conversions, " + failureCount + " failed " + failures
+				+ ", mean " + (long) getMeanNanos() + " ns, p50 " + getP50Nanos() + " ns, p99 " + getP99Nanos() + " ns";
+	}
+}
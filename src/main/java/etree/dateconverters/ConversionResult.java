@@ -0,0 +1,124 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class ConversionResult.
+ * 
+ * The reusable result of the non-throwing conversions, e.g. {@link DateConverterFacade#tryConvert(Object, Class,
+ * ConversionResult)}: either the converted date, or the {@link ErrorCode} of the failure. Each conversion overwrites
+ * the result, so a loop over a dirty feed converts into one result without creating exceptions or holders. A
+ * result is not thread-safe.
+ *
+ * @param <T> the target type
+ */
+public final class ConversionResult<T> {
+
+	/** The converted date. */
+	private T value;
+
+	/** The error code, or null if the conversion succeeded. */
+	private ErrorCode error;
+
+	/**
+	 * Checks if the conversion succeeded.
+	 *
+	 * @return true, if successful
+	 */
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+	/**
+	 * Gets the converted date.
+	 *
+	 * @return the converted date, or null if the conversion failed or the date was null
+	 */
+	public T getValue() {
+		return value;
+	}
+
+	/**
+	 * Gets the error code of the failed conversion.
+	 *
+	 * @return the error code, or null if the conversion succeeded
+	 */
+	public ErrorCode getError() {
+		return error;
+	}
+
+	/**
+	 * Gets the converted date, or the given one if the conversion failed.
+	 *
+	 * @param other the other
+	 * @return the converted date, or other
+	 */
+	public T orElse(T other) {
+		return error == null ? value : other;
+	}
+
+	/**
+	 * Gets the converted date, or throws a DateConverterException with the error code if the conversion failed.
+	 *
+	 * @return the converted date
+	 */
+	public T orElseThrow() {
+		if (error != null) {
+			throw new DateConverterException(error, "Date conversion error! " + error);
+		}
+		return value;
+	}
+
+	/**
+	 * Records the successful conversion to the given date.
+	 *
+	 * @param value the converted date
+	 * @return true
+	 */
+	boolean success(T value) {
+		this.value = value;
+		this.error = null;
+		return true;
+	}
+
+	/**
+	 * Records the failed conversion.
+	 *
+	 * @param error the error code
+	 * @return false
+	 */
+	boolean failure(ErrorCode error) {
+		this.value = null;
+		this.error = error;
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return error == null ? String.valueOf(value) : error.toString();
+	}
+}
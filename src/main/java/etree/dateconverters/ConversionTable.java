@@ -0,0 +1,243 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class ConversionTable.
+ * 
+ * Holds the conversions of one target date-type, keyed by source type in the order they were added. The
+ * conversion for a concrete source class is resolved once - to the first added source type it is assignable
+ * to - and cached against that class, so that subclasses such as GregorianCalendar or
+ * org.joda.time.DateTime cost a single lookup per call.
+ *
+ * @param <T> the target type
+ */
+
+final class ConversionTable<T> {
+
+	/** The target type. */
+	private final Class<T> targetType;
+
+	/** The interner of the converted dates, or null if they are not interned. */
+	private final DateInterner interner;
+
+	/** The source types in the order of precedence. */
+	private final List<Class<?>> sourceTypes = new ArrayList<>();
+
+	/** The conversions, index-aligned with the source types. */
+	private final List<Converter<Object, ? extends T>> conversions = new ArrayList<>();
+
+	/** The conversion of the source classes without one, which fails. */
+	private final Converter<Object, ? extends T> unsupported;
+
+	/** The conversions resolved per concrete source class. */
+	private final ClassValue<Converter<Object, ? extends T>> resolvedConversions = new ClassValue<Converter<Object, ? extends T>>() {
+
+		@Override
+		protected Converter<Object, ? extends T> computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	/**
+	 * Instantiates a new conversion table.
+	 *
+	 * @param targetType the target type
+	 */
+	ConversionTable(Class<T> targetType) {
+		this(targetType, null);
+	}
+
+	/**
+	 * Instantiates a new conversion table, interning the converted dates through the given interner.
+	 *
+	 * @param targetType the target type
+	 * @param interner the interner, or null for none
+	 */
+	ConversionTable(Class<T> targetType, DateInterner interner) {
+		this.targetType = targetType;
+		this.interner = interner;
+		this.unsupported = date -> {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION, "Date conversion error! Unable to convert "
+					+ date.getClass().getName() + " to " + targetType.getName());
+		};
+	}
+
+	/**
+	 * Adds the conversion for the given source type. Conversions are expected to be added only while the
+	 * owning class is being initialized.
+	 *
+	 * @param <S> the source type
+	 * @param sourceType the source type
+	 * @param conversion the conversion
+	 * @return this conversion table
+	 */
+	@SuppressWarnings("unchecked")
+	<S> ConversionTable<T> add(Class<S> sourceType, Converter<? super S, ? extends T> conversion) {
+		sourceTypes.add(sourceType);
+		conversions.add((Converter<Object, ? extends T>) conversion);
+		return this;
+	}
+
+	/**
+	 * Checks if the dates of the given concrete source class can be converted.
+	 *
+	 * @param type the type
+	 * @return true, if there is a conversion for the type
+	 */
+	boolean supports(Class<?> type) {
+		return resolvedConversions.get(type) != unsupported;
+	}
+
+	/**
+	 * Converts the non-null date.
+	 *
+	 * @param date the date
+	 * @return the converted date
+	 */
+	T convert(Object date) {
+		return resolvedConversions.get(date.getClass()).convertNonNull(date);
+	}
+
+	/**
+	 * Converts the dates within the given index range of the source array into the same positions of the target
+	 * array. The conversion is resolved again only when the class of the source changes, so homogeneous input is
+	 * dispatched once per batch.
+	 *
+	 * @param from the source dates
+	 * @param to the target array
+	 * @param fromIdx the first index, inclusive
+	 * @param toIdx the last index, exclusive
+	 */
+	void convertAll(Object[] from, Object[] to, int fromIdx, int toIdx) {
+		Class<?> type = null;
+		Converter<Object, ? extends T> conversion = null;
+		for (int idx = fromIdx; idx < toIdx; idx++) {
+			Object date = from[idx];
+			if (date == null) {
+				to[idx] = null;
+				continue;
+			}
+			if (date.getClass() != type) {
+				type = date.getClass();
+				conversion = resolvedConversions.get(type);
+			}
+			to[idx] = conversion.convertNonNull(date);
+		}
+	}
+
+	/**
+	 * Converts the dates of the given list, in the manner of {@link #convertAll(Object[], Object[], int, int)}.
+	 *
+	 * @param from the source dates
+	 * @return the converted dates
+	 */
+	List<T> convertAll(List<?> from) {
+		List<T> to = new ArrayList<>(from.size());
+		Class<?> type = null;
+		Converter<Object, ? extends T> conversion = null;
+		for (Object date : from) {
+			if (date == null) {
+				to.add(null);
+				continue;
+			}
+			if (date.getClass() != type) {
+				type = date.getClass();
+				conversion = resolvedConversions.get(type);
+			}
+			to.add(conversion.convertNonNull(date));
+		}
+		return to;
+	}
+
+	/**
+	 * Resolves the converter for the given source type. When no subtype of the source type takes precedence in
+	 * this table the bound conversion is returned as is; otherwise the converter falls back to the per-class
+	 * resolution on every call.
+	 *
+	 * @param <F> the source type
+	 * @param type the source type
+	 * @return the converter
+	 */
+	@SuppressWarnings("unchecked")
+	<F> Converter<F, T> converterFor(Class<F> type) {
+		int idx = indexOf(type);
+		int precedingIdx = idx < 0 ? sourceTypes.size() : idx;
+		for (int preceding = 0; preceding < precedingIdx; preceding++) {
+			if (type.isAssignableFrom(sourceTypes.get(preceding))) {
+				return this::convert;
+			}
+		}
+		if (idx < 0) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + type.getName() + " to " + targetType.getName());
+		}
+		return (Converter<F, T>) interned(conversions.get(idx));
+	}
+
+	/**
+	 * Resolves the conversion for the given concrete source class.
+	 *
+	 * @param type the type
+	 * @return the conversion
+	 */
+	private Converter<Object, ? extends T> resolve(Class<?> type) {
+		int idx = indexOf(type);
+		return idx < 0 ? unsupported : interned(conversions.get(idx));
+	}
+
+	/**
+	 * The given conversion, interning the dates it converts to if the table has an interner.
+	 *
+	 * @param conversion the conversion
+	 * @return the interning conversion, or the conversion itself
+	 */
+	private Converter<Object, ? extends T> interned(Converter<Object, ? extends T> conversion) {
+		if (interner == null) {
+			return conversion;
+		}
+		return date -> interner.intern(conversion.convertNonNull(date));
+	}
+
+	/**
+	 * Index of the first source type the given type is assignable to.
+	 *
+	 * @param type the type
+	 * @return the index, or -1 if none
+	 */
+	private int indexOf(Class<?> type) {
+		for (int idx = 0; idx < sourceTypes.size(); idx++) {
+			if (sourceTypes.get(idx).isAssignableFrom(type)) {
+				return idx;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,59 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+
+/**
+ * The Interface Converter.
+ * 
+ * A conversion bound to one source and one target date-type, as resolved by
+ * {@link DateConverterFacade#converterFor(Class, Class)}. Handles are stateless and thread-safe, and are meant
+ * to be resolved once and kept, e.g. in a static field of the calling code.
+ *
+ * @param <F> the source type
+ * @param <T> the target type
+ */
+@FunctionalInterface
+public interface Converter<F, T> {
+
+	/**
+	 * Converts the given date, which must not be null.
+	 *
+	 * @param from the from
+	 * @return the t
+	 */
+	T convertNonNull(F from);
+
+	/**
+	 * Converts the given date.
+	 *
+	 * @param from the from
+	 * @return the t, or null if from is null
+	 */
+	default T convert(F from) {
+		if (from == null) {
+			return null;
+		}
+		return convertNonNull(from);
+	}
+}
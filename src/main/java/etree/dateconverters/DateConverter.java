@@ -0,0 +1,535 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class DateConverter.
+ * 
+ * A date converter bound to a zone and a locale of its own, for applications serving tenants or users in different
+ * zones from the same JVM. Instants are converted to local date-times, zone-less date-strings are read and dates are
+ * formatted in the zone of the converter instead of the JVM default zone, and its date-format patterns are compiled
+ * with its locale. A converter is immutable and thread-safe once built; each holds its own conversion tables, resolved
+ * per target type on first use, and reads the offsets of its zone from transitions resolved once.
+ * 
+ * The converter of the default zone and locale, {@link #getDefault()}, converts as {@link DateConverterFacade} does.
+ * The fields of an XMLGregorianCalendar without a timezone are still read in the JVM default zone.
+ */
+public final class DateConverter {
+
+	/** The converter of the default zone and locale. */
+	private static final DateConverter DEFAULT = new DateConverter(AbstractDateConversions.DEFAULT_ZONE);
+
+	/** The zone context. */
+	private final ZoneContext zone;
+
+	/** The writer of dates into mutable targets. */
+	private final MutableDateWriter writer;
+
+	/** The non-throwing conversions. */
+	private final TryConversions tryConversions;
+
+	/** The conversion table resolved per target class. */
+	private final ClassValue<ConversionTable<?>> conversionTables = new ClassValue<ConversionTable<?>>() {
+
+		@Override
+		protected ConversionTable<?> computeValue(Class<?> toClz) {
+			DateTarget<?> target = DateTarget.of(toClz);
+			return target == null ? null : target.conversions(zone);
+		}
+	};
+
+	/** The date-string parser with a date-format resolved per target class. */
+	private final ClassValue<BiFunction<CharSequence, String, ?>> formatParsers = new ClassValue<BiFunction<CharSequence, String, ?>>() {
+
+		@Override
+		protected BiFunction<CharSequence, String, ?> computeValue(Class<?> toClz) {
+			DateTarget<?> target = DateTarget.of(toClz);
+			return target == null ? null : target.formatParser(zone);
+		}
+	};
+
+	/** The in-place date-string parser resolved per target class. */
+	private final ClassValue<TextParser<?>> textParsers = new ClassValue<TextParser<?>>() {
+
+		@Override
+		protected TextParser<?> computeValue(Class<?> toClz) {
+			DateTarget<?> target = DateTarget.of(toClz);
+			return target == null ? null : zone.interned(target.textParser(zone));
+		}
+	};
+
+	/**
+	 * Instantiates a new date converter.
+	 *
+	 * @param zone the zone context
+	 */
+	private DateConverter(ZoneContext zone) {
+		this.zone = zone;
+		this.writer = zone == AbstractDateConversions.DEFAULT_ZONE ? MutableDateWriter.DEFAULT
+				: new MutableDateWriter(zone);
+		this.tryConversions = zone == AbstractDateConversions.DEFAULT_ZONE ? TryConversions.DEFAULT
+				: new TryConversions(zone);
+	}
+
+	/**
+	 * Gets the converter of the default zone and locale.
+	 *
+	 * @return the default converter
+	 */
+	public static DateConverter getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * A new builder, of the default zone and locale and the shared formatter cache.
+	 *
+	 * @return the builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * The zone of the converter.
+	 *
+	 * @return the zone id
+	 */
+	public ZoneId getZone() {
+		return zone.zoneId();
+	}
+
+	/**
+	 * The locale of the converter.
+	 *
+	 * @return the locale
+	 */
+	public Locale getLocale() {
+		return zone.locale();
+	}
+
+	/**
+	 * Converts the given date, in the manner of {@link DateConverterFacade#convert(Object, Class)}, in the zone of the
+	 * converter.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @return the t, or null if from is null
+	 */
+	@SuppressWarnings("unchecked")
+	public <F, T> T convert(F from, Class<? extends T> toClz) {
+		if (from == null) {
+			return null;
+		}
+		return (T) conversions(toClz, from.getClass().getName()).convert(from);
+	}
+
+	/**
+	 * Converts all dates of the source list, in the manner of {@link DateConverterFacade#convertAll(List, Class)}, in
+	 * the zone of the converter.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @return the converted dates, in the order of the source list
+	 */
+	@SuppressWarnings("unchecked")
+	public <F, T> List<T> convertAll(List<F> from, Class<? extends T> toClz) {
+		if (from == null) {
+			return null;
+		}
+		ConversionTable<?> conversions = conversions(toClz, "dates");
+		FormatShapeCache.learnBatch(from);
+		return (List<T>) conversions.convertAll(from);
+	}
+
+	/**
+	 * Converts the given date into the given caller-owned java.util.Date or subclass, in the manner of
+	 * {@link DateConverterFacade#convertInto(Object, Date)}, in the zone of the converter.
+	 *
+	 * @param <D> the type of the target
+	 * @param from the from
+	 * @param to the target
+	 * @return the target, or null if from is null or has no date information
+	 */
+	public <D extends Date> D convertInto(Object from, D to) {
+		return writer.into(from, to);
+	}
+
+	/**
+	 * Converts the given date into the given caller-owned Calendar, in the manner of
+	 * {@link DateConverterFacade#convertInto(Object, Calendar)}, in the zone of the converter.
+	 *
+	 * @param <C> the type of the target
+	 * @param from the from
+	 * @param to the target
+	 * @return the target, or null if from is null or has no date information
+	 */
+	public <C extends Calendar> C convertInto(Object from, C to) {
+		return writer.into(from, to);
+	}
+
+	/**
+	 * Converts the given date without throwing, in the manner of
+	 * {@link DateConverterFacade#tryConvert(Object, Class, ConversionResult)}, in the zone of the converter.
+	 *
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @param result the result, overwritten by the conversion
+	 * @return true, if successful, including a null from
+	 */
+	public <T> boolean tryConvert(Object from, Class<? extends T> toClz, ConversionResult<T> result) {
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		TextParser<?> textParser = toClz == null ? null : textParsers.get(toClz);
+		return tryConversions.convert(from, conversions, textParser, result);
+	}
+
+	/**
+	 * Converts the date-string of the given date-format without throwing, in the manner of
+	 * {@link DateConverterFacade#tryConvert(String, Class, String, ConversionResult)}, with the zone and locale of
+	 * the converter.
+	 *
+	 * @param <T> the generic type
+	 * @param strDate the str date
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @param result the result, overwritten by the conversion
+	 * @return true, if successful, including a null strDate
+	 */
+	public <T> boolean tryConvert(String strDate, Class<? extends T> toClz, String format,
+			ConversionResult<T> result) {
+		BiFunction<CharSequence, String, ?> parser = toClz == null ? null : formatParsers.get(toClz);
+		return tryConversions.parse(strDate, format, toClz, parser, result);
+	}
+
+	/**
+	 * Converts the date-string in the given range of characters without throwing, in the manner of
+	 * {@link DateConverterFacade#tryConvert(CharSequence, int, int, Class, ConversionResult)}, in the zone of the
+	 * converter.
+	 *
+	 * @param <T> the generic type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @param result the result, overwritten by the conversion
+	 * @return true, if successful, including a null text
+	 */
+	public <T> boolean tryConvert(CharSequence text, int start, int end, Class<? extends T> toClz,
+			ConversionResult<T> result) {
+		if (text != null) {
+			DateConverterFacade.checkRange(start, end, text.length());
+		}
+		TextParser<?> parser = toClz == null ? null : textParsers.get(toClz);
+		return tryConversions.parse(text, start, end, parser, result);
+	}
+
+	/**
+	 * Resolves the converter from the given source date-type to the given target date-type, in the manner of
+	 * {@link DateConverterFacade#converterFor(Class, Class)}, in the zone of the converter.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param fromClz the from clz
+	 * @param toClz the to clz
+	 * @return the converter
+	 */
+	@SuppressWarnings("unchecked")
+	public <F, T> Converter<F, T> converterFor(Class<F> fromClz, Class<T> toClz) {
+		return (Converter<F, T>) conversions(toClz, String.valueOf(fromClz)).converterFor(fromClz);
+	}
+
+	/**
+	 * Converts the date-string of the given date-format, in the manner of
+	 * {@link DateConverterFacade#convert(String, Class, String)}, with the zone and locale of the converter.
+	 *
+	 * @param <T> the generic type
+	 * @param strDate the str date
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @return the t, or null if strDate is null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T convert(String strDate, Class<? extends T> toClz, String format) {
+		if (strDate == null) {
+			return null;
+		}
+		BiFunction<CharSequence, String, ?> parser = toClz == null ? null : formatParsers.get(toClz);
+		if (parser == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + strDate + " to " + toClz);
+		}
+		return (T) parser.apply(strDate, format);
+	}
+
+	/**
+	 * Converts the date-string in the given range of characters, in the manner of
+	 * {@link DateConverterFacade#convert(CharSequence, int, int, Class)}, in the zone of the converter.
+	 *
+	 * @param <T> the generic type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @return the t, or null if text is null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T convert(CharSequence text, int start, int end, Class<? extends T> toClz) {
+		if (text == null) {
+			return null;
+		}
+		DateConverterFacade.checkRange(start, end, text.length());
+		TextParser<?> parser = toClz == null ? null : textParsers.get(toClz);
+		if (parser == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert date-strings to " + toClz);
+		}
+		return (T) parser.parse(text, start, end);
+	}
+
+	/**
+	 * Formats the given date in ISO-8601, as {@link #format(Object, String)} does without a pattern.
+	 *
+	 * @param date the date
+	 * @return the formatted date, or null if date is null
+	 */
+	public String format(Object date) {
+		return format(date, null);
+	}
+
+	/**
+	 * Formats the given date, in the manner of {@link DateConverterFacade#format(Object, String)}, in the zone and
+	 * with the locale of the converter.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @return the formatted date, or null if date is null
+	 */
+	public String format(Object date, String pattern) {
+		if (date == null) {
+			return null;
+		}
+		return DateFormatter.format(date, pattern, zone, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Appends the given date to the builder, in the manner of {@link #format(Object, String)}.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @param builder the builder
+	 * @return the builder, left as it is if date is null
+	 */
+	public StringBuilder formatTo(Object date, String pattern, StringBuilder builder) {
+		if (date == null) {
+			return builder;
+		}
+		return DateFormatter.format(date, pattern, zone, builder);
+	}
+
+	/**
+	 * Appends the given date to the appendable, in the manner of
+	 * {@link DateConverterFacade#formatTo(Object, String, Appendable)}, in the zone and with the locale of the
+	 * converter.
+	 *
+	 * @param <A> the type of the appendable
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @param appendable the appendable
+	 * @return the appendable, left as it is if date is null
+	 * @throws IOException if the appendable cannot be written
+	 */
+	public <A extends Appendable> A formatTo(Object date, String pattern, A appendable) throws IOException {
+		if (date != null) {
+			DateFormatter.formatTo(date, pattern, zone, appendable);
+		}
+		return appendable;
+	}
+
+	/**
+	 * Resolves the conversion table of the given target class.
+	 *
+	 * @param toClz the to clz
+	 * @param from the description of what is converted, for the error message
+	 * @return the conversion table
+	 */
+	private ConversionTable<?> conversions(Class<?> toClz, String from) {
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		if (conversions == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + from + " to " + toClz);
+		}
+		return conversions;
+	}
+
+	/**
+	 * The builder of a {@link DateConverter}.
+	 */
+	public static final class Builder {
+
+		/** The zone id. */
+		private ZoneId zoneId = AbstractDateConversions.DEFAULT_ZONE_ID;
+
+		/** The locale. */
+		private Locale locale = AbstractDateConversions.DEFAULT_LOCALE;
+
+		/** The size of a formatter cache of the converter's own, or 0 to share the process-wide cache. */
+		private int formatterCacheSize;
+
+		/** The first year of the epoch-day table. */
+		private int firstYear = EpochDayTable.DEFAULT_FIRST_YEAR;
+
+		/** The last year of the epoch-day table, before the first year for no table. */
+		private int lastYear = EpochDayTable.DEFAULT_LAST_YEAR;
+
+		/** The size of an interner of the converter's own, or 0 for none. */
+		private int internerSize;
+
+		/**
+		 * Instantiates a new builder.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the zone instants are converted and zone-less date-strings are read in.
+		 *
+		 * @param zoneId the zone id
+		 * @return the builder
+		 */
+		public Builder zone(ZoneId zoneId) {
+			if (zoneId == null) {
+				throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+						"Date converter error! The zone must not be null");
+			}
+			this.zoneId = zoneId;
+			return this;
+		}
+
+		/**
+		 * Sets the locale date-format patterns are compiled with.
+		 *
+		 * @param locale the locale
+		 * @return the builder
+		 */
+		public Builder locale(Locale locale) {
+			if (locale == null) {
+				throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+						"Date converter error! The locale must not be null");
+			}
+			this.locale = locale;
+			return this;
+		}
+
+		/**
+		 * Sets the size of a formatter cache of the converter's own, so that the patterns of one tenant do not evict
+		 * those of another; 0, the default, shares the process-wide cache of {@link FormatterCache}.
+		 *
+		 * @param formatterCacheSize the formatter cache size
+		 * @return the builder
+		 */
+		public Builder formatterCacheSize(int formatterCacheSize) {
+			if (formatterCacheSize < 0) {
+				throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+						"Date converter error! Invalid formatter cache size " + formatterCacheSize);
+			}
+			this.formatterCacheSize = formatterCacheSize;
+			return this;
+		}
+
+		/**
+		 * Sets the range of years whose dates and start-of-day epoch-millis in the zone are computed once, when the
+		 * converter is built, and looked up thereafter, see {@link EpochDayTable}. By default the range of the
+		 * system properties, if any, is tabulated.
+		 *
+		 * @param firstYear the first year
+		 * @param lastYear the last year, at most {@value EpochDayTable#MAX_YEARS} years after the first
+		 * @return the builder
+		 */
+		public Builder epochDayTable(int firstYear, int lastYear) {
+			EpochDayTable.checkRange(firstYear, lastYear);
+			this.firstYear = firstYear;
+			this.lastYear = lastYear;
+			return this;
+		}
+
+		/**
+		 * Sets the converter to compute dates and start-of-day epoch-millis per conversion, without a table.
+		 *
+		 * @return the builder
+		 */
+		public Builder noEpochDayTable() {
+			this.firstYear = 1;
+			this.lastYear = 0;
+			return this;
+		}
+
+		/**
+		 * Sets the size of a table of canonical converted dates of the converter's own, so that equal dates of the
+		 * immutable date-types share one object, see {@link DateInterner}; 0, the default, interns no dates.
+		 *
+		 * @param internerSize the interner size
+		 * @return the builder
+		 */
+		public Builder internerSize(int internerSize) {
+			DateInterner.checkMaxSize(internerSize);
+			this.internerSize = internerSize;
+			return this;
+		}
+
+		/**
+		 * Builds the converter.
+		 *
+		 * @return the date converter
+		 */
+		public DateConverter build() {
+			if (formatterCacheSize == 0 && zoneId.equals(AbstractDateConversions.DEFAULT_ZONE_ID)
+					&& locale.equals(AbstractDateConversions.DEFAULT_LOCALE)
+					&& firstYear == EpochDayTable.DEFAULT_FIRST_YEAR && lastYear == EpochDayTable.DEFAULT_LAST_YEAR
+					&& internerSize == 0 && DateInterner.DEFAULT == null) {
+				return DEFAULT;
+			}
+			FormatterCache formatters = formatterCacheSize == 0 ? FormatterCache.SHARED
+					: new FormatterCache(formatterCacheSize);
+			return new DateConverter(new ZoneContext(zoneId, locale, formatters, firstYear, lastYear,
+					DateInterner.of(internerSize)));
+		}
+	}
+}
@@ -22,6 +22,9 @@
 */
 package etree.dateconverters;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -30,15 +33,20 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 
@@ -69,6 +77,53 @@ public class DateConverterFacade {
 		dateTypes.add(org.joda.time.LocalTime.class);
 	}
 
+	/** The date-type check resolved per class, including subclasses of the date types. */
+	private static final ClassValue<Boolean> dateTypeResolver = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(Class<?> clz) {
+			if (org.joda.time.DateTime.class.isAssignableFrom(clz)) {
+				return Boolean.TRUE;
+			}
+			for (Class<?> dateType : dateTypes) {
+				if (dateType.isAssignableFrom(clz)) {
+					return Boolean.TRUE;
+				}
+			}
+			return Boolean.FALSE;
+		}
+	};
+
+	/** The conversion table resolved per target class. */
+	private static final ClassValue<ConversionTable<?>> conversionTables = new ClassValue<ConversionTable<?>>() {
+
+		@Override
+		protected ConversionTable<?> computeValue(Class<?> toClz) {
+			DateTarget<?> target = DateTarget.of(toClz);
+			return target == null ? null : target.defaultConversions();
+		}
+	};
+
+	/** The date-string parser with a date-format resolved per target class. */
+	private static final ClassValue<BiFunction<CharSequence, String, ?>> formatParsers = new ClassValue<BiFunction<CharSequence, String, ?>>() {
+
+		@Override
+		protected BiFunction<CharSequence, String, ?> computeValue(Class<?> toClz) {
+			DateTarget<?> target = DateTarget.of(toClz);
+			return target == null ? null : target.formatParser(AbstractDateConversions.DEFAULT_ZONE);
+		}
+	};
+
+	/** The in-place date-string parser resolved per target class. */
+	private static final ClassValue<TextParser<?>> textParsers = new ClassValue<TextParser<?>>() {
+
+		@Override
+		protected TextParser<?> computeValue(Class<?> toClz) {
+			DateTarget<?> target = DateTarget.of(toClz);
+			return target == null ? null : target.defaultTextParser();
+		}
+	};
+
 	/**
 	 * Instantiates a new mutual date types converter facade.
 	 */
@@ -95,7 +150,27 @@ public class DateConverterFacade {
 	 * @return true, if is of any date type
 	 */
 	public static boolean isOfAnyDateType(Class<?> clz) {
-		return dateTypes.contains(clz);
+		return clz != null && dateTypeResolver.get(clz);
+	}
+
+	/**
+	 * Sets the sink receiving the diagnostics of the conversions that return null or ignore part of their input, of
+	 * the facade and of every {@link DateConverter}. The default, {@link DiagnosticsSink#NO_OP}, drops them; a
+	 * {@link LoggingDiagnosticsSink} counts them and logs the counts at most once per interval.
+	 *
+	 * @param sink the sink, or null to drop the diagnostics
+	 */
+	public static void setDiagnosticsSink(DiagnosticsSink sink) {
+		AbstractDateConversions.diagnosticsSink(sink);
+	}
+
+	/**
+	 * Gets the sink receiving the diagnostics of the conversions.
+	 *
+	 * @return the diagnostics sink
+	 */
+	public static DiagnosticsSink getDiagnosticsSink() {
+		return AbstractDateConversions.diagnosticsSink();
 	}
 
 	/**
@@ -107,61 +182,307 @@ public class DateConverterFacade {
 	 * @param toClz the to clz
 	 * @return the t
 	 */
-	@SuppressWarnings("unchecked")
 	public static <F, T> T convert(F from, Class<? extends T> toClz) {
 		if (from == null) {
 			return null;
 		}
-		if (Date.class == toClz) {
-			return (T) ToUtilDate.toUtilDate(from);
-		}
-		if (java.sql.Date.class == toClz) {
-			return (T) ToSqlDate.toSqlDate(from);
-		}
-		if (Time.class == toClz) {
-			return (T) ToSqlTime.toSqlTime(from);
-		}
-		if (Timestamp.class == toClz) {
-			return (T) ToSqlTimestamp.toSqlTimestamp(from);
-		}
-		if (Calendar.class == toClz || GregorianCalendar.class == toClz) {
-			return (T) ToCalendar.toCalendar(from);
-		}
-		if (Instant.class == toClz) {
-			return (T) ToInstant.toInstant(from);
-		}
-		if (LocalDate.class == toClz) {
-			return (T) ToLocalDate.toLocalDate(from);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null) {
+			return metrics.measure(from.getClass(), toClz, ErrorCode.INVALID_DATE, () -> dispatch(from, toClz));
 		}
-		if (LocalTime.class == toClz) {
-			return (T) ToLocalTime.toLocalTime(from);
+		return dispatch(from, toClz);
+	}
+
+	/**
+	 * Dispatches the conversion of the given date to the conversion table of the target type.
+	 *
+	 * @param <T> the generic type
+	 * @param from the from, not null
+	 * @param toClz the to clz
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T dispatch(Object from, Class<? extends T> toClz) {
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		if (conversions == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + from.getClass().getName() + " to " + toClz);
 		}
-		if (LocalDateTime.class == toClz) {
-			return (T) ToLocalDateTime.toLocalDateTime(from);
+		return (T) conversions.convert(from);
+	}
+
+	/**
+	 * Converts the given date into the given caller-owned java.util.Date, Timestamp, java.sql.Date or java.sql.Time,
+	 * by setting its time to that of the date {@link #convert(Object, Class)} would create for the type of the
+	 * target. Reusing one target per column, a batch writer converts its dates without creating objects.
+	 *
+	 * @param <D> the type of the target
+	 * @param from the from
+	 * @param to the target
+	 * @return the target, or null if from is null or has no date information, in which case the target is left as it
+	 *         is
+	 */
+	public static <D extends Date> D convertInto(Object from, D to) {
+		return MutableDateWriter.DEFAULT.into(from, to);
+	}
+
+	/**
+	 * Converts the given date into the given caller-owned Calendar, by setting its time to that of the date
+	 * {@link #convert(Object, Class)} would create. The calendar keeps its own zone and locale.
+	 *
+	 * @param <C> the type of the target
+	 * @param from the from
+	 * @param to the target
+	 * @return the target, or null if from is null or has no date information, in which case the target is left as it
+	 *         is
+	 */
+	public static <C extends Calendar> C convertInto(Object from, C to) {
+		return MutableDateWriter.DEFAULT.into(from, to);
+	}
+
+	/**
+	 * Converts the given date, in the manner of {@link #convert(Object, Class)}, recording the converted date or the
+	 * error code of the failure in the given result instead of throwing. A date lacking the date or time information
+	 * of the target type, which {@link #convert(Object, Class)} converts to null, fails with
+	 * {@link ErrorCode#INCOMPLETE_DATE}. Unsupported types, incomplete dates and date-strings of a class that keeps
+	 * failing to parse fail without creating an exception, so that dirty feeds convert at close to the speed of clean
+	 * ones.
+	 *
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @param result the result, overwritten by the conversion
+	 * @return true, if successful, including a null from
+	 */
+	public static <T> boolean tryConvert(Object from, Class<? extends T> toClz, ConversionResult<T> result) {
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		TextParser<?> textParser = toClz == null ? null : textParsers.get(toClz);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null && from != null) {
+			return metrics.measure(from.getClass(), toClz, result,
+					() -> TryConversions.DEFAULT.convert(from, conversions, textParser, result));
+		}
+		return TryConversions.DEFAULT.convert(from, conversions, textParser, result);
+	}
+
+	/**
+	 * Converts the date-string of the given date-format, in the manner of {@link #convert(String, Class, String)},
+	 * recording the converted date or the error code of the failure in the given result instead of throwing. The
+	 * date-string is matched against the date-format before it is parsed, so a date-string of another format fails
+	 * without creating an exception.
+	 *
+	 * @param <T> the generic type
+	 * @param strDate the str date
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @param result the result, overwritten by the conversion
+	 * @return true, if successful, including a null strDate
+	 */
+	public static <T> boolean tryConvert(String strDate, Class<? extends T> toClz, String format,
+			ConversionResult<T> result) {
+		BiFunction<CharSequence, String, ?> parser = toClz == null ? null : formatParsers.get(toClz);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null && strDate != null) {
+			return metrics.measure(String.class, toClz, result,
+					() -> TryConversions.DEFAULT.parse(strDate, format, toClz, parser, result));
+		}
+		return TryConversions.DEFAULT.parse(strDate, format, toClz, parser, result);
+	}
+
+	/**
+	 * Converts the date-string in the given range of characters, in the manner of
+	 * {@link #convert(CharSequence, int, int, Class)}, recording the converted date or the error code of the failure
+	 * in the given result instead of throwing.
+	 *
+	 * @param <T> the generic type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @param result the result, overwritten by the conversion
+	 * @return true, if successful, including a null text
+	 */
+	public static <T> boolean tryConvert(CharSequence text, int start, int end, Class<? extends T> toClz,
+			ConversionResult<T> result) {
+		if (text != null) {
+			checkRange(start, end, text.length());
+		}
+		TextParser<?> parser = toClz == null ? null : textParsers.get(toClz);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null && text != null) {
+			return metrics.measure(CharSequence.class, toClz, result,
+					() -> TryConversions.DEFAULT.parse(text, start, end, parser, result));
+		}
+		return TryConversions.DEFAULT.parse(text, start, end, parser, result);
+	}
+
+	/**
+	 * Converts all dates of the source array into the same positions of the target array. The conversion is
+	 * resolved once per batch for homogeneous input, instead of once per date, and the format of date-strings
+	 * DateParserUtils would infer one by one is inferred once from the first of them, see
+	 * {@link FormatShapeCache}.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static <F, T> T[] convertAll(F[] from, Class<? extends T> toClz, T[] to) {
+		if (from == null) {
+			return to;
 		}
-		if (ZonedDateTime.class == toClz) {
-			return (T) ToZonedDateTime.toZonedDateTime(from);
+		arrayConversions(from, toClz, to).convertAll(from, to, 0, from.length);
+		return to;
+	}
+
+	/**
+	 * Converts all dates of the source array into the same positions of the target array, in parallel on the
+	 * common fork/join pool. The array is split into ranges sized by the number of dates and workers; small arrays
+	 * are converted serially. The results are the same as those of {@link #convertAll(Object[], Class, Object[])};
+	 * if several dates fail to convert, the failure of any of them may be thrown.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static <F, T> T[] parallelConvertAll(F[] from, Class<? extends T> toClz, T[] to) {
+		if (from == null) {
+			return to;
 		}
-		if (OffsetDateTime.class == toClz) {
-			return (T) ToOffsetDateTime.toOffsetDateTime(from);
+		ParallelConversion.convertAll(arrayConversions(from, toClz, to), from, to, ForkJoinPool.commonPool());
+		return to;
+	}
+
+	/**
+	 * Converts all dates of the source array into the same positions of the target array, in parallel on the
+	 * given executor, in the manner of {@link #parallelConvertAll(Object[], Class, Object[])}. The calling thread
+	 * takes part in the conversion and returns once all ranges are converted.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @param executor the executor
+	 * @return the target array
+	 */
+	public static <F, T> T[] parallelConvertAll(F[] from, Class<? extends T> toClz, T[] to, Executor executor) {
+		if (from == null) {
+			return to;
 		}
-		if (XMLGregorianCalendar.class == toClz) {
-			return (T) ToXMLGregorianCalendar.toXMLGregorianCalendar(from);
+		ParallelConversion.convertAll(arrayConversions(from, toClz, to), from, to, executor);
+		return to;
+	}
+
+	/**
+	 * Converts all dates of the source list in parallel on the common fork/join pool, in the manner of
+	 * {@link #parallelConvertAll(Object[], Class, Object[])}.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @return the converted dates, in the order of the source list, as a fixed-size list
+	 */
+	@SuppressWarnings("unchecked")
+	public static <F, T> List<T> parallelConvertAll(List<F> from, Class<? extends T> toClz) {
+		if (from == null) {
+			return null;
 		}
-		if (org.joda.time.Instant.class == toClz) {
-			return (T) ToJodaInstant.toInstant(from);
+		Object[] dates = from.toArray();
+		return Arrays.asList((T[]) parallelConvertAll(dates, toClz, new Object[dates.length]));
+	}
+
+	/**
+	 * Converts all dates of the source list. The conversion is resolved once per batch for homogeneous input,
+	 * instead of once per date, and the format of date-strings is inferred once per batch, in the manner of
+	 * {@link #convertAll(Object[], Class, Object[])}.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @return the converted dates, in the order of the source list
+	 */
+	@SuppressWarnings("unchecked")
+	public static <F, T> List<T> convertAll(List<F> from, Class<? extends T> toClz) {
+		if (from == null) {
+			return null;
 		}
-		if (org.joda.time.LocalDate.class == toClz) {
-			return (T) ToJodaLocalDate.toLocalDate(from);
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		if (conversions == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert dates to " + toClz);
 		}
-		if (org.joda.time.LocalDateTime.class == toClz) {
-			return (T) ToJodaLocalDateTime.toLocalDateTime(from);
+		FormatShapeCache.learnBatch(from);
+		return (List<T>) conversions.convertAll(from);
+	}
+
+	/**
+	 * Resolves the conversion table of a batch conversion from the given source array into the given target array.
+	 *
+	 * @param from the from
+	 * @param toClz the to clz
+	 * @param to the target array
+	 * @return the conversion table
+	 */
+	private static ConversionTable<?> arrayConversions(Object[] from, Class<?> toClz, Object[] to) {
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		if (conversions == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert "
+					+ from.getClass().getComponentType().getName() + " to " + toClz);
+		}
+		if (to.length < from.length) {
+			throw new DateConverterException(ErrorCode.INVALID_ARGUMENT,
+					"Date conversion error! Target array of length " + to.length
+					+ " cannot hold " + from.length + " dates");
+		}
+		FormatShapeCache.learnBatch(Arrays.asList(from));
+		return conversions;
+	}
+
+	/**
+	 * Resolves the converter from the given source date-type to the given target date-type. The returned handle
+	 * skips the per-call dispatch of {@link #convert(Object, Class)} and is meant to be resolved once and reused.
+	 *
+	 * @param <F> the generic type
+	 * @param <T> the generic type
+	 * @param fromClz the from clz
+	 * @param toClz the to clz
+	 * @return the converter
+	 */
+	@SuppressWarnings("unchecked")
+	public static <F, T> Converter<F, T> converterFor(Class<F> fromClz, Class<T> toClz) {
+		ConversionTable<?> conversions = toClz == null ? null : conversionTables.get(toClz);
+		if (conversions == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + fromClz + " to " + toClz);
 		}
-		if (org.joda.time.LocalTime.class == toClz) {
-			return (T) ToJodaLocalTime.toLocalTime(from);
+		return (Converter<F, T>) conversions.converterFor(fromClz);
+	}
+
+	/**
+	 * Resolves the converter from date-strings of the given date-format to the given target date-type.
+	 *
+	 * @param <T> the generic type
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @return the converter
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Converter<String, T> converterFor(Class<T> toClz, String format) {
+		BiFunction<CharSequence, String, ?> parser = toClz == null ? null : formatParsers.get(toClz);
+		if (parser == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert date-strings to " + toClz);
 		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + from.getClass().getName() + " to " + toClz);
+		return strDate -> (T) parser.apply(strDate, format);
 	}
 
 	/**
@@ -179,54 +500,381 @@ public class DateConverterFacade {
 			return null;
 		}
 		assert dateTypes.contains(toClz) : "Connection is null";
-		if (Date.class == toClz) {
-			return (T) ToUtilDate.toUtilDate(strDate, format);
+		BiFunction<CharSequence, String, ?> parser = toClz == null ? null : formatParsers.get(toClz);
+		if (parser == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + strDate + " to " + toClz);
 		}
-		if (java.sql.Date.class == toClz) {
-			return (T) ToSqlDate.toSqlDate(strDate, format);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null) {
+			return metrics.measure(String.class, toClz, ErrorCode.UNPARSEABLE_DATE,
+					() -> (T) parser.apply(strDate, format));
 		}
-		if (Time.class == toClz) {
-			return (T) ToSqlTime.toSqlTime(strDate, format);
+		return (T) parser.apply(strDate, format);
+	}
+
+	/**
+	 * Converts the date-string in the given range of characters, from start, inclusive, to end, exclusive, in the
+	 * manner of {@link #convert(Object, Class)} for a String. The characters are parsed in place; only date-strings
+	 * that need DateParserUtils to infer their format are copied.
+	 *
+	 * @param <T> the generic type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @return the t, or null if text is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T convert(CharSequence text, int start, int end, Class<? extends T> toClz) {
+		if (text == null) {
+			return null;
 		}
-		if (Timestamp.class == toClz) {
-			return (T) ToSqlTimestamp.toSqlTimestamp(strDate, format);
+		checkRange(start, end, text.length());
+		TextParser<?> parser = toClz == null ? null : textParsers.get(toClz);
+		if (parser == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert date-strings to " + toClz);
 		}
-		if (Calendar.class == toClz) {
-			return (T) ToCalendar.toCalendar(strDate, format);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null) {
+			return metrics.measure(CharSequence.class, toClz, ErrorCode.UNPARSEABLE_DATE,
+					() -> (T) parser.parse(text, start, end));
 		}
-		if (Instant.class == toClz) {
-			return (T) ToInstant.toInstant(strDate);
+		return (T) parser.parse(text, start, end);
+	}
+
+	/**
+	 * Converts the date-string in the given range of the char array, in the manner of
+	 * {@link #convert(CharSequence, int, int, Class)}.
+	 *
+	 * @param <T> the generic type
+	 * @param chars the chars
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @return the t, or null if chars is null
+	 */
+	public static <T> T convert(char[] chars, int start, int end, Class<? extends T> toClz) {
+		if (chars == null) {
+			return null;
 		}
-		if (LocalDate.class == toClz) {
-			return (T) ToLocalDate.toLocalDate(strDate, format);
+		return convert(CharBuffer.wrap(chars), start, end, toClz);
+	}
+
+	/**
+	 * Converts the date-string of the given date-format in the given range of characters, in the manner of
+	 * {@link #convert(String, Class, String)}. The characters are parsed in place, except by the Joda-Time
+	 * formatters, which take Strings only.
+	 *
+	 * @param <T> the generic type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @return the t, or null if text is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T convert(CharSequence text, int start, int end, Class<? extends T> toClz, String format) {
+		if (text == null) {
+			return null;
 		}
-		if (LocalTime.class == toClz) {
-			return (T) ToLocalTime.toLocalTime(strDate, format);
+		checkRange(start, end, text.length());
+		BiFunction<CharSequence, String, ?> parser = toClz == null ? null : formatParsers.get(toClz);
+		if (parser == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert date-strings to " + toClz);
 		}
-		if (LocalDateTime.class == toClz) {
-			return (T) ToLocalDateTime.toLocalDateTime(strDate, format);
+		CharSequence date = start == 0 && end == text.length() ? text : CharBuffer.wrap(text, start, end);
+		ConversionMetrics metrics = ConversionMetrics.active();
+		if (metrics != null) {
+			return metrics.measure(CharSequence.class, toClz, ErrorCode.UNPARSEABLE_DATE,
+					() -> (T) parser.apply(date, format));
 		}
-		if (ZonedDateTime.class == toClz) {
-			return (T) ToZonedDateTime.toZonedDateTime(strDate, format);
+		return (T) parser.apply(date, format);
+	}
+
+	/**
+	 * Converts the date-string of the given date-format in the given range of the char array, in the manner of
+	 * {@link #convert(CharSequence, int, int, Class, String)}.
+	 *
+	 * @param <T> the generic type
+	 * @param chars the chars
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @return the t, or null if chars is null
+	 */
+	public static <T> T convert(char[] chars, int start, int end, Class<? extends T> toClz, String format) {
+		if (chars == null) {
+			return null;
 		}
-		if (OffsetDateTime.class == toClz) {
-			return (T) ToOffsetDateTime.toOffsetDateTime(strDate, format);
+		return convert(CharBuffer.wrap(chars), start, end, toClz, format);
+	}
+
+	/**
+	 * Converts the UTF-8 date-string in the given range of bytes, in the manner of
+	 * {@link #convert(CharSequence, int, int, Class)}. ASCII bytes are parsed in place, ISO-8601 layouts eight
+	 * bytes at a time; only other bytes are decoded into a String.
+	 *
+	 * @param <T> the generic type
+	 * @param bytes the bytes
+	 * @param offset the offset
+	 * @param length the length
+	 * @param toClz the to clz
+	 * @return the t, or null if bytes is null
+	 */
+	public static <T> T convert(byte[] bytes, int offset, int length, Class<? extends T> toClz) {
+		if (bytes == null) {
+			return null;
 		}
-		if (XMLGregorianCalendar.class == toClz) {
-			return (T) ToXMLGregorianCalendar.toXMLGregorianCalendar(strDate, format);
+		checkRange(offset, offset + length, bytes.length);
+		CharSequence text = AsciiBytes.utf8(bytes, offset, length);
+		return convert(text, 0, text.length(), toClz);
+	}
+
+	/**
+	 * Converts the UTF-8 date-string in the given range of a heap or direct buffer, in the manner of
+	 * {@link #convert(byte[], int, int, Class)}. The offset is an absolute index into the buffer; its position
+	 * and limit are left unchanged.
+	 *
+	 * @param <T> the generic type
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @param length the length
+	 * @param toClz the to clz
+	 * @return the t, or null if buffer is null
+	 */
+	public static <T> T convert(ByteBuffer buffer, int offset, int length, Class<? extends T> toClz) {
+		if (buffer == null) {
+			return null;
 		}
-		if (org.joda.time.Instant.class == toClz) {
-			return (T) ToJodaInstant.toInstant(strDate, format);
+		checkRange(offset, offset + length, buffer.limit());
+		CharSequence text = AsciiBytes.utf8(buffer, offset, length);
+		return convert(text, 0, text.length(), toClz);
+	}
+
+	/**
+	 * Converts the UTF-8 date-string of the given date-format in the given range of bytes, in the manner of
+	 * {@link #convert(CharSequence, int, int, Class, String)}.
+	 *
+	 * @param <T> the generic type
+	 * @param bytes the bytes
+	 * @param offset the offset
+	 * @param length the length
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @return the t, or null if bytes is null
+	 */
+	public static <T> T convert(byte[] bytes, int offset, int length, Class<? extends T> toClz, String format) {
+		if (bytes == null) {
+			return null;
 		}
-		if (org.joda.time.LocalDate.class == toClz) {
-			return (T) ToJodaLocalDate.toLocalDate(strDate, format);
+		checkRange(offset, offset + length, bytes.length);
+		CharSequence text = AsciiBytes.utf8(bytes, offset, length);
+		return convert(text, 0, text.length(), toClz, format);
+	}
+
+	/**
+	 * Converts the UTF-8 date-string of the given date-format in the given range of a heap or direct buffer, in the
+	 * manner of {@link #convert(byte[], int, int, Class, String)}.
+	 *
+	 * @param <T> the generic type
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @param length the length
+	 * @param toClz the to clz
+	 * @param format the format
+	 * @return the t, or null if buffer is null
+	 */
+	public static <T> T convert(ByteBuffer buffer, int offset, int length, Class<? extends T> toClz, String format) {
+		if (buffer == null) {
+			return null;
+		}
+		checkRange(offset, offset + length, buffer.limit());
+		CharSequence text = AsciiBytes.utf8(buffer, offset, length);
+		return convert(text, 0, text.length(), toClz, format);
+	}
+
+	/**
+	 * Converts the XML Schema lexical representation of a date/time - of {@code xsd:dateTime}, {@code xsd:date},
+	 * {@code xsd:time} or an {@code xsd:g...} type - in the manner of {@link #convert(Object, Class)} for the
+	 * XMLGregorianCalendar {@link javax.xml.datatype.DatatypeFactory#newXMLGregorianCalendar(String)} gives for it.
+	 * The fields are read straight off the text, and the timezone of the text is kept as the timezone of the
+	 * XMLGregorianCalendar, whereas {@link #convert(Object, Class)} resolves date-strings in the default zone.
+	 *
+	 * @param <T> the generic type
+	 * @param lexicalRepresentation the lexical representation
+	 * @param toClz the to clz
+	 * @return the t, or null if lexicalRepresentation is null
+	 */
+	public static <T> T convertXMLFormat(CharSequence lexicalRepresentation, Class<? extends T> toClz) {
+		if (lexicalRepresentation == null) {
+			return null;
+		}
+		return convertXMLFormat(lexicalRepresentation, 0, lexicalRepresentation.length(), toClz);
+	}
+
+	/**
+	 * Converts the XML Schema lexical representation in the given range of characters, in the manner of
+	 * {@link #convertXMLFormat(CharSequence, Class)}.
+	 *
+	 * @param <T> the generic type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param toClz the to clz
+	 * @return the t, or null if text is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T convertXMLFormat(CharSequence text, int start, int end, Class<? extends T> toClz) {
+		if (text == null) {
+			return null;
+		}
+		checkRange(start, end, text.length());
+		XMLGregorianCalendar date = ToXMLGregorianCalendar.parseXMLFormat(text, start, end);
+		if (XMLGregorianCalendar.class == toClz && date instanceof ImmutableXMLGregorianCalendar) {
+			return (T) ((ImmutableXMLGregorianCalendar) date).toJdk();
+		}
+		return convert(date, toClz);
+	}
+
+	/**
+	 * The XML Schema lexical representation of the given date, as the {@link XMLGregorianCalendar#toXMLFormat()} of
+	 * its conversion to XMLGregorianCalendar gives it.
+	 *
+	 * @param date the date
+	 * @return the lexical representation, or null if date is null or has no date information
+	 */
+	public static String toXMLFormat(Object date) {
+		if (date == null) {
+			return null;
+		}
+		XMLGregorianCalendar calendar = date instanceof XMLGregorianCalendar ? (XMLGregorianCalendar) date
+				: ToXMLGregorianCalendar.IMMUTABLE_CONVERSIONS.convert(date);
+		if (calendar == null) {
+			return null;
+		}
+		return XsdLexical.append(calendar, new StringBuilder(35)).toString();
+	}
+
+	/**
+	 * Formats the given date in ISO-8601, as {@link #format(Object, String)} does without a pattern.
+	 *
+	 * @param date the date
+	 * @return the formatted date, or null if date is null
+	 */
+	public static String format(Object date) {
+		return format(date, null);
+	}
+
+	/**
+	 * Formats the given date with the given pattern. The pattern is read in the pattern language that
+	 * {@link #convert(String, Class, String)} parses date-strings of the date's type with: java.time patterns for the
+	 * java.time types, Joda patterns for the Joda types and SimpleDateFormat patterns for java.util.Date and its
+	 * java.sql subclasses, Calendar and XMLGregorianCalendar. Instants without a zone of their own are formatted in
+	 * the default zone. Without a pattern the date is formatted in ISO-8601: as the ISO formatters of java.time and
+	 * Joda write the date or its java.time counterpart, and as the XML Schema lexical form for XMLGregorianCalendar.
+	 * The formatters are compiled once per pattern and write straight from the fields of the date.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @return the formatted date, or null if date is null
+	 */
+	public static String format(Object date, String pattern) {
+		if (date == null) {
+			return null;
+		}
+		return DateFormatter.format(date, pattern, AbstractDateConversions.DEFAULT_ZONE, new StringBuilder(32))
+				.toString();
+	}
+
+	/**
+	 * Appends the given date, formatted as {@link #format(Object, String)} formats it, to the builder. The date is
+	 * written straight into the builder.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @param builder the builder
+	 * @return the builder, to which nothing is appended if date is null
+	 */
+	public static StringBuilder formatTo(Object date, String pattern, StringBuilder builder) {
+		if (date == null) {
+			return builder;
+		}
+		return DateFormatter.format(date, pattern, AbstractDateConversions.DEFAULT_ZONE, builder);
+	}
+
+	/**
+	 * Appends the given date, formatted as {@link #format(Object, String)} formats it, to the appendable. The
+	 * formatted date is staged in a buffer held per thread, so no objects are created per call.
+	 *
+	 * @param <A> the appendable type
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @param appendable the appendable
+	 * @return the appendable, to which nothing is appended if date is null
+	 * @throws IOException if the appendable cannot be written
+	 */
+	public static <A extends Appendable> A formatTo(Object date, String pattern, A appendable) throws IOException {
+		if (date != null) {
+			DateFormatter.formatTo(date, pattern, AbstractDateConversions.DEFAULT_ZONE, appendable);
 		}
-		if (org.joda.time.LocalDateTime.class == toClz) {
-			return (T) ToJodaLocalDateTime.toLocalDateTime(strDate, format);
+		return appendable;
+	}
+
+	/**
+	 * Writes the given date, formatted as {@link #format(Object, String)} formats it, into the bytes from the given
+	 * offset, encoded in UTF-8. The formatted date is staged in a buffer held per thread, so no objects are created
+	 * per call.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @param bytes the bytes
+	 * @param offset the offset
+	 * @return the number of bytes written, 0 if date is null
+	 * @throws IndexOutOfBoundsException if the bytes from offset have no room for the formatted date, which is then
+	 *             not written
+	 */
+	public static int formatTo(Object date, String pattern, byte[] bytes, int offset) {
+		if (date == null) {
+			return 0;
+		}
+		return DateFormatter.formatTo(date, pattern, AbstractDateConversions.DEFAULT_ZONE, bytes, offset);
+	}
+
+	/**
+	 * Writes the given date into the buffer, in the manner of {@link #formatTo(Object, String, byte[], int)}. The
+	 * offset is an absolute index into the buffer, and the position of the buffer is left as it is, so that the
+	 * caller decides how to advance it.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern, or null for ISO-8601
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @return the number of bytes written, 0 if date is null
+	 * @throws IndexOutOfBoundsException if the buffer from offset up to its limit has no room for the formatted
+	 *             date, which is then not written
+	 */
+	public static int formatTo(Object date, String pattern, ByteBuffer buffer, int offset) {
+		if (date == null) {
+			return 0;
 		}
-		if (org.joda.time.LocalTime.class == toClz) {
-			return (T) ToJodaLocalTime.toLocalTime(strDate, format);
+		return DateFormatter.formatTo(date, pattern, AbstractDateConversions.DEFAULT_ZONE, buffer, offset);
+	}
+
+	/**
+	 * Checks that the range from start to end lies within a text of the given length.
+	 *
+	 * @param start the start
+	 * @param end the end
+	 * @param length the length
+	 */
+	static void checkRange(int start, int end, int length) {
+		if (start < 0 || start > end || end > length) {
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
 		}
-		throw new DateConverterException("", "Date conversion error! Unable to convert " + strDate + " to " + toClz);
 	}
-}
\ No newline at end of file
+}
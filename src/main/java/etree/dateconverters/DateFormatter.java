@@ -0,0 +1,552 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.joda.time.format.ISODateTimeFormat;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class DateFormatter.
+ * 
+ * Formats the dates of the supported types to text, the way back of {@link DateConverterFacade#convert(String,
+ * Class, String)}. A pattern is read in the pattern language that date-strings of the type are parsed with: java.time
+ * patterns for the java.time types, Joda patterns for the Joda types and SimpleDateFormat patterns for
+ * java.util.Date and its java.sql subclasses, Calendar and XMLGregorianCalendar. The compiled patterns are shared with
+ * the parsers through {@link FormatterCache}, and each type is written from its own fields. Local date-times are
+ * written as they are, Calendar and XMLGregorianCalendar in their own zone and the other instants in the zone, and with
+ * the locale, of the given {@link ZoneContext}.
+ * 
+ * Without a pattern, dates are written in ISO-8601: the java.time types as their ISO formatters write them, and
+ * java.util.Date and its subclasses and Calendar as the ISO formatter of their java.time counterpart - an
+ * OffsetDateTime, except for the LocalDate of a java.sql.Date and the LocalTime of a java.sql.Time - writes them.
+ * XMLGregorianCalendar is written in its XML Schema lexical form and the Joda types as their toString() writes them.
+ * 
+ * Output to anything but a StringBuilder is formatted into a StringBuilder and a char array held per thread, so that
+ * writing to an Appendable or to UTF-8 bytes leaves no garbage behind.
+ */
+final class DateFormatter extends AbstractDateConversions {
+
+	/** The epoch second of 0000-01-01T00:00:00Z. */
+	private static final long MIN_ISO_INSTANT_SECOND = -62_167_219_200L;
+
+	/** The epoch second of 9999-12-31T23:59:59Z. */
+	private static final long MAX_ISO_INSTANT_SECOND = 253_402_300_799L;
+
+	/** The Constant MAX_SCRATCH_CAPACITY. */
+	private static final int MAX_SCRATCH_CAPACITY = 1024;
+
+	/** The StringBuilder and char array formatted dates are staged in, per thread. */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+	/**
+	 * The per-thread staging area of the formatted dates.
+	 */
+	private static final class Scratch {
+
+		/** The builder. */
+		private final StringBuilder builder = new StringBuilder(64);
+
+		/** The chars, for writers. */
+		private char[] chars = new char[64];
+	}
+
+	/**
+	 * Prints a date of the source type, with the pattern if there is one, else in ISO-8601.
+	 *
+	 * @param <S> the source type
+	 */
+	@FunctionalInterface
+	private interface Printer<S> {
+
+		/**
+		 * Prints the date.
+		 *
+		 * @param date the date
+		 * @param pattern the pattern, or null for ISO-8601
+		 * @param zone the zone context
+		 * @param builder the builder
+		 * @throws IOException never, from the Appendable signature of the Joda printers
+		 */
+		void print(S date, String pattern, ZoneContext zone, StringBuilder builder) throws IOException;
+	}
+
+	/** The source types in the order of precedence. */
+	private static final List<Class<?>> SOURCE_TYPES = new ArrayList<>();
+
+	/** The printers, index-aligned with the source types. */
+	private static final List<Printer<Object>> PRINTERS = new ArrayList<>();
+
+	static {
+		add(LocalDate.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				appendIsoDate(builder, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+			} else {
+				zone.dateTimeFormatter(pattern).formatTo(date, builder);
+			}
+		});
+		add(LocalTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				appendIsoTime(builder, date.getHour(), date.getMinute(), date.getSecond(), date.getNano());
+			} else {
+				zone.dateTimeFormatter(pattern).formatTo(date, builder);
+			}
+		});
+		add(LocalDateTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				appendIsoDateTime(builder, date);
+			} else {
+				zone.dateTimeFormatter(pattern).formatTo(date, builder);
+			}
+		});
+		add(OffsetDateTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				appendIsoDateTime(builder, date.toLocalDateTime());
+				appendIsoOffset(builder, date.getOffset().getTotalSeconds());
+			} else {
+				zone.dateTimeFormatter(pattern).formatTo(date, builder);
+			}
+		});
+		add(ZonedDateTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				appendIsoDateTime(builder, date.toLocalDateTime());
+				appendIsoOffset(builder, date.getOffset().getTotalSeconds());
+				if (!(date.getZone() instanceof ZoneOffset)) {
+					builder.append('[').append(date.getZone().getId()).append(']');
+				}
+			} else {
+				zone.dateTimeFormatter(pattern).formatTo(date, builder);
+			}
+		});
+		add(Instant.class, (date, pattern, zone, builder) -> {
+			if (pattern != null) {
+				zone.zonedDateTimeFormatter(pattern).formatTo(date, builder);
+				return;
+			}
+			long epochSecond = date.getEpochSecond();
+			if (epochSecond >= MIN_ISO_INSTANT_SECOND && epochSecond <= MAX_ISO_INSTANT_SECOND) {
+				appendIsoInstant(builder, epochSecond, date.getNano());
+			} else {
+				DateTimeFormatter.ISO_INSTANT.formatTo(date, builder);
+			}
+		});
+		add(java.sql.Date.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				long millis = date.getTime();
+				appendIsoDate(builder, Math.floorDiv(millis + zone.offsetMillisAt(millis), MILLIS_PER_DAY));
+			} else {
+				zone.legacyPattern(pattern).format(date.getTime(), zone.timeZone(), builder);
+			}
+		});
+		add(Time.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				long millis = date.getTime();
+				int millisOfDay = (int) Math.floorMod(millis + zone.offsetMillisAt(millis), MILLIS_PER_DAY);
+				appendIsoTime(builder, millisOfDay / 3_600_000, millisOfDay / 60_000 % 60, millisOfDay / 1000 % 60,
+						millisOfDay % 1000 * (int) NANOS_PER_MILLI);
+			} else {
+				zone.legacyPattern(pattern).format(date.getTime(), zone.timeZone(), builder);
+			}
+		});
+		add(Timestamp.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				long millis = date.getTime();
+				appendIsoOffsetDateTime(builder, millis, date.getNanos(), zone.offsetAt(millis).getTotalSeconds());
+			} else {
+				zone.legacyPattern(pattern).format(date.getTime(), zone.timeZone(), builder);
+			}
+		});
+		add(Date.class, (date, pattern, zone, builder) -> {
+			long millis = date.getTime();
+			if (pattern == null) {
+				appendIsoOffsetDateTime(builder, millis, (int) Math.floorMod(millis, 1000L) * (int) NANOS_PER_MILLI,
+						zone.offsetAt(millis).getTotalSeconds());
+			} else {
+				zone.legacyPattern(pattern).format(millis, zone.timeZone(), builder);
+			}
+		});
+		add(Calendar.class, (date, pattern, zone, builder) -> {
+			long millis = date.getTimeInMillis();
+			if (pattern == null) {
+				appendIsoOffsetDateTime(builder, millis, (int) Math.floorMod(millis, 1000L) * (int) NANOS_PER_MILLI,
+						date.getTimeZone().getOffset(millis) / 1000);
+			} else {
+				zone.legacyPattern(pattern).format(millis, date.getTimeZone(), builder);
+			}
+		});
+		add(ImmutableXMLGregorianCalendar.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				XsdLexical.append(date, builder);
+			} else {
+				zone.legacyPattern(pattern).format(date.epochMillis(),
+						date.getTimeZone(DatatypeConstants.FIELD_UNDEFINED), builder);
+			}
+		});
+		add(XMLGregorianCalendar.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				XsdLexical.append(date, builder);
+			} else {
+				GregorianCalendar calendar = date.toGregorianCalendar();
+				zone.legacyPattern(pattern).format(calendar.getTimeInMillis(), calendar.getTimeZone(),
+						builder);
+			}
+		});
+		add(org.joda.time.Instant.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				ISODateTimeFormat.dateTime().printTo(builder, date);
+			} else {
+				zone.zonedJodaFormatter(pattern).printTo(builder, date);
+			}
+		});
+		add(org.joda.time.DateTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				ISODateTimeFormat.dateTime().printTo(builder, date);
+			} else {
+				zone.jodaFormatter(pattern).printTo(builder, date);
+			}
+		});
+		add(org.joda.time.LocalDate.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				ISODateTimeFormat.date().printTo(builder, date);
+			} else {
+				zone.jodaFormatter(pattern).printTo(builder, date);
+			}
+		});
+		add(org.joda.time.LocalTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				ISODateTimeFormat.time().printTo(builder, date);
+			} else {
+				zone.jodaFormatter(pattern).printTo(builder, date);
+			}
+		});
+		add(org.joda.time.LocalDateTime.class, (date, pattern, zone, builder) -> {
+			if (pattern == null) {
+				ISODateTimeFormat.dateTime().printTo(builder, date);
+			} else {
+				zone.jodaFormatter(pattern).printTo(builder, date);
+			}
+		});
+	}
+
+	/** The printers resolved per concrete source class. */
+	private static final ClassValue<Printer<Object>> RESOLVED_PRINTERS = new ClassValue<Printer<Object>>() {
+
+		@Override
+		protected Printer<Object> computeValue(Class<?> type) {
+			for (int idx = 0; idx < SOURCE_TYPES.size(); idx++) {
+				if (SOURCE_TYPES.get(idx).isAssignableFrom(type)) {
+					return PRINTERS.get(idx);
+				}
+			}
+			return (date, pattern, zone, builder) -> {
+				throw new DateConverterException(ErrorCode.UNFORMATTABLE_DATE,
+						"Date formatting error! Unable to format " + date.getClass().getName());
+			};
+		}
+	};
+
+	/**
+	 * Instantiates a new date formatter.
+	 */
+	private DateFormatter() {
+	}
+
+	/**
+	 * Adds the printer for the given source type.
+	 *
+	 * @param <S> the source type
+	 * @param sourceType the source type
+	 * @param printer the printer
+	 */
+	@SuppressWarnings("unchecked")
+	private static <S> void add(Class<S> sourceType, Printer<? super S> printer) {
+		SOURCE_TYPES.add(sourceType);
+		PRINTERS.add((Printer<Object>) printer);
+	}
+
+	/**
+	 * Appends the given non-null date, formatted with the given pattern, or in ISO-8601 if the pattern is null.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern
+	 * @param zone the zone context
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	static StringBuilder format(Object date, String pattern, ZoneContext zone, StringBuilder builder) {
+		try {
+			RESOLVED_PRINTERS.get(date.getClass()).print(date, pattern, zone, builder);
+			return builder;
+		} catch (DateConverterException e) {
+			throw e;
+		} catch (IOException | RuntimeException e) {
+			throw new DateConverterException(ErrorCode.UNFORMATTABLE_DATE,
+					"Date formatting error! Unable to format " + date + (pattern == null ? "" : " with " + pattern), e);
+		}
+	}
+
+	/**
+	 * Appends the given non-null date to the appendable, in the manner of
+	 * {@link #format(Object, String, ZoneContext, StringBuilder)}.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern
+	 * @param zone the zone context
+	 * @param appendable the appendable
+	 * @throws IOException if the appendable cannot be written
+	 */
+	static void formatTo(Object date, String pattern, ZoneContext zone, Appendable appendable) throws IOException {
+		if (appendable instanceof StringBuilder) {
+			format(date, pattern, zone, (StringBuilder) appendable);
+			return;
+		}
+		Scratch scratch = SCRATCH.get();
+		StringBuilder builder = format(date, pattern, zone, reset(scratch));
+		int length = builder.length();
+		if (appendable instanceof StringBuffer) {
+			((StringBuffer) appendable).append(builder);
+		} else if (appendable instanceof Writer) {
+			if (scratch.chars.length < length) {
+				scratch.chars = new char[builder.capacity()];
+			}
+			builder.getChars(0, length, scratch.chars, 0);
+			((Writer) appendable).write(scratch.chars, 0, length);
+		} else {
+			for (int idx = 0; idx < length; idx++) {
+				appendable.append(builder.charAt(idx));
+			}
+		}
+	}
+
+	/**
+	 * Writes the given non-null date encoded in UTF-8 into the bytes, from the given offset, in the manner of
+	 * {@link #format(Object, String, ZoneContext, StringBuilder)}.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern
+	 * @param zone the zone context
+	 * @param bytes the bytes
+	 * @param offset the offset
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException if the bytes have no room for the formatted date, which is then not written
+	 */
+	static int formatTo(Object date, String pattern, ZoneContext zone, byte[] bytes, int offset) {
+		StringBuilder builder = format(date, pattern, zone, reset(SCRATCH.get()));
+		int length = AsciiBytes.utf8Length(builder);
+		DateConverterFacade.checkRange(offset, offset + length, bytes.length);
+		AsciiBytes.putUtf8(builder, bytes, offset);
+		return length;
+	}
+
+	/**
+	 * Writes the given non-null date encoded in UTF-8 into the buffer, from the given absolute offset, in the manner
+	 * of {@link #formatTo(Object, String, ZoneContext, byte[], int)}. The position of the buffer is left as it is.
+	 *
+	 * @param date the date
+	 * @param pattern the pattern
+	 * @param zone the zone context
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException if the buffer has no room for the formatted date up to its limit
+	 */
+	static int formatTo(Object date, String pattern, ZoneContext zone, ByteBuffer buffer, int offset) {
+		StringBuilder builder = format(date, pattern, zone, reset(SCRATCH.get()));
+		int length = AsciiBytes.utf8Length(builder);
+		DateConverterFacade.checkRange(offset, offset + length, buffer.limit());
+		AsciiBytes.putUtf8(builder, length, buffer, offset);
+		return length;
+	}
+
+	/**
+	 * Empties the builder of the scratch, dropping it for a new one if an unusually long date has grown it.
+	 *
+	 * @param scratch the scratch
+	 * @return the builder
+	 */
+	private static StringBuilder reset(Scratch scratch) {
+		if (scratch.builder.capacity() > MAX_SCRATCH_CAPACITY) {
+			Scratch fresh = new Scratch();
+			SCRATCH.set(fresh);
+			return fresh.builder;
+		}
+		scratch.builder.setLength(0);
+		return scratch.builder;
+	}
+
+	/**
+	 * Appends the ISO-8601 date of the given epoch day.
+	 *
+	 * @param builder the builder
+	 * @param epochDay the epoch day
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoDate(StringBuilder builder, long epochDay) {
+		long date = yearMonthDay(epochDay);
+		return appendIsoDate(builder, (int) (date >> 9), (int) (date >> 5) & 15, (int) date & 31);
+	}
+
+	/**
+	 * Appends the ISO-8601 date, as {@link DateTimeFormatter#ISO_LOCAL_DATE} writes it.
+	 *
+	 * @param builder the builder
+	 * @param year the year
+	 * @param month the month
+	 * @param day the day
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoDate(StringBuilder builder, int year, int month, int day) {
+		if (year > 9999) {
+			builder.append('+');
+		} else if (year < 0) {
+			builder.append('-');
+		}
+		XsdLexical.appendNumber(builder, Math.abs((long) year), 4).append('-');
+		return XsdLexical.appendNumber(XsdLexical.appendNumber(builder, month, 2).append('-'), day, 2);
+	}
+
+	/**
+	 * Appends the ISO-8601 time, as {@link DateTimeFormatter#ISO_LOCAL_TIME} writes it: the fraction of second
+	 * without its trailing zeros.
+	 *
+	 * @param builder the builder
+	 * @param hour the hour
+	 * @param minute the minute
+	 * @param second the second
+	 * @param nano the nano of second
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoTime(StringBuilder builder, int hour, int minute, int second, int nano) {
+		XsdLexical.appendNumber(XsdLexical.appendNumber(builder, hour, 2).append(':'), minute, 2).append(':');
+		XsdLexical.appendNumber(builder, second, 2);
+		if (nano != 0) {
+			int digits = 9;
+			while (nano % 10 == 0) {
+				nano /= 10;
+				digits--;
+			}
+			XsdLexical.appendNumber(builder.append('.'), nano, digits);
+		}
+		return builder;
+	}
+
+	/**
+	 * Appends the ISO-8601 date and time of the given local date-time.
+	 *
+	 * @param builder the builder
+	 * @param date the date
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoDateTime(StringBuilder builder, LocalDateTime date) {
+		appendIsoDate(builder, date.getYear(), date.getMonthValue(), date.getDayOfMonth()).append('T');
+		return appendIsoTime(builder, date.getHour(), date.getMinute(), date.getSecond(), date.getNano());
+	}
+
+	/**
+	 * Appends the ISO-8601 date, time and offset of the given epoch-millis at the given offset, as
+	 * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} writes it.
+	 *
+	 * @param builder the builder
+	 * @param millis the epoch millis
+	 * @param nano the nano of second
+	 * @param offsetSeconds the offset seconds
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoOffsetDateTime(StringBuilder builder, long millis, int nano,
+			int offsetSeconds) {
+		long localSecond = Math.floorDiv(millis, 1000L) + offsetSeconds;
+		int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+		appendIsoDate(builder, Math.floorDiv(localSecond, SECONDS_PER_DAY)).append('T');
+		appendIsoTime(builder, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nano);
+		return appendIsoOffset(builder, offsetSeconds);
+	}
+
+	/**
+	 * Appends the ISO-8601 offset, as {@link java.time.format.DateTimeFormatterBuilder#appendOffsetId()} writes it.
+	 *
+	 * @param builder the builder
+	 * @param offsetSeconds the offset seconds
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoOffset(StringBuilder builder, int offsetSeconds) {
+		if (offsetSeconds == 0) {
+			return builder.append('Z');
+		}
+		int offset = Math.abs(offsetSeconds);
+		builder.append(offsetSeconds < 0 ? '-' : '+');
+		XsdLexical.appendNumber(XsdLexical.appendNumber(builder, offset / 3600, 2).append(':'), offset / 60 % 60, 2);
+		if (offset % 60 != 0) {
+			XsdLexical.appendNumber(builder.append(':'), offset % 60, 2);
+		}
+		return builder;
+	}
+
+	/**
+	 * Appends the instant of the given epoch second and nano of a year from 0 to 9999, as
+	 * {@link DateTimeFormatter#ISO_INSTANT} writes it: the fraction of second in groups of three digits.
+	 *
+	 * @param builder the builder
+	 * @param epochSecond the epoch second
+	 * @param nano the nano of second
+	 * @return the builder
+	 */
+	private static StringBuilder appendIsoInstant(StringBuilder builder, long epochSecond, int nano) {
+		int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+		appendIsoDate(builder, Math.floorDiv(epochSecond, SECONDS_PER_DAY)).append('T');
+		appendIsoTime(builder, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, 0);
+		if (nano != 0) {
+			if (nano % NANOS_PER_MILLI == 0) {
+				XsdLexical.appendNumber(builder.append('.'), nano / NANOS_PER_MILLI, 3);
+			} else if (nano % 1000 == 0) {
+				XsdLexical.appendNumber(builder.append('.'), nano / 1000, 6);
+			} else {
+				XsdLexical.appendNumber(builder.append('.'), nano, 9);
+			}
+		}
+		return builder.append('Z');
+	}
+}
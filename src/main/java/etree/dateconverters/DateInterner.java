@@ -0,0 +1,296 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class DateInterner.
+ * 
+ * A bounded table of canonical instances of the immutable date-types - the java.time LocalDate, LocalTime,
+ * LocalDateTime, Instant, OffsetDateTime and ZonedDateTime and the Joda LocalDate, LocalTime, LocalDateTime, Instant
+ * and DateTime - so that equal converted dates share one object. The table is split into {@value #STRIPES} stripes by
+ * hash, each locked on its own and evicting its least recently used date once full. Dates of other types, which are
+ * mutable or whose equality is looser than their fields, are returned as they are.
+ * 
+ * Interning is opt-in: the conversions of the default zone intern into a table of the size of the system property
+ * {@value #MAX_SIZE_PROPERTY}, if set, and a {@link DateConverter} into a table of its own sized by its builder. The
+ * static methods report on the table of the default zone.
+ */
+public final class DateInterner {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(DateInterner.class);
+
+	/** The Constant MAX_SIZE_PROPERTY. */
+	public static final String MAX_SIZE_PROPERTY = "etree.dateconverters.interner.maxSize";
+
+	/** The Constant STRIPES, a power of two. */
+	static final int STRIPES = 16;
+
+	/** The table of the default zone, or null if the default zone does not intern. */
+	static final DateInterner DEFAULT = of(defaultMaxSize());
+
+	/** Whether the dates of a class are interned. */
+	private static final ClassValue<Boolean> INTERNABLE = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return type == LocalDate.class || type == LocalTime.class || type == LocalDateTime.class
+					|| type == Instant.class || type == OffsetDateTime.class || type == ZonedDateTime.class
+					|| type == org.joda.time.LocalDate.class || type == org.joda.time.LocalTime.class
+					|| type == org.joda.time.LocalDateTime.class || type == org.joda.time.Instant.class
+					|| type == org.joda.time.DateTime.class;
+		}
+	};
+
+	/** The stripes. */
+	private final Stripe[] stripes = new Stripe[STRIPES];
+
+	/**
+	 * A stripe of the table, in least recently used order, guarded by its own lock.
+	 */
+	private static final class Stripe extends LinkedHashMap<Object, Object> {
+
+		/** The Constant serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** The maximum number of dates of the stripe. */
+		private final int maxSize;
+
+		/** The hits. */
+		private long hits;
+
+		/** The misses. */
+		private long misses;
+
+		/** The evictions. */
+		private long evictions;
+
+		/**
+		 * Instantiates a new stripe.
+		 *
+		 * @param maxSize the maximum number of dates
+		 */
+		private Stripe(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+			if (size() > maxSize) {
+				evictions++;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Instantiates a new date interner.
+	 *
+	 * @param maxSize the maximum number of dates, spread over the stripes
+	 */
+	private DateInterner(int maxSize) {
+		int stripeSize = Math.max(1, (maxSize + STRIPES - 1) / STRIPES);
+		for (int idx = 0; idx < STRIPES; idx++) {
+			stripes[idx] = new Stripe(stripeSize);
+		}
+	}
+
+	/**
+	 * The interner of the given size.
+	 *
+	 * @param maxSize the maximum number of dates, or 0 for none
+	 * @return the date interner, or null if maxSize is 0
+	 */
+	static DateInterner of(int maxSize) {
+		checkMaxSize(maxSize);
+		return maxSize == 0 ? null : new DateInterner(maxSize);
+	}
+
+	/**
+	 * Checks the given size.
+	 *
+	 * @param maxSize the max size
+	 * @throws DateConverterException if the size is negative
+	 */
+	static void checkMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+					"Date converter error! Invalid interner size " + maxSize);
+		}
+	}
+
+	/**
+	 * The size of the table of the default zone, from the system properties.
+	 *
+	 * @return the max size
+	 */
+	private static int defaultMaxSize() {
+		int maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, 0);
+		if (maxSize < 0) {
+			LOGGER.warn("Ignoring negative {} {}.", MAX_SIZE_PROPERTY, maxSize);
+			return 0;
+		}
+		return maxSize;
+	}
+
+	/**
+	 * The canonical instance of the given date: the equal date interned before, else the date itself, which is
+	 * interned. Dates of types that are not interned are returned as they are.
+	 *
+	 * @param <T> the generic type
+	 * @param date the date, possibly null
+	 * @return the canonical date
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T intern(T date) {
+		if (date == null || !INTERNABLE.get(date.getClass())) {
+			return date;
+		}
+		int hash = date.hashCode();
+		Stripe stripe = stripes[(hash ^ hash >>> 16) & STRIPES - 1];
+		synchronized (stripe) {
+			Object canonical = stripe.get(date);
+			if (canonical != null) {
+				stripe.hits++;
+				return (T) canonical;
+			}
+			stripe.misses++;
+			stripe.put(date, date);
+			return date;
+		}
+	}
+
+	/**
+	 * The number of dates served from the table of the default zone.
+	 *
+	 * @return the hit count
+	 */
+	public static long hitCount() {
+		return DEFAULT == null ? 0 : DEFAULT.hits();
+	}
+
+	/**
+	 * The number of dates interned into the table of the default zone.
+	 *
+	 * @return the miss count
+	 */
+	public static long missCount() {
+		return DEFAULT == null ? 0 : DEFAULT.misses();
+	}
+
+	/**
+	 * The number of dates evicted to keep the table of the default zone within its size.
+	 *
+	 * @return the eviction count
+	 */
+	public static long evictionCount() {
+		return DEFAULT == null ? 0 : DEFAULT.evictions();
+	}
+
+	/**
+	 * The number of dates in the table of the default zone.
+	 *
+	 * @return the size
+	 */
+	public static int size() {
+		return DEFAULT == null ? 0 : DEFAULT.count();
+	}
+
+	/**
+	 * The number of dates served from the table.
+	 *
+	 * @return the hits
+	 */
+	long hits() {
+		long hits = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				hits += stripe.hits;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * The number of dates interned into the table.
+	 *
+	 * @return the misses
+	 */
+	long misses() {
+		long misses = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				misses += stripe.misses;
+			}
+		}
+		return misses;
+	}
+
+	/**
+	 * The number of dates evicted from the table.
+	 *
+	 * @return the evictions
+	 */
+	long evictions() {
+		long evictions = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				evictions += stripe.evictions;
+			}
+		}
+		return evictions;
+	}
+
+	/**
+	 * The number of dates in the table.
+	 *
+	 * @return the count
+	 */
+	int count() {
+		int count = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				count += stripe.size();
+			}
+		}
+		return count;
+	}
+}
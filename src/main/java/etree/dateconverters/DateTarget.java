@@ -0,0 +1,281 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+
+/**
+ * The Class DateTarget.
+ * 
+ * The registry of the target date-types: per target class, the factories of its conversion table, in-place text
+ * parser and date-format parser bound to a zone context, the tables and parsers of the default zone, and the check of
+ * date-strings against its date-formats. {@link DateConverterFacade}, each {@link DateConverter} and
+ * {@link TryConversions} resolve their per-class lookups from it, so a target type is added in this one place.
+ *
+ * @param <T> the target type
+ */
+final class DateTarget<T> {
+
+	/** The check of date-strings against SimpleDateFormat patterns. */
+	private static final Function<ZoneContext, BiPredicate<CharSequence, String>> LEGACY_FORMAT =
+			zone -> zone::matchesLegacyPattern;
+
+	/** The check of date-strings against java.time patterns. */
+	private static final Function<ZoneContext, BiPredicate<CharSequence, String>> JAVA_TIME_FORMAT =
+			zone -> zone::matchesDateTimeFormat;
+
+	/** The check of date-strings against Joda-Time patterns. */
+	private static final Function<ZoneContext, BiPredicate<CharSequence, String>> JODA_FORMAT =
+			zone -> zone::matchesJodaFormat;
+
+	/** The targets by class, in the order of registration. */
+	private static final Map<Class<?>, DateTarget<?>> TARGETS = new LinkedHashMap<>();
+
+	static {
+		register(new DateTarget<>(Date.class, () -> ToUtilDate.CONVERSIONS, ToUtilDate::conversions,
+				() -> ToUtilDate.TEXT_PARSER, ToUtilDate::textParser, ToUtilDate::toUtilDate, LEGACY_FORMAT));
+		register(new DateTarget<>(java.sql.Date.class, () -> ToSqlDate.CONVERSIONS, ToSqlDate::conversions,
+				() -> ToSqlDate.TEXT_PARSER, ToSqlDate::textParser, ToSqlDate::toSqlDate, LEGACY_FORMAT));
+		register(new DateTarget<>(Time.class, () -> ToSqlTime.CONVERSIONS, ToSqlTime::conversions,
+				() -> ToSqlTime.TEXT_PARSER, ToSqlTime::textParser, ToSqlTime::toSqlTime, LEGACY_FORMAT));
+		register(new DateTarget<>(Timestamp.class, () -> ToSqlTimestamp.CONVERSIONS, ToSqlTimestamp::conversions,
+				() -> ToSqlTimestamp.TEXT_PARSER, ToSqlTimestamp::textParser, ToSqlTimestamp::toSqlTimestamp,
+				LEGACY_FORMAT));
+		register(new DateTarget<>(Calendar.class, () -> ToCalendar.CONVERSIONS, ToCalendar::conversions,
+				() -> ToCalendar.TEXT_PARSER, ToCalendar::textParser, ToCalendar::toCalendar, LEGACY_FORMAT),
+				GregorianCalendar.class);
+		register(new DateTarget<>(XMLGregorianCalendar.class, () -> ToXMLGregorianCalendar.CONVERSIONS,
+				ToXMLGregorianCalendar::conversions, () -> ToXMLGregorianCalendar.TEXT_PARSER,
+				zone -> ToXMLGregorianCalendar.textParser(zone, ToXMLGregorianCalendar.JDK_FIELDS),
+				ToXMLGregorianCalendar::toXMLGregorianCalendar, LEGACY_FORMAT));
+		register(new DateTarget<>(ImmutableXMLGregorianCalendar.class,
+				() -> ToXMLGregorianCalendar.IMMUTABLE_CONVERSIONS, ToXMLGregorianCalendar::immutableConversions,
+				() -> ToXMLGregorianCalendar.IMMUTABLE_TEXT_PARSER,
+				zone -> ToXMLGregorianCalendar.textParser(zone, ToXMLGregorianCalendar.IMMUTABLE_FIELDS),
+				ToXMLGregorianCalendar::toImmutableXMLGregorianCalendar, LEGACY_FORMAT));
+		register(new DateTarget<>(Instant.class, () -> ToInstant.CONVERSIONS, ToInstant::conversions,
+				() -> ToInstant.TEXT_PARSER, ToInstant::textParser, (date, format, zone) -> ToInstant.toInstant(date),
+				zone -> (text, format) -> ZoneContext.matches(DateTimeFormatter.ISO_INSTANT, text)));
+		register(new DateTarget<>(LocalDate.class, () -> ToLocalDate.CONVERSIONS, ToLocalDate::conversions,
+				() -> ToLocalDate.TEXT_PARSER, ToLocalDate::textParser, ToLocalDate::toLocalDate, JAVA_TIME_FORMAT));
+		register(new DateTarget<>(LocalTime.class, () -> ToLocalTime.CONVERSIONS, ToLocalTime::conversions,
+				() -> ToLocalTime.TEXT_PARSER, ToLocalTime::textParser, ToLocalTime::toLocalTime, JAVA_TIME_FORMAT));
+		register(new DateTarget<>(LocalDateTime.class, () -> ToLocalDateTime.CONVERSIONS, ToLocalDateTime::conversions,
+				() -> ToLocalDateTime.TEXT_PARSER, ToLocalDateTime::textParser, ToLocalDateTime::toLocalDateTime,
+				JAVA_TIME_FORMAT));
+		register(new DateTarget<>(ZonedDateTime.class, () -> ToZonedDateTime.CONVERSIONS, ToZonedDateTime::conversions,
+				() -> ToZonedDateTime.TEXT_PARSER, ToZonedDateTime::textParser, ToZonedDateTime::toZonedDateTime,
+				JAVA_TIME_FORMAT));
+		register(new DateTarget<>(OffsetDateTime.class, () -> ToOffsetDateTime.CONVERSIONS,
+				ToOffsetDateTime::conversions, () -> ToOffsetDateTime.TEXT_PARSER, ToOffsetDateTime::textParser,
+				ToOffsetDateTime::toOffsetDateTime, JAVA_TIME_FORMAT));
+		register(new DateTarget<>(org.joda.time.Instant.class, () -> ToJodaInstant.CONVERSIONS,
+				ToJodaInstant::conversions, () -> ToJodaInstant.TEXT_PARSER, ToJodaInstant::textParser,
+				ToJodaInstant::toInstant, JODA_FORMAT));
+		register(new DateTarget<>(org.joda.time.LocalDate.class, () -> ToJodaLocalDate.CONVERSIONS,
+				ToJodaLocalDate::conversions, () -> ToJodaLocalDate.TEXT_PARSER, ToJodaLocalDate::textParser,
+				ToJodaLocalDate::toLocalDate, JODA_FORMAT));
+		register(new DateTarget<>(org.joda.time.LocalDateTime.class, () -> ToJodaLocalDateTime.CONVERSIONS,
+				ToJodaLocalDateTime::conversions, () -> ToJodaLocalDateTime.TEXT_PARSER,
+				ToJodaLocalDateTime::textParser, ToJodaLocalDateTime::toLocalDateTime, JODA_FORMAT));
+		register(new DateTarget<>(org.joda.time.LocalTime.class, () -> ToJodaLocalTime.CONVERSIONS,
+				ToJodaLocalTime::conversions, () -> ToJodaLocalTime.TEXT_PARSER, ToJodaLocalTime::textParser,
+				ToJodaLocalTime::toLocalTime, JODA_FORMAT));
+	}
+
+	/**
+	 * The parser of date-strings of a date-format in a zone context.
+	 *
+	 * @param <T> the target type
+	 */
+	@FunctionalInterface
+	interface FormatParser<T> {
+
+		/**
+		 * Parses the date-string.
+		 *
+		 * @param date the date
+		 * @param format the format
+		 * @param zone the zone context
+		 * @return the parsed date
+		 */
+		T parse(CharSequence date, String format, ZoneContext zone);
+	}
+
+	/** The target type. */
+	private final Class<T> type;
+
+	/** The conversion table of the default zone. */
+	private final Supplier<ConversionTable<T>> defaultConversions;
+
+	/** The factory of conversion tables. */
+	private final Function<ZoneContext, ConversionTable<T>> conversions;
+
+	/** The text parser of the default zone. */
+	private final Supplier<TextParser<T>> defaultTextParser;
+
+	/** The factory of text parsers. */
+	private final Function<ZoneContext, TextParser<T>> textParser;
+
+	/** The date-format parser. */
+	private final FormatParser<T> formatParser;
+
+	/** The factory of the checks of date-strings against date-formats. */
+	private final Function<ZoneContext, BiPredicate<CharSequence, String>> formatMatcher;
+
+	/**
+	 * Instantiates a new date target.
+	 *
+	 * @param type the target type
+	 * @param defaultConversions the conversion table of the default zone
+	 * @param conversions the factory of conversion tables
+	 * @param defaultTextParser the text parser of the default zone
+	 * @param textParser the factory of text parsers
+	 * @param formatParser the date-format parser
+	 * @param formatMatcher the factory of the checks of date-strings against date-formats
+	 */
+	private DateTarget(Class<T> type, Supplier<ConversionTable<T>> defaultConversions,
+			Function<ZoneContext, ConversionTable<T>> conversions, Supplier<TextParser<T>> defaultTextParser,
+			Function<ZoneContext, TextParser<T>> textParser, FormatParser<T> formatParser,
+			Function<ZoneContext, BiPredicate<CharSequence, String>> formatMatcher) {
+		this.type = type;
+		this.defaultConversions = defaultConversions;
+		this.conversions = conversions;
+		this.defaultTextParser = defaultTextParser;
+		this.textParser = textParser;
+		this.formatParser = formatParser;
+		this.formatMatcher = formatMatcher;
+	}
+
+	/**
+	 * Registers the given target under its type and the given aliases.
+	 *
+	 * @param target the target
+	 * @param aliases the aliases
+	 */
+	private static void register(DateTarget<?> target, Class<?>... aliases) {
+		TARGETS.put(target.type, target);
+		for (Class<?> alias : aliases) {
+			TARGETS.put(alias, target);
+		}
+	}
+
+	/**
+	 * The target of the given class.
+	 *
+	 * @param toClz the target class
+	 * @return the target, or null if the class is not a target date-type
+	 */
+	static DateTarget<?> of(Class<?> toClz) {
+		return TARGETS.get(toClz);
+	}
+
+	/**
+	 * The target classes, aliases included.
+	 *
+	 * @return the target classes
+	 */
+	static Set<Class<?>> types() {
+		return Collections.unmodifiableSet(TARGETS.keySet());
+	}
+
+	/**
+	 * The shared conversion table of the default zone.
+	 *
+	 * @return the conversion table
+	 */
+	ConversionTable<T> defaultConversions() {
+		return defaultConversions.get();
+	}
+
+	/**
+	 * The conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	ConversionTable<T> conversions(ZoneContext zone) {
+		return conversions.apply(zone);
+	}
+
+	/**
+	 * The shared in-place text parser of the default zone.
+	 *
+	 * @return the text parser
+	 */
+	TextParser<T> defaultTextParser() {
+		return defaultTextParser.get();
+	}
+
+	/**
+	 * The in-place text parser bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	TextParser<T> textParser(ZoneContext zone) {
+		return textParser.apply(zone);
+	}
+
+	/**
+	 * The date-format parser bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the format parser
+	 */
+	BiFunction<CharSequence, String, T> formatParser(ZoneContext zone) {
+		return (date, format) -> formatParser.parse(date, format, zone);
+	}
+
+	/**
+	 * The check of date-strings against date-formats bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the format matcher
+	 */
+	BiPredicate<CharSequence, String> formatMatcher(ZoneContext zone) {
+		return formatMatcher.apply(zone);
+	}
+}
@@ -0,0 +1,49 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+
+/**
+ * The Interface DiagnosticsSink.
+ * 
+ * Receives the {@link ConversionDiagnostic}s of the conversions, once per converted value, on the converting thread.
+ * A sink is installed with {@link DateConverterFacade#setDiagnosticsSink(DiagnosticsSink)}; the default,
+ * {@link #NO_OP}, drops them. A sink is called on the hot path of the conversions and must be thread-safe and cheap,
+ * like {@link LoggingDiagnosticsSink}, which counts them and logs the counts at most once per interval.
+ */
+@FunctionalInterface
+public interface DiagnosticsSink {
+
+	/** The sink dropping all diagnostics. */
+	DiagnosticsSink NO_OP = (source, target, diagnostic) -> {
+	};
+
+	/**
+	 * Reports a diagnostic of the conversion of a date of the source class to the target class.
+	 *
+	 * @param source the source class
+	 * @param target the target class
+	 * @param diagnostic the diagnostic
+	 */
+	void report(Class<?> source, Class<?> target, ConversionDiagnostic diagnostic);
+}
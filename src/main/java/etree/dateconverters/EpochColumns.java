@@ -0,0 +1,482 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.joda.time.ReadableInstant;
+import org.joda.time.chrono.ISOChronology;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class EpochColumns.
+ * 
+ * Column kernels converting arrays of epoch-millis, epoch-seconds, epoch-days and seconds-of-day to and from the
+ * supported date-types. Values are converted straight from the primitives, without an intermediate Date or Instant,
+ * and with the same results as the corresponding {@link DateConverterFacade} conversions in the default zone.
+ */
+public final class EpochColumns extends AbstractDateConversions {
+
+	/** The Constant EPOCH_MILLIS. */
+	private static final PrimitiveConversionTable EPOCH_MILLIS = new PrimitiveConversionTable("epoch-millis")
+			.add(Date.class, Date::getTime)
+			.add(Calendar.class, Calendar::getTimeInMillis)
+			.add(ImmutableXMLGregorianCalendar.class, ImmutableXMLGregorianCalendar::epochMillis)
+			.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().getTimeInMillis())
+			.add(Instant.class, Instant::toEpochMilli)
+			.add(LocalDate.class, date -> DEFAULT_ZONE.startOfDayMillis(date.toEpochDay()))
+			.add(LocalTime.class, date -> noDateInformation("epoch-millis"))
+			.add(LocalDateTime.class, DEFAULT_ZONE::epochMillis)
+			.add(ZonedDateTime.class, date -> epochMillis(date.toEpochSecond(), date.getNano()))
+			.add(OffsetDateTime.class, date -> epochMillis(date.toEpochSecond(), date.getNano()))
+			.add(ReadableInstant.class, ReadableInstant::getMillis)
+			.add(org.joda.time.LocalDate.class, date -> DEFAULT_ZONE.startOfDayMillis(date))
+			.add(org.joda.time.LocalTime.class, date -> noDateInformation("epoch-millis"))
+			.add(org.joda.time.LocalDateTime.class, DEFAULT_ZONE::epochMillis);
+
+	/** The Constant EPOCH_DAYS. */
+	private static final PrimitiveConversionTable EPOCH_DAYS = new PrimitiveConversionTable("epoch-days")
+			.add(Calendar.class, calendar -> {
+				TimeZone timeZone = calendar.getTimeZone();
+				long millis = calendar.getTimeInMillis();
+				return Math.floorDiv(millis + timeZone.getOffset(millis), MILLIS_PER_DAY);
+			})
+			.add(ImmutableXMLGregorianCalendar.class, date -> date.localDate().toEpochDay())
+			.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toZonedDateTime().toLocalDate()
+					.toEpochDay())
+			.add(LocalDate.class, LocalDate::toEpochDay)
+			.add(LocalTime.class, date -> noDateInformation("epoch-days"))
+			.add(LocalDateTime.class, date -> date.toLocalDate().toEpochDay())
+			.add(ZonedDateTime.class, date -> date.toLocalDate().toEpochDay())
+			.add(OffsetDateTime.class, date -> date.toLocalDate().toEpochDay())
+			.add(org.joda.time.LocalDate.class, date -> epochDay(date.getYear(), date.getMonthOfYear(),
+					date.getDayOfMonth()))
+			.add(org.joda.time.LocalTime.class, date -> noDateInformation("epoch-days"))
+			.add(org.joda.time.LocalDateTime.class, date -> epochDay(date.getYear(), date.getMonthOfYear(),
+					date.getDayOfMonth()))
+			.add(Object.class, date -> {
+				long millis = EPOCH_MILLIS.convert(date);
+				return Math.floorDiv(millis + DEFAULT_ZONE.offsetMillisAt(millis), MILLIS_PER_DAY);
+			});
+
+	/** The Constant SECONDS_OF_DAY. */
+	private static final PrimitiveConversionTable SECONDS_OF_DAY = new PrimitiveConversionTable("seconds-of-day")
+			.add(java.sql.Date.class, date -> noTimeInformation())
+			.add(Calendar.class, calendar -> {
+				TimeZone timeZone = calendar.getTimeZone();
+				long millis = calendar.getTimeInMillis();
+				return Math.floorMod(millis + timeZone.getOffset(millis), MILLIS_PER_DAY) / 1000L;
+			})
+			.add(ImmutableXMLGregorianCalendar.class, date -> date.localDateTime().toLocalTime().toSecondOfDay())
+			.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toZonedDateTime().toLocalTime()
+					.toSecondOfDay())
+			.add(LocalDate.class, date -> noTimeInformation())
+			.add(LocalTime.class, LocalTime::toSecondOfDay)
+			.add(LocalDateTime.class, date -> date.toLocalTime().toSecondOfDay())
+			.add(ZonedDateTime.class, date -> date.toLocalTime().toSecondOfDay())
+			.add(OffsetDateTime.class, date -> date.toLocalTime().toSecondOfDay())
+			.add(org.joda.time.LocalDate.class, date -> noTimeInformation())
+			.add(org.joda.time.LocalTime.class, date -> date.getMillisOfDay() / 1000)
+			.add(org.joda.time.LocalDateTime.class, date -> date.getMillisOfDay() / 1000)
+			.add(Object.class, date -> {
+				long millis = EPOCH_MILLIS.convert(date);
+				return Math.floorMod(millis + DEFAULT_ZONE.offsetMillisAt(millis), MILLIS_PER_DAY) / 1000L;
+			});
+
+	/** The epoch-millis kernels resolved per target class. */
+	private static final ClassValue<LongFunction<?>> fromEpochMillis = new ClassValue<LongFunction<?>>() {
+
+		@Override
+		protected LongFunction<?> computeValue(Class<?> toClz) {
+			if (Date.class == toClz) {
+				return Date::new;
+			}
+			if (java.sql.Date.class == toClz) {
+				return java.sql.Date::new;
+			}
+			if (Time.class == toClz) {
+				return Time::new;
+			}
+			if (Timestamp.class == toClz) {
+				return Timestamp::new;
+			}
+			if (Instant.class == toClz) {
+				return Instant::ofEpochMilli;
+			}
+			if (LocalDate.class == toClz) {
+				return millis -> DEFAULT_ZONE.localDate(DEFAULT_ZONE.epochDayAt(millis));
+			}
+			if (LocalTime.class == toClz) {
+				return millis -> LocalTime.ofNanoOfDay(
+						Math.floorMod(millis + DEFAULT_ZONE.offsetMillisAt(millis), MILLIS_PER_DAY) * NANOS_PER_MILLI);
+			}
+			if (LocalDateTime.class == toClz) {
+				return millis -> localDateTime(millis, DEFAULT_ZONE.offsetAt(millis));
+			}
+			if (ZonedDateTime.class == toClz) {
+				return millis -> {
+					ZoneOffset offset = DEFAULT_ZONE.offsetAt(millis);
+					return ZonedDateTime.ofInstant(localDateTime(millis, offset), offset, DEFAULT_ZONE_ID);
+				};
+			}
+			if (OffsetDateTime.class == toClz) {
+				return millis -> {
+					ZoneOffset offset = DEFAULT_ZONE.offsetAt(millis);
+					return OffsetDateTime.of(localDateTime(millis, offset), offset);
+				};
+			}
+			if (org.joda.time.Instant.class == toClz) {
+				return org.joda.time.Instant::new;
+			}
+			if (org.joda.time.LocalDate.class == toClz) {
+				return org.joda.time.LocalDate::new;
+			}
+			if (org.joda.time.LocalDateTime.class == toClz) {
+				return org.joda.time.LocalDateTime::new;
+			}
+			if (org.joda.time.LocalTime.class == toClz) {
+				return org.joda.time.LocalTime::new;
+			}
+			return null;
+		}
+	};
+
+	/** The epoch-days kernels resolved per target class. */
+	private static final ClassValue<LongFunction<?>> fromEpochDays = new ClassValue<LongFunction<?>>() {
+
+		@Override
+		protected LongFunction<?> computeValue(Class<?> toClz) {
+			if (LocalDate.class == toClz) {
+				return DEFAULT_ZONE::localDate;
+			}
+			if (LocalDateTime.class == toClz) {
+				return days -> DEFAULT_ZONE.localDate(days).atStartOfDay();
+			}
+			if (org.joda.time.LocalDate.class == toClz) {
+				return days -> new org.joda.time.LocalDate(days * MILLIS_PER_DAY, ISOChronology.getInstanceUTC());
+			}
+			if (org.joda.time.LocalDateTime.class == toClz) {
+				return days -> new org.joda.time.LocalDateTime(days * MILLIS_PER_DAY, ISOChronology.getInstanceUTC());
+			}
+			if (LocalTime.class == toClz || Time.class == toClz || org.joda.time.LocalTime.class == toClz) {
+				return null;
+			}
+			LongFunction<?> fromMillis = fromEpochMillis.get(toClz);
+			if (fromMillis == null) {
+				return null;
+			}
+			return days -> fromMillis.apply(DEFAULT_ZONE.startOfDayMillis(days));
+		}
+	};
+
+	/** The seconds-of-day kernels resolved per target class. */
+	private static final ClassValue<IntFunction<?>> fromSecondsOfDay = new ClassValue<IntFunction<?>>() {
+
+		@Override
+		protected IntFunction<?> computeValue(Class<?> toClz) {
+			if (LocalTime.class == toClz) {
+				return LocalTime::ofSecondOfDay;
+			}
+			if (Time.class == toClz) {
+				return seconds -> Time.valueOf(LocalTime.ofSecondOfDay(seconds));
+			}
+			if (org.joda.time.LocalTime.class == toClz) {
+				return seconds -> org.joda.time.LocalTime.fromMillisOfDay(seconds * 1000L);
+			}
+			return null;
+		}
+	};
+
+	/**
+	 * Instantiates a new epoch columns.
+	 */
+	private EpochColumns() {
+	}
+
+	/**
+	 * Converts epoch-millis to the given date-type.
+	 *
+	 * @param <T> the generic type
+	 * @param from the epoch-millis
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static <T> T[] fromEpochMillis(long[] from, Class<? extends T> toClz, T[] to) {
+		LongFunction<?> kernel = kernel(fromEpochMillis, toClz, "epoch-millis");
+		checkLength(from.length, to);
+		for (int idx = 0; idx < from.length; idx++) {
+			to[idx] = cast(kernel.apply(from[idx]));
+		}
+		return to;
+	}
+
+	/**
+	 * Converts epoch-seconds to the given date-type.
+	 *
+	 * @param <T> the generic type
+	 * @param from the epoch-seconds
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static <T> T[] fromEpochSeconds(long[] from, Class<? extends T> toClz, T[] to) {
+		LongFunction<?> kernel = kernel(fromEpochMillis, toClz, "epoch-seconds");
+		checkLength(from.length, to);
+		for (int idx = 0; idx < from.length; idx++) {
+			to[idx] = cast(kernel.apply(epochMillis(from[idx], 0)));
+		}
+		return to;
+	}
+
+	/**
+	 * Converts epoch-days to the given date-type. Date-types with an instant are set to the start of the day in the
+	 * default zone.
+	 *
+	 * @param <T> the generic type
+	 * @param from the epoch-days
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static <T> T[] fromEpochDays(long[] from, Class<? extends T> toClz, T[] to) {
+		LongFunction<?> kernel = kernel(fromEpochDays, toClz, "epoch-days");
+		checkLength(from.length, to);
+		for (int idx = 0; idx < from.length; idx++) {
+			to[idx] = cast(kernel.apply(from[idx]));
+		}
+		return to;
+	}
+
+	/**
+	 * Converts seconds-of-day to the given time-type.
+	 *
+	 * @param <T> the generic type
+	 * @param from the seconds-of-day
+	 * @param toClz the to clz
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static <T> T[] fromSecondsOfDay(int[] from, Class<? extends T> toClz, T[] to) {
+		IntFunction<?> kernel = kernel(fromSecondsOfDay, toClz, "seconds-of-day");
+		checkLength(from.length, to);
+		for (int idx = 0; idx < from.length; idx++) {
+			to[idx] = cast(kernel.apply(from[idx]));
+		}
+		return to;
+	}
+
+	/**
+	 * Converts dates to epoch-millis. Local date-times are taken to be in the default zone.
+	 *
+	 * @param from the dates
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static long[] toEpochMillis(Object[] from, long[] to) {
+		checkLength(from.length, to.length);
+		EPOCH_MILLIS.convertAll(from, to, 0, from.length);
+		return to;
+	}
+
+	/**
+	 * Converts dates to epoch-seconds, rounding towards the past.
+	 *
+	 * @param from the dates
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static long[] toEpochSeconds(Object[] from, long[] to) {
+		toEpochMillis(from, to);
+		for (int idx = 0; idx < from.length; idx++) {
+			to[idx] = Math.floorDiv(to[idx], 1000L);
+		}
+		return to;
+	}
+
+	/**
+	 * Converts dates to epoch-days, i.e. the LocalDate the dates convert to.
+	 *
+	 * @param from the dates
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static long[] toEpochDays(Object[] from, long[] to) {
+		checkLength(from.length, to.length);
+		EPOCH_DAYS.convertAll(from, to, 0, from.length);
+		return to;
+	}
+
+	/**
+	 * Converts dates to seconds-of-day, i.e. the LocalTime the dates convert to.
+	 *
+	 * @param from the dates
+	 * @param to the target array, at least as long as the source array
+	 * @return the target array
+	 */
+	public static int[] toSecondsOfDay(Object[] from, int[] to) {
+		checkLength(from.length, to.length);
+		SECONDS_OF_DAY.convertAll(from, to, 0, from.length);
+		return to;
+	}
+
+	/**
+	 * Resolves the kernel for the given target type.
+	 *
+	 * @param <K> the kernel type
+	 * @param kernels the kernels
+	 * @param toClz the to clz
+	 * @param unit the source unit
+	 * @return the kernel
+	 */
+	private static <K> K kernel(ClassValue<K> kernels, Class<?> toClz, String unit) {
+		K kernel = toClz == null ? null : kernels.get(toClz);
+		if (kernel == null) {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + unit + " to " + toClz);
+		}
+		return kernel;
+	}
+
+	/**
+	 * Check length.
+	 *
+	 * @param fromLength the from length
+	 * @param to the target array
+	 */
+	private static void checkLength(int fromLength, Object[] to) {
+		checkLength(fromLength, to.length);
+	}
+
+	/**
+	 * Check length.
+	 *
+	 * @param fromLength the from length
+	 * @param toLength the to length
+	 */
+	private static void checkLength(int fromLength, int toLength) {
+		if (toLength < fromLength) {
+			throw new DateConverterException(ErrorCode.INVALID_ARGUMENT,
+					"Date conversion error! Target array of length " + toLength
+					+ " cannot hold " + fromLength + " dates");
+		}
+	}
+
+	/**
+	 * Unchecked cast of a kernel result to the target type.
+	 *
+	 * @param <T> the generic type
+	 * @param date the date
+	 * @return the date
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T cast(Object date) {
+		return (T) date;
+	}
+
+	/**
+	 * Epoch-millis of the given epoch-second and nano-of-second.
+	 *
+	 * @param epochSecond the epoch second
+	 * @param nano the nano-of-second
+	 * @return the epoch millis
+	 */
+	private static long epochMillis(long epochSecond, int nano) {
+		try {
+			return Math.addExact(Math.multiplyExact(epochSecond, 1000L), nano / NANOS_PER_MILLI);
+		} catch (ArithmeticException e) {
+			throw new DateConverterException(ErrorCode.INVALID_DATE,
+					"Date conversion error! Epoch-second " + epochSecond + " is out of the range of epoch-millis", e);
+		}
+	}
+
+	/**
+	 * Fails the conversion of a type without date information.
+	 *
+	 * @param unit the target unit
+	 * @return never returns
+	 */
+	private static long noDateInformation(String unit) {
+		throw new DateConverterException(ErrorCode.INCOMPLETE_DATE,
+				"No date information available to convert to " + unit + "!");
+	}
+
+	/**
+	 * Fails the conversion of a type without time information.
+	 *
+	 * @return never returns
+	 */
+	private static long noTimeInformation() {
+		throw new DateConverterException(ErrorCode.INCOMPLETE_DATE,
+				"No time information available to convert to seconds-of-day!");
+	}
+
+	/**
+	 * Parses the UTF-8 date-string in the given range of bytes to epoch-millis, with the result of
+	 * {@link DateConverterFacade#convert(byte[], int, int, Class)} to an Instant but without creating it.
+	 *
+	 * @param bytes the bytes
+	 * @param offset the offset
+	 * @param length the length
+	 * @return the epoch millis
+	 */
+	public static long toEpochMillis(byte[] bytes, int offset, int length) {
+		DateConverterFacade.checkRange(offset, offset + length, bytes.length);
+		CharSequence text = AsciiBytes.utf8(bytes, offset, length);
+		return DEFAULT_ZONE.parseEpochMillis(text, 0, text.length());
+	}
+
+	/**
+	 * Parses the UTF-8 date-string in the given range of a heap or direct buffer to epoch-millis, in the manner of
+	 * {@link #toEpochMillis(byte[], int, int)}. The offset is an absolute index into the buffer.
+	 *
+	 * @param buffer the buffer
+	 * @param offset the offset
+	 * @param length the length
+	 * @return the epoch millis
+	 */
+	public static long toEpochMillis(ByteBuffer buffer, int offset, int length) {
+		DateConverterFacade.checkRange(offset, offset + length, buffer.limit());
+		CharSequence text = AsciiBytes.utf8(buffer, offset, length);
+		return DEFAULT_ZONE.parseEpochMillis(text, 0, text.length());
+	}
+}
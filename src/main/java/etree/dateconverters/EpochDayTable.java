@@ -0,0 +1,178 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class EpochDayTable.
+ * 
+ * The LocalDate and the epoch-millis of the start of day in a zone of each day of a range of years, computed once, so
+ * that the dates of the range are looked up instead of computed and allocated per conversion. Days outside the range
+ * are computed as they would be without the table. The table is optional: it is empty unless a range of years is
+ * given, for the conversions of the default zone through the system properties {@value #FIRST_YEAR_PROPERTY} and
+ * {@value #LAST_YEAR_PROPERTY}, or for a {@link DateConverter} through its builder. A table of a century holds some
+ * 36,500 dates, about a megabyte.
+ */
+final class EpochDayTable {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(EpochDayTable.class);
+
+	/** The Constant FIRST_YEAR_PROPERTY. */
+	static final String FIRST_YEAR_PROPERTY = "etree.dateconverters.epochDayTable.firstYear";
+
+	/** The Constant LAST_YEAR_PROPERTY. */
+	static final String LAST_YEAR_PROPERTY = "etree.dateconverters.epochDayTable.lastYear";
+
+	/** The Constant MAX_YEARS, the widest range of years a table is laid out for. */
+	static final int MAX_YEARS = 1000;
+
+	/** The range of years of the default zone, from the system properties: the first year. */
+	static final int DEFAULT_FIRST_YEAR;
+
+	/** The range of years of the default zone, from the system properties: the last year. */
+	static final int DEFAULT_LAST_YEAR;
+
+	static {
+		int firstYear = Integer.getInteger(FIRST_YEAR_PROPERTY, 1);
+		int lastYear = Integer.getInteger(LAST_YEAR_PROPERTY, 0);
+		if (firstYear <= lastYear && !isValidRange(firstYear, lastYear)) {
+			LOGGER.warn("Ignoring epoch-day table of the years {} to {}: at most {} years from year {} to {}.",
+					firstYear, lastYear, MAX_YEARS, LocalDate.MIN.getYear(), LocalDate.MAX.getYear());
+			firstYear = 1;
+			lastYear = 0;
+		}
+		DEFAULT_FIRST_YEAR = firstYear;
+		DEFAULT_LAST_YEAR = lastYear;
+	}
+
+	/** The epoch day of the first day of the table. */
+	private final long firstDay;
+
+	/** The dates, indexed by epoch day from the first day. */
+	private final LocalDate[] dates;
+
+	/** The epoch-millis of the start of each day in the zone, index-aligned with the dates. */
+	private final long[] startOfDayMillis;
+
+	/** The offsets of the zone, for the days outside the table. */
+	private final ZoneOffsetResolver offsets;
+
+	/**
+	 * Instantiates a new epoch day table of the given years, or an empty one if the first year is after the last.
+	 *
+	 * @param firstYear the first year
+	 * @param lastYear the last year
+	 * @param offsets the offsets of the zone
+	 */
+	EpochDayTable(int firstYear, int lastYear, ZoneOffsetResolver offsets) {
+		this.offsets = offsets;
+		if (firstYear > lastYear) {
+			this.firstDay = 0;
+			this.dates = new LocalDate[0];
+			this.startOfDayMillis = new long[0];
+			return;
+		}
+		checkRange(firstYear, lastYear);
+		this.firstDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+		int size = (int) (LocalDate.of(lastYear, 12, 31).toEpochDay() - firstDay + 1);
+		this.dates = new LocalDate[size];
+		this.startOfDayMillis = new long[size];
+		for (int idx = 0; idx < size; idx++) {
+			dates[idx] = LocalDate.ofEpochDay(firstDay + idx);
+			startOfDayMillis[idx] = offsets.startOfDay(firstDay + idx) * 1000L;
+		}
+	}
+
+	/**
+	 * Checks the given range of years.
+	 *
+	 * @param firstYear the first year
+	 * @param lastYear the last year
+	 * @throws DateConverterException if the range is empty, too wide or outside the years of LocalDate
+	 */
+	static void checkRange(int firstYear, int lastYear) {
+		if (firstYear > lastYear || !isValidRange(firstYear, lastYear)) {
+			throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+					"Date converter error! Invalid epoch-day table of the years "
+					+ firstYear + " to " + lastYear + ": at most " + MAX_YEARS + " years are tabulated");
+		}
+	}
+
+	/**
+	 * Checks if the given non-empty range of years can be tabulated.
+	 *
+	 * @param firstYear the first year
+	 * @param lastYear the last year
+	 * @return true, if is valid range
+	 */
+	private static boolean isValidRange(int firstYear, int lastYear) {
+		return firstYear >= LocalDate.MIN.getYear() && lastYear <= LocalDate.MAX.getYear()
+				&& (long) lastYear - firstYear < MAX_YEARS;
+	}
+
+	/**
+	 * The number of days of the table.
+	 *
+	 * @return the size
+	 */
+	int size() {
+		return dates.length;
+	}
+
+	/**
+	 * The LocalDate of the given epoch day.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the local date
+	 */
+	LocalDate localDate(long epochDay) {
+		long idx = epochDay - firstDay;
+		if (idx >= 0 && idx < dates.length) {
+			return dates[(int) idx];
+		}
+		return LocalDate.ofEpochDay(epochDay);
+	}
+
+	/**
+	 * Epoch-millis of the start of the given day in the zone.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the epoch millis
+	 */
+	long startOfDayMillis(long epochDay) {
+		long idx = epochDay - firstDay;
+		if (idx >= 0 && idx < startOfDayMillis.length) {
+			return startOfDayMillis[(int) idx];
+		}
+		return offsets.startOfDay(epochDay) * 1000L;
+	}
+}
@@ -0,0 +1,882 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.sisyphsu.dateparser.DateParserUtils;
+
+
+/**
+ * The Class FormatShapeCache.
+ * 
+ * Learns the formats of date-strings that need DateParserUtils to infer their format. Strings are grouped by shape,
+ * i.e. their length and the positions of their digits and other characters. For each numeric shape a few candidate
+ * rules, i.e. SimpleDateFormat patterns tried in order, are checked against the results of DateParserUtils, and
+ * once {@link #CONFIRMATIONS} strings of the shape leave exactly one rule, later strings of that shape are parsed
+ * with its compiled patterns instead. Strings none of the learned patterns can parse strictly still go through
+ * DateParserUtils.
+ * 
+ * Batches of date-strings are sampled up front instead: if the first {@link #BATCH_SAMPLES} strings of a batch
+ * leave exactly one rule, that rule is learned at once for every shape of the batch it parses. Batches are sampled
+ * only while a cached shape is still unsettled, i.e. has neither learned a rule nor run out of candidates; once all
+ * are settled, the shapes new to a batch are learned from its dates as they are converted.
+ * 
+ * Date-strings can be parsed to local millis too, i.e. their fields as if in UTC, for converters of other zones than
+ * the default zone, which DateParserUtils reads date-strings without a zone of their own in.
+ * 
+ * The classes of the date-strings DateParserUtils fails to parse are remembered as well, i.e. their length and the
+ * positions of their digits, letters and separators. Once {@link #CONFIRMATIONS} date-strings of a class have failed
+ * and none has parsed since, the non-throwing conversions reject further date-strings of the class without parsing
+ * them, unless they are ISO-8601 or parsed by the format learned for their shape. At most {@link #MAX_SIZE} classes
+ * are remembered, evicting those not looked up recently first.
+ */
+public final class FormatShapeCache {
+
+	/** The Constant MAX_SIZE. */
+	public static final int MAX_SIZE = 1024;
+
+	/** The number of agreeing samples before a format is learned. */
+	public static final int CONFIRMATIONS = 3;
+
+	/** The number of date-strings of a batch sampled to infer its format. */
+	public static final int BATCH_SAMPLES = 16;
+
+	/** The number of leading dates of a batch searched for samples. */
+	private static final int BATCH_WINDOW = 64;
+
+	/** The local millis of date-strings with a zone or offset of their own, which have no local millis. */
+	static final long ZONED = Long.MIN_VALUE;
+
+	/** The Constant UTC. */
+	private static final TimeZone UTC = TimeZone.getTimeZone(ZoneOffset.UTC);
+
+	/** The Constant MAX_LENGTH. */
+	private static final int MAX_LENGTH = 64;
+
+	/** The Constant SHAPES. */
+	private static final ConcurrentMap<Long, Shape> SHAPES = new ConcurrentHashMap<>();
+
+	/** The Constant HITS. */
+	private static final LongAdder HITS = new LongAdder();
+
+	/** The Constant MISSES. */
+	private static final LongAdder MISSES = new LongAdder();
+
+	/** Whether every cached shape is settled, so that batches have nothing to learn. */
+	private static volatile boolean confirmed;
+
+	/** The lock of the updates of {@link #confirmed}. */
+	private static final Object CONFIRMATION = new Object();
+
+	/** The classes of the date-strings DateParserUtils failed to parse, at most {@link #MAX_SIZE}. */
+	private static final ConcurrentMap<Long, Rejection> REJECTED = new ConcurrentHashMap<>();
+
+	/** The hand of the eviction clock of {@link #REJECTED}, guarded by it. */
+	private static Iterator<Rejection> rejectionHand;
+
+	/**
+	 * A class of date-strings DateParserUtils failed to parse.
+	 */
+	private static final class Rejection {
+
+		/** The number of failures. */
+		private final AtomicInteger failures = new AtomicInteger();
+
+		/** Whether the class has been looked up since the eviction clock last passed it. */
+		private volatile boolean referenced = true;
+	}
+
+	/**
+	 * A shape of date-strings and what has been learned about it.
+	 */
+	private static final class Shape {
+
+		/** The shape: the string with all digits replaced by '0'. */
+		private final String shape;
+
+		/** All candidate rules of the shape. */
+		private final List<List<String>> rules;
+
+		/** The candidate rules still consistent with all samples. */
+		private final List<List<String>> candidates;
+
+		/** The number of samples. */
+		private int samples;
+
+		/** The learned rule. */
+		private volatile List<String> learnedPatterns;
+
+		/** The learned rule, compiled. */
+		private volatile LegacyPattern[] learned;
+
+		/** The learned rule, compiled for local millis. */
+		private volatile LegacyPattern[] learnedLocal;
+
+		/** Whether a rule has been learned or no candidate is left. */
+		private volatile boolean settled;
+
+		/**
+		 * Instantiates a new shape.
+		 *
+		 * @param shape the shape
+		 */
+		private Shape(String shape) {
+			this.shape = shape;
+			this.rules = candidates(shape);
+			this.candidates = new ArrayList<>(rules);
+			this.settled = rules.isEmpty();
+		}
+
+		/**
+		 * Checks if the given date-string has this shape.
+		 *
+		 * @param date the date
+		 * @return true, if successful
+		 */
+		private boolean matches(CharSequence date) {
+			int length = shape.length();
+			if (date.length() != length) {
+				return false;
+			}
+			for (int idx = 0; idx < length; idx++) {
+				char c = date.charAt(idx);
+				char expected = shape.charAt(idx);
+				if (expected == '0' ? c < '0' || c > '9' : c != expected) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Narrows the candidates down to those parsing the sample to the given epoch-millis.
+		 *
+		 * @param date the sample
+		 * @param millis the epoch millis DateParserUtils parsed the sample to
+		 */
+		private synchronized void learn(String date, long millis) {
+			if (learned != null || candidates.isEmpty()) {
+				return;
+			}
+			candidates.removeIf(rule -> {
+				long parsed = parseMillis(compile(rule), date);
+				return parsed != millis && parsed != LegacyPattern.UNRESOLVED;
+			});
+			if (++samples >= CONFIRMATIONS && candidates.size() == 1) {
+				learnedPatterns = candidates.get(0);
+				learnedLocal = compile(learnedPatterns, UTC);
+				learned = compile(learnedPatterns);
+			}
+			if (learned != null || candidates.isEmpty()) {
+				settle();
+			}
+		}
+
+		/**
+		 * Learns the given rule, unless another one has been learned or the samples of the shape contradict it.
+		 *
+		 * @param rule the rule
+		 */
+		private synchronized void lock(List<String> rule) {
+			if (learned == null && candidates.contains(rule)) {
+				candidates.retainAll(Collections.singletonList(rule));
+				learnedPatterns = rule;
+				learnedLocal = compile(rule, UTC);
+				learned = compile(rule);
+				settle();
+			}
+		}
+
+		/**
+		 * Marks the shape as settled, confirming the cache once no other shape is unsettled.
+		 */
+		private void settle() {
+			if (!settled) {
+				settled = true;
+				updateConfirmed();
+			}
+		}
+	}
+
+	/**
+	 * Instantiates a new format shape cache.
+	 */
+	private FormatShapeCache() {
+	}
+
+	/**
+	 * Parses the given date-string to epoch-millis with the format learned for its shape, or else with
+	 * DateParserUtils, learning from the result.
+	 *
+	 * @param date the date
+	 * @return the epoch millis
+	 */
+	static long parseEpochMillis(CharSequence date) {
+		if (date.length() > MAX_LENGTH) {
+			MISSES.increment();
+			return DateParserUtils.parseDate(date.toString()).getTime();
+		}
+		Long fingerprint = fingerprint(date);
+		Shape shape = SHAPES.get(fingerprint);
+		if (shape != null && shape.matches(date)) {
+			LegacyPattern[] learned = shape.learned;
+			if (learned != null) {
+				long millis = parseMillis(learned, date);
+				if (millis != Long.MIN_VALUE && millis != LegacyPattern.UNRESOLVED) {
+					HITS.increment();
+					return millis;
+				}
+			}
+		} else if (shape == null) {
+			shape = newShape(fingerprint, date);
+		}
+		MISSES.increment();
+		String string = date.toString();
+		long millis;
+		try {
+			millis = DateParserUtils.parseDate(string).getTime();
+		} catch (RuntimeException e) {
+			reject(string);
+			throw e;
+		}
+		accept(string);
+		if (shape.matches(string)) {
+			shape.learn(string, millis);
+		}
+		return millis;
+	}
+
+	/**
+	 * Parses the given date-string to local millis, i.e. its fields as if in UTC, with the format learned for its
+	 * shape, or else with DateParserUtils, learning from the result.
+	 *
+	 * @param date the date
+	 * @return the local millis, or {@link #ZONED} if the date-string has a zone or offset of its own
+	 */
+	static long parseLocalMillis(CharSequence date) {
+		if (date.length() > MAX_LENGTH) {
+			MISSES.increment();
+			return localMillis(date.toString());
+		}
+		Long fingerprint = fingerprint(date);
+		Shape shape = SHAPES.get(fingerprint);
+		if (shape != null && shape.matches(date)) {
+			LegacyPattern[] learned = shape.learnedLocal;
+			if (learned != null) {
+				long millis = parseMillis(learned, date);
+				if (millis != Long.MIN_VALUE && millis != LegacyPattern.UNRESOLVED) {
+					HITS.increment();
+					return millis;
+				}
+			}
+		} else if (shape == null) {
+			shape = newShape(fingerprint, date);
+		}
+		MISSES.increment();
+		String string = date.toString();
+		long millis = localMillis(string);
+		if (millis != ZONED && shape.matches(string)) {
+			shape.learn(string, AbstractDateConversions.DEFAULT_ZONE.epochMillisOfLocal(millis));
+		}
+		return millis;
+	}
+
+	/**
+	 * Parses the given date-string to local millis with DateParserUtils.
+	 *
+	 * @param date the date
+	 * @return the local millis, or {@link #ZONED} if the date-string has a zone or offset of its own
+	 */
+	private static long localMillis(String date) {
+		OffsetDateTime parsed;
+		try {
+			parsed = DateParserUtils.parseOffsetDateTime(date);
+		} catch (RuntimeException e) {
+			reject(date);
+			throw e;
+		}
+		accept(date);
+		if (parsed.getOffset().getTotalSeconds() != 0 || hasZeroOffset(date)) {
+			return ZONED;
+		}
+		return parsed.toLocalDateTime().toEpochSecond(ZoneOffset.UTC) * 1000L + parsed.getNano() / 1_000_000;
+	}
+
+	/**
+	 * Checks if the given date-string, which DateParserUtils parsed to an offset of zero, has an offset of its own,
+	 * as opposed to no zone, which DateParserUtils parses to UTC as well: an epoch timestamp, a 'Z', UTC or GMT, a
+	 * numeric offset, or a zone name in parentheses.
+	 *
+	 * @param date the date
+	 * @return true, if the date-string has an offset of zero of its own
+	 */
+	private static boolean hasZeroOffset(String date) {
+		int length = date.length();
+		boolean time = false;
+		boolean digits = true;
+		for (int idx = 0; idx < length; idx++) {
+			char c = date.charAt(idx);
+			if (c == '+' || c == '(' || c == '-' && time) {
+				return true;
+			}
+			time |= c == ':';
+			digits &= c >= '0' && c <= '9';
+			if (Character.isLetter(c) && (idx == 0 || !Character.isLetter(date.charAt(idx - 1)))) {
+				int wordEnd = idx;
+				while (wordEnd < length && Character.isLetter(date.charAt(wordEnd))) {
+					wordEnd++;
+				}
+				String word = date.substring(idx, wordEnd);
+				if (word.equalsIgnoreCase("Z") || word.equalsIgnoreCase("UTC") || word.equalsIgnoreCase("GMT")) {
+					return true;
+				}
+			}
+		}
+		return digits && (length == 10 || length == 13 || length == 16 || length == 19);
+	}
+
+	/**
+	 * Checks if the date-string in the given range of characters is of a class DateParserUtils failed to parse
+	 * {@link #CONFIRMATIONS} date-strings of, and neither ISO-8601 nor parsed by the format learned for its shape.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return true, if the date-string is taken to be unparseable
+	 */
+	static boolean isRejected(CharSequence text, int start, int end) {
+		if (REJECTED.isEmpty() || end - start > MAX_LENGTH) {
+			return false;
+		}
+		Rejection rejection = REJECTED.get(classFingerprint(text, start, end));
+		if (rejection == null || rejection.failures.get() < CONFIRMATIONS) {
+			return false;
+		}
+		rejection.referenced = true;
+		if (IsoDateParser.parse(text, start, end) != IsoDateParser.NOT_ISO) {
+			return false;
+		}
+		CharSequence date = text.subSequence(start, end);
+		Shape shape = SHAPES.get(fingerprint(date));
+		LegacyPattern[] learned = shape != null && shape.matches(date) ? shape.learned : null;
+		if (learned != null) {
+			long millis = parseMillis(learned, date);
+			return millis == Long.MIN_VALUE || millis == LegacyPattern.UNRESOLVED;
+		}
+		return true;
+	}
+
+	/**
+	 * Counts a failure of DateParserUtils for the class of the given date-string, evicting a class not looked up
+	 * recently once {@link #MAX_SIZE} are remembered.
+	 *
+	 * @param date the date
+	 */
+	private static void reject(String date) {
+		if (date.length() > MAX_LENGTH) {
+			return;
+		}
+		Long fingerprint = classFingerprint(date, 0, date.length());
+		Rejection rejection = REJECTED.get(fingerprint);
+		if (rejection == null) {
+			if (REJECTED.size() >= MAX_SIZE) {
+				evictRejected();
+			}
+			rejection = REJECTED.computeIfAbsent(fingerprint, key -> new Rejection());
+		}
+		rejection.referenced = true;
+		rejection.failures.incrementAndGet();
+	}
+
+	/**
+	 * Forgets the failures for the class of the given date-string, which DateParserUtils parsed.
+	 *
+	 * @param date the date
+	 */
+	private static void accept(String date) {
+		if (!REJECTED.isEmpty() && date.length() <= MAX_LENGTH) {
+			REJECTED.remove(classFingerprint(date, 0, date.length()));
+		}
+	}
+
+	/**
+	 * Advances the eviction clock until the rejected classes are within their bound, giving the classes looked up
+	 * since it last passed them a second chance.
+	 */
+	private static void evictRejected() {
+		synchronized (REJECTED) {
+			int steps = 2 * REJECTED.size();
+			while (REJECTED.size() >= MAX_SIZE && steps-- > 0) {
+				if (rejectionHand == null || !rejectionHand.hasNext()) {
+					rejectionHand = REJECTED.values().iterator();
+				}
+				if (!rejectionHand.hasNext()) {
+					return;
+				}
+				Rejection rejection = rejectionHand.next();
+				if (rejection.referenced) {
+					rejection.referenced = false;
+				} else {
+					rejectionHand.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Infers the format of a batch of dates from its first {@link #BATCH_SAMPLES} date-strings that are neither
+	 * ISO-8601 nor learned already. The candidate rules of the shape of the first sample are checked against the
+	 * results of DateParserUtils for all samples of shapes with as many candidates; if at least
+	 * {@link #CONFIRMATIONS} samples leave exactly one of them, the corresponding rule is learned for the shape of
+	 * every date-string of the batch it parses. The dates themselves are converted afterwards as usual, so a
+	 * date-string the rule does not parse still falls back to DateParserUtils. Nothing is sampled once every cached
+	 * shape is settled, or if the batch does not start with date-strings.
+	 *
+	 * @param dates the dates
+	 */
+	static void learnBatch(List<?> dates) {
+		if (confirmed) {
+			return;
+		}
+		List<String> samples = new ArrayList<>(BATCH_SAMPLES);
+		int window = 0;
+		for (Object date : dates) {
+			if (++window > BATCH_WINDOW || samples.size() == BATCH_SAMPLES) {
+				break;
+			}
+			if (date != null && !(date instanceof String)) {
+				return;
+			}
+			if (date instanceof String && isUnlearned((String) date)) {
+				samples.add((String) date);
+			}
+		}
+		int ruleIdx = samples.isEmpty() ? -1 : inferRule(samples);
+		if (ruleIdx < 0) {
+			return;
+		}
+		int ruleCount = candidates(shape(samples.get(0))).size();
+		Set<Long> visited = new HashSet<>();
+		for (Object date : dates) {
+			if (!(date instanceof String) || !isUnlearned((String) date)) {
+				continue;
+			}
+			String string = (String) date;
+			Long fingerprint = fingerprint(string);
+			if (visited.contains(fingerprint)) {
+				continue;
+			}
+			Shape shape = SHAPES.get(fingerprint);
+			if (shape == null) {
+				shape = newShape(fingerprint, string);
+			}
+			if (!shape.matches(string) || shape.rules.size() != ruleCount) {
+				visited.add(fingerprint);
+				continue;
+			}
+			List<String> rule = shape.rules.get(ruleIdx);
+			long millis = parseMillis(compile(rule), string);
+			if (millis != Long.MIN_VALUE && millis != LegacyPattern.UNRESOLVED) {
+				shape.lock(rule);
+				visited.add(fingerprint);
+			}
+		}
+	}
+
+	/**
+	 * The index of the only candidate rule consistent with DateParserUtils for the given samples.
+	 *
+	 * @param samples the samples
+	 * @return the index of the rule among the candidates of the shape of each sample, or -1 if there is none
+	 */
+	private static int inferRule(List<String> samples) {
+		int ruleCount = candidates(shape(samples.get(0))).size();
+		boolean[] consistent = new boolean[ruleCount];
+		Arrays.fill(consistent, true);
+		int confirmations = 0;
+		for (String sample : samples) {
+			List<List<String>> rules = candidates(shape(sample));
+			if (rules.size() != ruleCount) {
+				continue;
+			}
+			long expected;
+			try {
+				expected = DateParserUtils.parseDate(sample).getTime();
+			} catch (RuntimeException e) {
+				continue;
+			}
+			for (int idx = 0; idx < ruleCount; idx++) {
+				long parsed = consistent[idx] ? parseMillis(compile(rules.get(idx)), sample) : expected;
+				if (parsed != expected && parsed != LegacyPattern.UNRESOLVED) {
+					consistent[idx] = false;
+				}
+			}
+			confirmations++;
+		}
+		int ruleIdx = -1;
+		for (int idx = 0; idx < ruleCount; idx++) {
+			if (consistent[idx]) {
+				if (ruleIdx >= 0) {
+					return -1;
+				}
+				ruleIdx = idx;
+			}
+		}
+		return confirmations >= CONFIRMATIONS ? ruleIdx : -1;
+	}
+
+	/**
+	 * Checks if the given date-string is parsed by DateParserUtils, i.e. it is neither ISO-8601 nor of a shape
+	 * with a learned format.
+	 *
+	 * @param date the date
+	 * @return true, if is unlearned
+	 */
+	private static boolean isUnlearned(String date) {
+		if (date.length() > MAX_LENGTH || IsoDateParser.parse(date) != IsoDateParser.NOT_ISO) {
+			return false;
+		}
+		Shape shape = SHAPES.get(fingerprint(date));
+		return shape == null || !shape.matches(date) || shape.learned == null;
+	}
+
+	/**
+	 * Caches a new shape for the given date-string.
+	 *
+	 * @param fingerprint the fingerprint of the date-string
+	 * @param date the date
+	 * @return the cached shape
+	 */
+	private static Shape newShape(Long fingerprint, CharSequence date) {
+		Shape shape = new Shape(shape(date));
+		synchronized (CONFIRMATION) {
+			Shape existing = SHAPES.putIfAbsent(fingerprint, shape);
+			if (existing != null) {
+				return existing;
+			}
+			if (!shape.settled) {
+				confirmed = false;
+			}
+		}
+		evictOverflow(fingerprint);
+		return shape;
+	}
+
+	/**
+	 * Confirms the cache if every cached shape is settled.
+	 */
+	private static void updateConfirmed() {
+		synchronized (CONFIRMATION) {
+			for (Shape shape : SHAPES.values()) {
+				if (!shape.settled) {
+					return;
+				}
+			}
+			confirmed = true;
+		}
+	}
+
+	/**
+	 * The formats learned for the shape of the given sample.
+	 *
+	 * @param sample the sample
+	 * @return the learned SimpleDateFormat patterns, in the order they are tried, or null if none have been learned
+	 */
+	public static List<String> learnedFormats(String sample) {
+		Shape shape = sample == null ? null : SHAPES.get(fingerprint(sample));
+		return shape != null && shape.matches(sample) ? shape.learnedPatterns : null;
+	}
+
+	/**
+	 * Forgets what has been learned for the shape of the given sample.
+	 *
+	 * @param sample the sample
+	 */
+	public static void invalidate(String sample) {
+		if (sample != null) {
+			SHAPES.remove(fingerprint(sample));
+		}
+	}
+
+	/**
+	 * Forgets all learned shapes and rejected date-strings.
+	 */
+	public static void clear() {
+		synchronized (CONFIRMATION) {
+			SHAPES.clear();
+			confirmed = false;
+		}
+		synchronized (REJECTED) {
+			REJECTED.clear();
+			rejectionHand = null;
+		}
+	}
+
+	/**
+	 * The number of cached shapes.
+	 *
+	 * @return the size
+	 */
+	public static int size() {
+		return SHAPES.size();
+	}
+
+	/**
+	 * The number of date-strings parsed with a learned format.
+	 *
+	 * @return the hit count
+	 */
+	public static long hitCount() {
+		return HITS.sum();
+	}
+
+	/**
+	 * The number of date-strings parsed by DateParserUtils.
+	 *
+	 * @return the miss count
+	 */
+	public static long missCount() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Parses the date-string with the first of the patterns whose fields match it.
+	 *
+	 * @param patterns the patterns
+	 * @param date the date
+	 * @return the epoch millis, Long.MIN_VALUE if none of the patterns match, or UNRESOLVED if the first matching
+	 *         pattern cannot resolve the local time
+	 */
+	private static long parseMillis(LegacyPattern[] patterns, CharSequence date) {
+		for (LegacyPattern pattern : patterns) {
+			long millis = pattern.tryParseMillis(date);
+			if (millis != Long.MIN_VALUE) {
+				return millis;
+			}
+		}
+		return Long.MIN_VALUE;
+	}
+
+	/**
+	 * Compiles the patterns of a rule.
+	 *
+	 * @param rule the rule
+	 * @return the compiled patterns
+	 */
+	private static LegacyPattern[] compile(List<String> rule) {
+		LegacyPattern[] patterns = new LegacyPattern[rule.size()];
+		for (int idx = 0; idx < patterns.length; idx++) {
+			patterns[idx] = AbstractDateConversions.DEFAULT_ZONE.legacyPattern(rule.get(idx));
+		}
+		return patterns;
+	}
+
+	/**
+	 * Compiles the patterns of a rule for the given zone.
+	 *
+	 * @param rule the rule
+	 * @param zone the zone
+	 * @return the compiled patterns
+	 */
+	private static LegacyPattern[] compile(List<String> rule, TimeZone zone) {
+		LegacyPattern[] patterns = new LegacyPattern[rule.size()];
+		for (int idx = 0; idx < patterns.length; idx++) {
+			patterns[idx] = LegacyPattern.compile(rule.get(idx), AbstractDateConversions.DEFAULT_ZONE.locale(), zone);
+		}
+		return patterns;
+	}
+
+	/**
+	 * Fingerprint of the shape of the given date-string.
+	 *
+	 * @param date the date
+	 * @return the fingerprint
+	 */
+	private static Long fingerprint(CharSequence date) {
+		int length = date.length();
+		long hash = length;
+		for (int idx = 0; idx < length; idx++) {
+			char c = date.charAt(idx);
+			hash = 31 * hash + (c >= '0' && c <= '9' ? '0' : c);
+		}
+		return hash;
+	}
+
+	/**
+	 * Fingerprint of the class of the date-string in the given range of characters, i.e. its length and the
+	 * positions of its digits, letters and other characters.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the fingerprint
+	 */
+	private static Long classFingerprint(CharSequence text, int start, int end) {
+		long hash = end - start;
+		for (int idx = start; idx < end; idx++) {
+			char c = text.charAt(idx);
+			hash = 31 * hash + (c >= '0' && c <= '9' ? '0' : Character.isLetter(c) ? 'a' : c);
+		}
+		return hash;
+	}
+
+	/**
+	 * The shape of the given date-string.
+	 *
+	 * @param date the date
+	 * @return the shape
+	 */
+	private static String shape(CharSequence date) {
+		char[] shape = date.toString().toCharArray();
+		for (int idx = 0; idx < shape.length; idx++) {
+			if (shape[idx] >= '0' && shape[idx] <= '9') {
+				shape[idx] = '0';
+			}
+		}
+		return new String(shape);
+	}
+
+	/**
+	 * Evicts shapes other than the given one until the cache is within its bound.
+	 *
+	 * @param retained the fingerprint to retain
+	 */
+	private static void evictOverflow(Long retained) {
+		Iterator<Long> fingerprints = SHAPES.keySet().iterator();
+		while (SHAPES.size() > MAX_SIZE && fingerprints.hasNext()) {
+			Long fingerprint = fingerprints.next();
+			if (!fingerprint.equals(retained)) {
+				SHAPES.remove(fingerprint);
+			}
+		}
+	}
+
+	/**
+	 * The candidate rules of a numeric shape: a year-first date, or a day-first and month-first date tried in either
+	 * order, with a four-digit year separated by '-', '/' or '.', or a compact yyyyMMdd date, optionally followed by
+	 * a ' ' or 'T' and a H:mm[:ss[.SSS]] time.
+	 *
+	 * @param shape the shape
+	 * @return the candidates, empty if the shape is not numeric
+	 */
+	private static List<List<String>> candidates(String shape) {
+		List<List<String>> candidates = new ArrayList<>();
+		int dateEnd = 0;
+		while (dateEnd < shape.length() && shape.charAt(dateEnd) != ' ' && shape.charAt(dateEnd) != 'T') {
+			dateEnd++;
+		}
+		String time = timePattern(shape, dateEnd);
+		if (time == null) {
+			return candidates;
+		}
+		String date = shape.substring(0, dateEnd);
+		if (date.equals("00000000")) {
+			candidates.add(Collections.singletonList("yyyyMMdd" + time));
+			return candidates;
+		}
+		String[] fields = date.split("[-/.]", -1);
+		if (fields.length != 3 || date.length() < 5) {
+			return candidates;
+		}
+		char separator = date.charAt(fields[0].length());
+		if (date.charAt(fields[0].length() + fields[1].length() + 1) != separator) {
+			return candidates;
+		}
+		for (String field : fields) {
+			if (field.isEmpty() || field.length() > 4 || !field.matches("0+")) {
+				return candidates;
+			}
+		}
+		int first = fields[0].length();
+		int second = fields[1].length();
+		int third = fields[2].length();
+		if (first == 4 && second <= 2 && third <= 2) {
+			candidates.add(Collections.singletonList(
+					"yyyy" + separator + repeat('M', second) + separator + repeat('d', third) + time));
+		} else if (first <= 2 && second <= 2 && third == 4) {
+			String dayFirst = repeat('d', first) + separator + repeat('M', second) + separator + "yyyy" + time;
+			String monthFirst = repeat('M', first) + separator + repeat('d', second) + separator + "yyyy" + time;
+			candidates.add(Arrays.asList(dayFirst, monthFirst));
+			candidates.add(Arrays.asList(monthFirst, dayFirst));
+		}
+		return candidates;
+	}
+
+	/**
+	 * The time pattern of the shape from the given position.
+	 *
+	 * @param shape the shape
+	 * @param start the start of the time, at its separator
+	 * @return the time pattern, empty without a time, or null if the rest of the shape is not a time
+	 */
+	private static String timePattern(String shape, int start) {
+		if (start == shape.length()) {
+			return "";
+		}
+		String separator = shape.charAt(start) == 'T' ? "'T'" : " ";
+		String time = shape.substring(start + 1);
+		switch (time) {
+		case "0:00":
+			return separator + "H:mm";
+		case "00:00":
+			return separator + "HH:mm";
+		case "0:00:00":
+			return separator + "H:mm:ss";
+		case "00:00:00":
+			return separator + "HH:mm:ss";
+		case "0:00:00.000":
+			return separator + "H:mm:ss.SSS";
+		case "00:00:00.000":
+			return separator + "HH:mm:ss.SSS";
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Repeats the pattern letter.
+	 *
+	 * @param letter the letter
+	 * @param count the count
+	 * @return the letters
+	 */
+	private static String repeat(char letter, int count) {
+		char[] letters = new char[count];
+		Arrays.fill(letters, letter);
+		return new String(letters);
+	}
+}
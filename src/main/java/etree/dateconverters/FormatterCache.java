@@ -0,0 +1,327 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+
+
+/**
+ * The Class FormatterCache.
+ * 
+ * A bounded cache of compiled date-formats, used by the java.time, Joda and legacy {@code toX(String, String)}
+ * conversions and by {@link DateFormatter}, and keyed by pattern, API, locale and zone. Once full, an arbitrary
+ * entry is evicted per new pattern. SimpleDateFormat patterns are cached compiled into a thread-safe
+ * {@link LegacyPattern}. The static methods report on the {@link #SHARED} cache of the facade; a
+ * {@link DateConverter} may have a cache of its own.
+ */
+public final class FormatterCache {
+
+	/** The Constant MAX_SIZE. */
+	public static final int MAX_SIZE = 256;
+
+	/** The cache shared by the facade and the converters without a cache of their own. */
+	static final FormatterCache SHARED = new FormatterCache(MAX_SIZE);
+
+	/** The maximum number of cached formatters. */
+	private final int maxSize;
+
+	/** The cache. */
+	private final ConcurrentMap<Key, Object> cache = new ConcurrentHashMap<>();
+
+	/** The hits. */
+	private final LongAdder hits = new LongAdder();
+
+	/** The misses. */
+	private final LongAdder misses = new LongAdder();
+
+	/** The evictions. */
+	private final LongAdder evictions = new LongAdder();
+
+	/** The most recent lookup per API, with and without a zone, served without creating a key. */
+	private final AtomicReferenceArray<Recent> recent = new AtomicReferenceArray<>(Api.values().length * 2);
+
+	/**
+	 * The formatting APIs.
+	 */
+	private enum Api {
+
+		/** The java.time formatter. */
+		JAVA_TIME,
+
+		/** The Joda formatter. */
+		JODA,
+
+		/** The legacy SimpleDateFormat pattern. */
+		LEGACY
+	}
+
+	/**
+	 * The cache key.
+	 */
+	private static final class Key {
+
+		/** The pattern. */
+		private final String pattern;
+
+		/** The api. */
+		private final Api api;
+
+		/** The locale. */
+		private final Locale locale;
+
+		/** The zone, or null when the formatter does not carry one. */
+		private final TimeZone zone;
+
+		/** The hash. */
+		private final int hash;
+
+		/**
+		 * Instantiates a new key.
+		 *
+		 * @param pattern the pattern
+		 * @param api the api
+		 * @param locale the locale
+		 * @param zone the zone
+		 */
+		private Key(String pattern, Api api, Locale locale, TimeZone zone) {
+			this.pattern = pattern;
+			this.api = api;
+			this.locale = locale;
+			this.zone = zone;
+			this.hash = Objects.hash(pattern, api, locale, zone);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && api == other.api && pattern.equals(other.pattern)
+					&& Objects.equals(locale, other.locale) && Objects.equals(zone, other.zone);
+		}
+	}
+
+	/**
+	 * A recent lookup.
+	 */
+	private static final class Recent {
+
+		/** The key. */
+		private final Key key;
+
+		/** The formatter. */
+		private final Object formatter;
+
+		/**
+		 * Instantiates a new recent lookup.
+		 *
+		 * @param key the key
+		 * @param formatter the formatter
+		 */
+		private Recent(Key key, Object formatter) {
+			this.key = key;
+			this.formatter = formatter;
+		}
+	}
+
+	/**
+	 * Instantiates a new formatter cache.
+	 *
+	 * @param maxSize the maximum number of cached formatters
+	 */
+	FormatterCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The java.time formatter of the given pattern in the given locale.
+	 *
+	 * @param pattern the pattern
+	 * @param locale the locale
+	 * @param zone the zone for formatting instants, or null for none
+	 * @return the date time formatter
+	 */
+	DateTimeFormatter dateTimeFormatter(String pattern, Locale locale, TimeZone zone) {
+		return (DateTimeFormatter) get(pattern, Api.JAVA_TIME, locale, zone);
+	}
+
+	/**
+	 * The Joda formatter of the given pattern in the given locale.
+	 *
+	 * @param pattern the pattern
+	 * @param locale the locale
+	 * @param zone the zone for formatting instants, or null for none
+	 * @return the Joda date time formatter
+	 */
+	org.joda.time.format.DateTimeFormatter jodaFormatter(String pattern, Locale locale, TimeZone zone) {
+		return (org.joda.time.format.DateTimeFormatter) get(pattern, Api.JODA, locale, zone);
+	}
+
+	/**
+	 * The compiled SimpleDateFormat pattern in the given locale and zone.
+	 *
+	 * @param pattern the pattern
+	 * @param locale the locale
+	 * @param zone the zone
+	 * @return the legacy pattern
+	 */
+	LegacyPattern legacyPattern(String pattern, Locale locale, TimeZone zone) {
+		return (LegacyPattern) get(pattern, Api.LEGACY, locale, zone);
+	}
+
+	/**
+	 * The number of lookups served from the shared cache.
+	 *
+	 * @return the hit count
+	 */
+	public static long hitCount() {
+		return SHARED.hits.sum();
+	}
+
+	/**
+	 * The number of lookups of the shared cache that compiled a pattern.
+	 *
+	 * @return the miss count
+	 */
+	public static long missCount() {
+		return SHARED.misses.sum();
+	}
+
+	/**
+	 * The number of entries evicted to keep the shared cache within {@link #MAX_SIZE}.
+	 *
+	 * @return the eviction count
+	 */
+	public static long evictionCount() {
+		return SHARED.evictions.sum();
+	}
+
+	/**
+	 * The number of formatters in the shared cache.
+	 *
+	 * @return the size
+	 */
+	public static int size() {
+		return SHARED.cache.size();
+	}
+
+	/**
+	 * Gets the formatter of the given pattern, API, locale and zone. A repeat of the most recent lookup of the API is
+	 * served without creating a key, so that formatting with a steady pattern creates no objects.
+	 *
+	 * @param pattern the pattern
+	 * @param api the api
+	 * @param locale the locale
+	 * @param zone the zone
+	 * @return the formatter
+	 */
+	private Object get(String pattern, Api api, Locale locale, TimeZone zone) {
+		int slot = api.ordinal() * 2 + (zone == null ? 0 : 1);
+		Recent last = recent.get(slot);
+		if (last != null && last.key.locale == locale && last.key.zone == zone && last.key.pattern.equals(pattern)) {
+			hits.increment();
+			return last.formatter;
+		}
+		Key key = new Key(pattern, api, locale, zone);
+		Object formatter = get(key);
+		recent.set(slot, new Recent(key, formatter));
+		return formatter;
+	}
+
+	/**
+	 * Gets the formatter of the given key, compiling it on a miss.
+	 *
+	 * @param key the key
+	 * @return the formatter
+	 */
+	private Object get(Key key) {
+		Object formatter = cache.get(key);
+		if (formatter != null) {
+			hits.increment();
+			return formatter;
+		}
+		misses.increment();
+		formatter = compile(key);
+		Object existing = cache.putIfAbsent(key, formatter);
+		if (existing != null) {
+			return existing;
+		}
+		evictOverflow(key);
+		return formatter;
+	}
+
+	/**
+	 * Evicts entries other than the given one until the cache is within its bound.
+	 *
+	 * @param retained the key to retain
+	 */
+	private void evictOverflow(Key retained) {
+		Iterator<Key> keys = cache.keySet().iterator();
+		while (cache.size() > maxSize && keys.hasNext()) {
+			Key key = keys.next();
+			if (key != retained && cache.remove(key) != null) {
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Compiles the formatter of the given key.
+	 *
+	 * @param key the key
+	 * @return the formatter
+	 */
+	private static Object compile(Key key) {
+		switch (key.api) {
+		case JAVA_TIME:
+			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(key.pattern, key.locale);
+			return key.zone == null ? formatter : formatter.withZone(key.zone.toZoneId());
+		case JODA:
+			org.joda.time.format.DateTimeFormatter jodaFormatter = DateTimeFormat.forPattern(key.pattern)
+					.withLocale(key.locale);
+			return key.zone == null ? jodaFormatter : jodaFormatter.withZone(DateTimeZone.forTimeZone(key.zone));
+		default:
+			return LegacyPattern.compile(key.pattern, key.locale, key.zone);
+		}
+	}
+}
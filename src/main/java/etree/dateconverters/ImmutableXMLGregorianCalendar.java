@@ -0,0 +1,827 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.GregorianChronology;
+
+
+/**
+ * The Class ImmutableXMLGregorianCalendar.
+ * 
+ * An immutable XMLGregorianCalendar held in int and long fields instead of the BigInteger and BigDecimal fields of
+ * the JDK implementation. Its values, lexical form, ordering and GregorianCalendar are those of the JDK
+ * implementation with the same fields. Years are limited to the int range without an eon, and fractional seconds to
+ * 18 digits. The setters, {@link #add(Duration)}, {@link #clear()} and {@link #reset()} throw
+ * UnsupportedOperationException.
+ * 
+ * Note that the JDK implementation can only be compared to instances of its own class; {@link #toJdk()} gives one.
+ */
+public final class ImmutableXMLGregorianCalendar extends XMLGregorianCalendar {
+
+	/** The Constant UNDEFINED. */
+	private static final int UNDEFINED = DatatypeConstants.FIELD_UNDEFINED;
+
+	/** The Constant MAX_TIMEZONE, the largest offset in minutes. */
+	private static final int MAX_TIMEZONE = 14 * 60;
+
+	/** The Constant MAX_FRACTION_SCALE. */
+	private static final int MAX_FRACTION_SCALE = 18;
+
+	/** The Constant POWERS_OF_TEN. */
+	private static final long[] POWERS_OF_TEN = new long[MAX_FRACTION_SCALE + 1];
+
+	/** The Constant PURE_GREGORIAN_CHANGE, the change date of a GregorianCalendar that is always Gregorian. */
+	private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+
+	/** The zone ids of the timezone offsets, indexed by minutes from -14:00, created on first use. */
+	private static final ZoneId[] ZONE_IDS = new ZoneId[2 * MAX_TIMEZONE + 1];
+
+	/** The Joda zones of the timezone offsets, indexed by minutes from -14:00, created on first use. */
+	private static final DateTimeZone[] JODA_ZONES = new DateTimeZone[2 * MAX_TIMEZONE + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1L;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+		}
+	}
+
+	/** The year. */
+	private final int year;
+
+	/** The month. */
+	private final int month;
+
+	/** The day. */
+	private final int day;
+
+	/** The hour. */
+	private final int hour;
+
+	/** The minute. */
+	private final int minute;
+
+	/** The second. */
+	private final int second;
+
+	/** The unscaled fractional second. */
+	private final long fraction;
+
+	/** The scale of the fractional second, or FIELD_UNDEFINED. */
+	private final int fractionScale;
+
+	/** The timezone offset in minutes. */
+	private final int timezone;
+
+	/** The JDK implementation with the same fields, created on first use. */
+	private volatile XMLGregorianCalendar jdk;
+
+	/**
+	 * Instantiates a new immutable XML gregorian calendar. The fields are valid.
+	 *
+	 * @param year the year
+	 * @param month the month
+	 * @param day the day
+	 * @param hour the hour
+	 * @param minute the minute
+	 * @param second the second
+	 * @param fraction the unscaled fractional second
+	 * @param fractionScale the scale of the fractional second
+	 * @param timezone the timezone
+	 */
+	private ImmutableXMLGregorianCalendar(int year, int month, int day, int hour, int minute, int second,
+			long fraction, int fractionScale, int timezone) {
+		this.year = year;
+		this.month = month;
+		this.day = day;
+		this.hour = hour;
+		this.minute = minute;
+		this.second = second;
+		this.fraction = fraction;
+		this.fractionScale = fractionScale;
+		this.timezone = timezone;
+	}
+
+	/**
+	 * Immutable XML gregorian calendar of the given fields, as
+	 * {@link javax.xml.datatype.DatatypeFactory#newXMLGregorianCalendar(int, int, int, int, int, int, int, int)}
+	 * creates it. Any field may be FIELD_UNDEFINED.
+	 *
+	 * @param year the year
+	 * @param month the month
+	 * @param day the day
+	 * @param hour the hour
+	 * @param minute the minute
+	 * @param second the second
+	 * @param millisecond the millisecond
+	 * @param timezone the timezone offset in minutes
+	 * @return the immutable XML gregorian calendar
+	 * @throws IllegalArgumentException if the fields are not a valid XMLGregorianCalendar
+	 */
+	public static ImmutableXMLGregorianCalendar of(int year, int month, int day, int hour, int minute, int second,
+			int millisecond, int timezone) {
+		if (hour == 24) {
+			// 24:00:00 is the start of the next day, as the JDK implementation normalizes it.
+			return of(ToXMLGregorianCalendar.datatypeFactory(null).newXMLGregorianCalendar(year, month, day, hour,
+					minute, second, millisecond, timezone));
+		}
+		if (!isField(millisecond, 0, 999)
+				|| second == 60 && !(hour == 23 && minute == 59 || hour == 0 && minute == 0)) {
+			throw invalid(year, month, day, hour, minute, second, millisecond, timezone);
+		}
+		return of(year, month, day, hour, minute, second, millisecond == UNDEFINED ? 0L : millisecond,
+				millisecond == UNDEFINED ? UNDEFINED : 3, timezone);
+	}
+
+	/**
+	 * Immutable XML gregorian calendar with the values of the given one.
+	 *
+	 * @param calendar the XML gregorian calendar
+	 * @return the calendar itself if it is immutable, else an immutable copy of it
+	 * @throws IllegalArgumentException if the year is beyond the int range or the calendar is not valid
+	 */
+	public static ImmutableXMLGregorianCalendar of(XMLGregorianCalendar calendar) {
+		if (calendar instanceof ImmutableXMLGregorianCalendar) {
+			return (ImmutableXMLGregorianCalendar) calendar;
+		}
+		if (calendar.getEon() != null) {
+			throw new IllegalArgumentException("The year " + calendar.getEonAndYear() + " is beyond the int range.");
+		}
+		BigDecimal fractionalSecond = calendar.getFractionalSecond();
+		long fraction = 0L;
+		int fractionScale = UNDEFINED;
+		if (fractionalSecond != null) {
+			if (fractionalSecond.scale() < 0) {
+				fractionalSecond = fractionalSecond.setScale(0);
+			} else if (fractionalSecond.scale() > MAX_FRACTION_SCALE) {
+				fractionalSecond = fractionalSecond.stripTrailingZeros();
+				if (fractionalSecond.scale() > MAX_FRACTION_SCALE) {
+					fractionalSecond = fractionalSecond.setScale(MAX_FRACTION_SCALE, RoundingMode.DOWN);
+				}
+			}
+			fraction = fractionalSecond.unscaledValue().longValue();
+			fractionScale = fractionalSecond.scale();
+		}
+		return of(calendar.getYear(), calendar.getMonth(), calendar.getDay(), calendar.getHour(),
+				calendar.getMinute(), calendar.getSecond(), fraction, fractionScale, calendar.getTimezone());
+	}
+
+	/**
+	 * Immutable XML gregorian calendar of the fields of the given calendar, as
+	 * {@link javax.xml.datatype.DatatypeFactory#newXMLGregorianCalendar(GregorianCalendar)} takes them.
+	 *
+	 * @param calendar the gregorian calendar
+	 * @return the immutable XML gregorian calendar
+	 */
+	public static ImmutableXMLGregorianCalendar of(GregorianCalendar calendar) {
+		int year = calendar.get(Calendar.YEAR);
+		if (calendar.get(Calendar.ERA) == GregorianCalendar.BC) {
+			year = -year;
+		}
+		return of(year, calendar.get(Calendar.MONTH) + 1, calendar.get(Calendar.DAY_OF_MONTH),
+				calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND),
+				calendar.get(Calendar.MILLISECOND),
+				(calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET)) / 60_000);
+	}
+
+	/**
+	 * Immutable XML gregorian calendar of the given fields, validated as the JDK implementation validates the fields
+	 * it is given one by one. An hour of 24 is left to the JDK implementation.
+	 *
+	 * @param year the year
+	 * @param month the month
+	 * @param day the day
+	 * @param hour the hour
+	 * @param minute the minute
+	 * @param second the second
+	 * @param fraction the unscaled fractional second
+	 * @param fractionScale the scale of the fractional second, or FIELD_UNDEFINED
+	 * @param timezone the timezone
+	 * @return the immutable XML gregorian calendar
+	 */
+	static ImmutableXMLGregorianCalendar of(int year, int month, int day, int hour, int minute, int second,
+			long fraction, int fractionScale, int timezone) {
+		boolean valid = year != 0 && isField(year, -999_999_999, 999_999_999) && isField(month, 1, 12)
+				&& isField(day, 1, 31) && isField(hour, 0, 23) && isField(minute, 0, 59) && isField(second, 0, 60)
+				&& isField(timezone, -MAX_TIMEZONE, MAX_TIMEZONE);
+		if (valid && month != UNDEFINED && day != UNDEFINED) {
+			valid = day <= maximumDayInMonth(year == UNDEFINED ? 2000 : year, month);
+		}
+		if (!valid) {
+			BigDecimal fractionalSecond = fractionScale == UNDEFINED ? null : BigDecimal.valueOf(fraction,
+					fractionScale);
+			throw new IllegalArgumentException("Invalid XMLGregorianCalendar fields: year " + year + ", month "
+					+ month + ", day " + day + ", hour " + hour + ", minute " + minute + ", second " + second
+					+ ", fractional second " + fractionalSecond + ", timezone " + timezone);
+		}
+		return new ImmutableXMLGregorianCalendar(year, month, day, hour, minute, second, fraction, fractionScale,
+				timezone);
+	}
+
+	/**
+	 * Invalid fields.
+	 *
+	 * @param year the year
+	 * @param month the month
+	 * @param day the day
+	 * @param hour the hour
+	 * @param minute the minute
+	 * @param second the second
+	 * @param millisecond the millisecond
+	 * @param timezone the timezone
+	 * @return the illegal argument exception
+	 */
+	private static IllegalArgumentException invalid(int year, int month, int day, int hour, int minute, int second,
+			int millisecond, int timezone) {
+		return new IllegalArgumentException("Invalid XMLGregorianCalendar fields: year " + year + ", month " + month
+				+ ", day " + day + ", hour " + hour + ", minute " + minute + ", second " + second + ", millisecond "
+				+ millisecond + ", timezone " + timezone);
+	}
+
+	/**
+	 * Checks if the given value is FIELD_UNDEFINED or within the given bounds.
+	 *
+	 * @param value the value
+	 * @param min the min
+	 * @param max the max
+	 * @return true, if is field
+	 */
+	private static boolean isField(int value, int min, int max) {
+		return value == UNDEFINED || value >= min && value <= max;
+	}
+
+	/**
+	 * Maximum day in the given month of the given year, with leap years computed on the signed year as the JDK
+	 * implementation computes them.
+	 *
+	 * @param year the year
+	 * @param month the month
+	 * @return the maximum day in month
+	 */
+	private static int maximumDayInMonth(int year, int month) {
+		if (month == DatatypeConstants.FEBRUARY) {
+			return year % 400 == 0 || year % 100 != 0 && year % 4 == 0 ? 29 : 28;
+		}
+		return AbstractDateConversions.lengthOfMonth(2001, month);
+	}
+
+	/**
+	 * The JDK implementation of this XMLGregorianCalendar, a new mutable copy.
+	 *
+	 * @return the XML gregorian calendar
+	 */
+	public XMLGregorianCalendar toJdk() {
+		// Set one by one, the fields are validated as they are here; a leap second is not tied to 23:59. The JDK
+		// implementation cannot clone such a leap second itself.
+		XMLGregorianCalendar calendar = ToXMLGregorianCalendar.datatypeFactory(this).newXMLGregorianCalendar();
+		calendar.setYear(year);
+		calendar.setMonth(month);
+		calendar.setDay(day);
+		calendar.setHour(hour);
+		calendar.setMinute(minute);
+		calendar.setSecond(second);
+		calendar.setFractionalSecond(getFractionalSecond());
+		calendar.setTimezone(timezone);
+		return calendar;
+	}
+
+	/**
+	 * The JDK implementation of this XMLGregorianCalendar, shared and therefore not to be handed out.
+	 *
+	 * @return the XML gregorian calendar
+	 */
+	private XMLGregorianCalendar jdk() {
+		XMLGregorianCalendar calendar = jdk;
+		if (calendar == null) {
+			calendar = toJdk();
+			jdk = calendar;
+		}
+		return calendar;
+	}
+
+	/**
+	 * Checks if the date and time fields are all set, with a year of the common era before 10000 and no leap second,
+	 * which is when the fast paths apply.
+	 *
+	 * @return true, if is plain date time
+	 */
+	private boolean isPlainDateTime() {
+		return year >= 1 && year <= 9999 && month != UNDEFINED && day != UNDEFINED && hour != UNDEFINED
+				&& minute != UNDEFINED && second != UNDEFINED && second < 60;
+	}
+
+	/**
+	 * Local millis of the fields, with the defaults a cleared GregorianCalendar has for the unset ones.
+	 *
+	 * @return the local millis, or Long.MIN_VALUE for years outside 1 to 9999
+	 */
+	private long localMillis() {
+		int y = year == UNDEFINED ? 1970 : year;
+		if (y < 1 || y > 9999) {
+			return Long.MIN_VALUE;
+		}
+		long millis = AbstractDateConversions.epochDay(y, month == UNDEFINED ? 1 : month, day == UNDEFINED ? 1 : day)
+				* AbstractDateConversions.MILLIS_PER_DAY;
+		if (hour != UNDEFINED) {
+			millis += hour * 3_600_000L;
+		}
+		if (minute != UNDEFINED) {
+			millis += minute * 60_000L;
+		}
+		if (second != UNDEFINED) {
+			millis += second * 1000L;
+		}
+		int millisecond = getMillisecond();
+		return millisecond == UNDEFINED ? millis : millis + millisecond;
+	}
+
+	/**
+	 * Epoch-millis of this XMLGregorianCalendar, as {@link #toGregorianCalendar()} has them.
+	 *
+	 * @return the epoch millis
+	 */
+	long epochMillis() {
+		long localMillis = localMillis();
+		if (localMillis != Long.MIN_VALUE) {
+			if (timezone != UNDEFINED) {
+				return localMillis - timezone * 60_000L;
+			}
+			long millis = AbstractDateConversions.zoneMillis(AbstractDateConversions.DEFAULT_TIME_ZONE, localMillis);
+			if (millis != Long.MIN_VALUE) {
+				return millis;
+			}
+		}
+		return toGregorianCalendar().getTimeInMillis();
+	}
+
+	/**
+	 * Zoned date-time of this XMLGregorianCalendar, as {@link GregorianCalendar#toZonedDateTime()} of
+	 * {@link #toGregorianCalendar()} gives it.
+	 *
+	 * @return the zoned date time
+	 */
+	ZonedDateTime zonedDateTime() {
+		return Instant.ofEpochMilli(epochMillis()).atZone(zoneId());
+	}
+
+	/**
+	 * Local date-time of this XMLGregorianCalendar, as the {@link #zonedDateTime()} has it. With a timezone these are
+	 * the fields themselves.
+	 *
+	 * @return the local date time
+	 */
+	LocalDateTime localDateTime() {
+		if (timezone != UNDEFINED && isPlainDateTime()) {
+			int millisecond = getMillisecond();
+			return LocalDateTime.of(year, month, day, hour, minute, second,
+					millisecond == UNDEFINED ? 0 : millisecond * (int) AbstractDateConversions.NANOS_PER_MILLI);
+		}
+		return zonedDateTime().toLocalDateTime();
+	}
+
+	/**
+	 * Local date of this XMLGregorianCalendar, as the {@link #zonedDateTime()} has it.
+	 *
+	 * @return the local date
+	 */
+	LocalDate localDate() {
+		if (timezone != UNDEFINED && isPlainDateTime()) {
+			return LocalDate.of(year, month, day);
+		}
+		return zonedDateTime().toLocalDate();
+	}
+
+	/**
+	 * Joda chronology of this XMLGregorianCalendar, as Joda-Time takes it from {@link #toGregorianCalendar()}.
+	 *
+	 * @return the chronology
+	 */
+	Chronology jodaChronology() {
+		return GregorianChronology.getInstance(jodaZone());
+	}
+
+	/**
+	 * The zone id of the time zone of {@link #toGregorianCalendar()}.
+	 *
+	 * @return the zone id
+	 */
+	private ZoneId zoneId() {
+		if (timezone == UNDEFINED) {
+			return AbstractDateConversions.DEFAULT_ZONE_ID;
+		}
+		ZoneId zoneId = ZONE_IDS[timezone + MAX_TIMEZONE];
+		if (zoneId == null) {
+			zoneId = getTimeZone(UNDEFINED).toZoneId();
+			ZONE_IDS[timezone + MAX_TIMEZONE] = zoneId;
+		}
+		return zoneId;
+	}
+
+	/**
+	 * The Joda zone of the time zone of {@link #toGregorianCalendar()}.
+	 *
+	 * @return the date time zone
+	 */
+	private DateTimeZone jodaZone() {
+		if (timezone == UNDEFINED) {
+			return AbstractDateConversions.DEFAULT_JODA_DATE_TIME_ZONE;
+		}
+		DateTimeZone zone = JODA_ZONES[timezone + MAX_TIMEZONE];
+		if (zone == null) {
+			zone = DateTimeZone.forTimeZone(getTimeZone(UNDEFINED));
+			JODA_ZONES[timezone + MAX_TIMEZONE] = zone;
+		}
+		return zone;
+	}
+
+	@Override
+	public BigInteger getEon() {
+		return null;
+	}
+
+	@Override
+	public int getYear() {
+		return year;
+	}
+
+	@Override
+	public BigInteger getEonAndYear() {
+		return year == UNDEFINED ? null : BigInteger.valueOf(year);
+	}
+
+	@Override
+	public int getMonth() {
+		return month;
+	}
+
+	@Override
+	public int getDay() {
+		return day;
+	}
+
+	@Override
+	public int getTimezone() {
+		return timezone;
+	}
+
+	@Override
+	public int getHour() {
+		return hour;
+	}
+
+	@Override
+	public int getMinute() {
+		return minute;
+	}
+
+	@Override
+	public int getSecond() {
+		return second;
+	}
+
+	@Override
+	public int getMillisecond() {
+		if (fractionScale == UNDEFINED) {
+			return UNDEFINED;
+		}
+		if (fractionScale <= 3) {
+			return (int) (fraction * POWERS_OF_TEN[3 - fractionScale]);
+		}
+		return (int) (fraction / POWERS_OF_TEN[fractionScale - 3]);
+	}
+
+	@Override
+	public BigDecimal getFractionalSecond() {
+		return fractionScale == UNDEFINED ? null : BigDecimal.valueOf(fraction, fractionScale);
+	}
+
+	/**
+	 * Compares this XMLGregorianCalendar to the given one, as the JDK implementation does. Date-times with all fields
+	 * set and both or neither with a timezone are compared by their values.
+	 *
+	 * @param calendar the calendar
+	 * @return the partial order relation
+	 */
+	@Override
+	public int compare(XMLGregorianCalendar calendar) {
+		if (calendar instanceof ImmutableXMLGregorianCalendar) {
+			ImmutableXMLGregorianCalendar other = (ImmutableXMLGregorianCalendar) calendar;
+			if (isPlainDateTime() && other.isPlainDateTime()
+					&& (timezone == UNDEFINED) == (other.timezone == UNDEFINED)) {
+				int result = Long.compare(utcSeconds(), other.utcSeconds());
+				if (result == 0) {
+					int scale = Math.max(Math.max(fractionScale, other.fractionScale), 0);
+					result = Long.compare(scaledFraction(scale), other.scaledFraction(scale));
+				}
+				return result < 0 ? DatatypeConstants.LESSER
+						: result > 0 ? DatatypeConstants.GREATER : DatatypeConstants.EQUAL;
+			}
+			return jdk().compare(other.jdk());
+		}
+		return jdk().compare(calendar);
+	}
+
+	/**
+	 * Seconds of the date-time fields from the epoch, less the timezone if it is set.
+	 *
+	 * @return the seconds
+	 */
+	private long utcSeconds() {
+		long seconds = AbstractDateConversions.epochDay(year, month, day) * AbstractDateConversions.SECONDS_PER_DAY
+				+ hour * 3600 + minute * 60 + second;
+		return timezone == UNDEFINED ? seconds : seconds - timezone * 60L;
+	}
+
+	/**
+	 * The fractional second unscaled to the given scale, zero if it is not set.
+	 *
+	 * @param scale the scale, not less than the own scale
+	 * @return the unscaled fraction
+	 */
+	private long scaledFraction(int scale) {
+		return fractionScale == UNDEFINED ? 0L : fraction * POWERS_OF_TEN[scale - fractionScale];
+	}
+
+	@Override
+	public XMLGregorianCalendar normalize() {
+		if (timezone == 0 && second != 60) {
+			return this;
+		}
+		if (timezone == UNDEFINED || !isPlainDateTime()) {
+			return of(jdk().normalize());
+		}
+		long seconds = utcSeconds();
+		LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(seconds, AbstractDateConversions.SECONDS_PER_DAY));
+		if (date.getYear() < 1 || date.getYear() > 9999) {
+			return of(jdk().normalize());
+		}
+		int secondOfDay = (int) Math.floorMod(seconds, AbstractDateConversions.SECONDS_PER_DAY);
+		return new ImmutableXMLGregorianCalendar(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+				secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, fraction, fractionScale, 0);
+	}
+
+	@Override
+	public String toXMLFormat() {
+		return XsdLexical.append(this, new StringBuilder(35)).toString();
+	}
+
+	/**
+	 * The unscaled fractional second.
+	 *
+	 * @return the unscaled fractional second
+	 */
+	long fraction() {
+		return fraction;
+	}
+
+	/**
+	 * The scale of the fractional second.
+	 *
+	 * @return the scale, or FIELD_UNDEFINED if there is no fractional second
+	 */
+	int fractionScale() {
+		return fractionScale;
+	}
+
+	@Override
+	public QName getXMLSchemaType() {
+		int mask = (year != UNDEFINED ? 0x20 : 0) | (month != UNDEFINED ? 0x10 : 0) | (day != UNDEFINED ? 0x08 : 0)
+				| (hour != UNDEFINED ? 0x04 : 0) | (minute != UNDEFINED ? 0x02 : 0) | (second != UNDEFINED ? 0x01 : 0);
+		switch (mask) {
+		case 0x3F:
+			return DatatypeConstants.DATETIME;
+		case 0x38:
+			return DatatypeConstants.DATE;
+		case 0x07:
+			return DatatypeConstants.TIME;
+		case 0x30:
+			return DatatypeConstants.GYEARMONTH;
+		case 0x18:
+			return DatatypeConstants.GMONTHDAY;
+		case 0x20:
+			return DatatypeConstants.GYEAR;
+		case 0x10:
+			return DatatypeConstants.GMONTH;
+		case 0x08:
+			return DatatypeConstants.GDAY;
+		default:
+			throw new IllegalStateException(getClass().getName()
+					+ "#getXMLSchemaType() : Invalid set of fields set for XMLGregorianCalendar");
+		}
+	}
+
+	/**
+	 * Checks if is valid. The fields are validated when the instance is created.
+	 *
+	 * @return true
+	 */
+	@Override
+	public boolean isValid() {
+		return true;
+	}
+
+	/**
+	 * To gregorian calendar, as the JDK implementation creates it.
+	 *
+	 * @return the gregorian calendar
+	 */
+	@Override
+	public GregorianCalendar toGregorianCalendar() {
+		GregorianCalendar result = new GregorianCalendar(getTimeZone(UNDEFINED), defaultLocale());
+		result.clear();
+		result.setGregorianChange(PURE_GREGORIAN_CHANGE);
+		if (year != UNDEFINED) {
+			result.set(Calendar.ERA, year < 0 ? GregorianCalendar.BC : GregorianCalendar.AD);
+			result.set(Calendar.YEAR, Math.abs(year));
+		}
+		if (month != UNDEFINED) {
+			result.set(Calendar.MONTH, month - 1);
+		}
+		if (day != UNDEFINED) {
+			result.set(Calendar.DAY_OF_MONTH, day);
+		}
+		if (hour != UNDEFINED) {
+			result.set(Calendar.HOUR_OF_DAY, hour);
+		}
+		if (minute != UNDEFINED) {
+			result.set(Calendar.MINUTE, minute);
+		}
+		if (second != UNDEFINED) {
+			result.set(Calendar.SECOND, second);
+		}
+		if (fractionScale != UNDEFINED) {
+			result.set(Calendar.MILLISECOND, getMillisecond());
+		}
+		return result;
+	}
+
+	/**
+	 * The locale of the formatting properties, or the default locale, as the JDK implementation takes it.
+	 *
+	 * @return the locale
+	 */
+	private static Locale defaultLocale() {
+		String language = System.getProperty("user.language.format");
+		if (language == null) {
+			return Locale.getDefault();
+		}
+		String country = System.getProperty("user.country.format");
+		String variant = System.getProperty("user.variant.format");
+		if (country == null) {
+			return new Locale(language);
+		}
+		return variant == null ? new Locale(language, country) : new Locale(language, country, variant);
+	}
+
+	@Override
+	public GregorianCalendar toGregorianCalendar(TimeZone timezone, Locale locale, XMLGregorianCalendar defaults) {
+		return jdk().toGregorianCalendar(timezone, locale, defaults);
+	}
+
+	/**
+	 * The time zone of the timezone offset, or of the given default offset, with the custom id the JDK
+	 * implementation gives it.
+	 *
+	 * @param defaultZoneoffset the default zone offset
+	 * @return the time zone
+	 */
+	@Override
+	public TimeZone getTimeZone(int defaultZoneoffset) {
+		int offset = timezone == UNDEFINED ? defaultZoneoffset : timezone;
+		if (offset == UNDEFINED) {
+			return TimeZone.getDefault();
+		}
+		StringBuilder id = new StringBuilder(9).append("GMT").append(offset < 0 ? '-' : '+');
+		offset = Math.abs(offset);
+		id.append(offset / 60);
+		if (offset % 60 != 0) {
+			XsdLexical.appendNumber(id, offset % 60, 2);
+		}
+		return TimeZone.getTimeZone(id.toString());
+	}
+
+	/**
+	 * Clone. Being immutable, this XMLGregorianCalendar is its own clone.
+	 *
+	 * @return this XML gregorian calendar
+	 */
+	@Override
+	public Object clone() {
+		return this;
+	}
+
+	@Override
+	public void clear() {
+		throw unsupported();
+	}
+
+	@Override
+	public void reset() {
+		throw unsupported();
+	}
+
+	@Override
+	public void setYear(BigInteger year) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setYear(int year) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setMonth(int month) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setDay(int day) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setTimezone(int offset) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setHour(int hour) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setMinute(int minute) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setSecond(int second) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setMillisecond(int millisecond) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setFractionalSecond(BigDecimal fractional) {
+		throw unsupported();
+	}
+
+	@Override
+	public void add(Duration duration) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported modification.
+	 *
+	 * @return the unsupported operation exception
+	 */
+	private static UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("ImmutableXMLGregorianCalendar cannot be modified.");
+	}
+}
@@ -0,0 +1,314 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+
+/**
+ * The Class IsoDateParser.
+ * 
+ * A scanner of the common ISO-8601 forms, {@code yyyy-MM-dd} and {@code yyyy-MM-dd'T'HH:mm[:ss[.S...]]} with an
+ * optional {@code Z}, {@code +/-hh}, {@code +/-hhmm} or {@code +/-hh:mm} offset, that reads the fields straight off the
+ * text. The result is packed into a long as {@code (localMillis << 12) | offsetCode}, where the offset code is 0
+ * without an offset, else the offset minutes plus 1081. Anything else, including out-of-range fields and years
+ * before the Gregorian cutover which DateParserUtils parses leniently, is {@link #NOT_ISO} and left to
+ * DateParserUtils.
+ * 
+ * Text of {@link AsciiBytes} is read eight bytes at a time: the {@code yyyy-MM-} and {@code HH:mm:ss} parts are
+ * each checked and converted to their two-digit fields with a few arithmetic operations on one long.
+ */
+final class IsoDateParser extends AbstractDateConversions {
+
+	/** The Constant NOT_ISO. */
+	static final long NOT_ISO = Long.MIN_VALUE;
+
+	/** The Constant OFFSET_BITS. */
+	private static final int OFFSET_BITS = 12;
+
+	/** The Constant OFFSET_MASK. */
+	private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+	/** The Constant OFFSET_BIAS. */
+	private static final int OFFSET_BIAS = 18 * 60 + 1;
+
+	/** The Constant MIN_YEAR. */
+	private static final int MIN_YEAR = 1583;
+
+	/** The digit bytes of {@code yyyy-MM-}. */
+	private static final long DATE_DIGITS = 0x00FFFF00FFFFFFFFL;
+
+	/** The separator bytes of {@code yyyy-MM-}. */
+	private static final long DATE_SEPARATORS = 0x2D00002D00000000L;
+
+	/** The digit bytes of {@code HH:mm:ss}. */
+	private static final long TIME_DIGITS = 0xFFFF00FFFF00FFFFL;
+
+	/** The separator bytes of {@code HH:mm:ss}. */
+	private static final long TIME_SEPARATORS = 0x00003A00003A0000L;
+
+	/** The Constant ZEROS. */
+	private static final long ZEROS = 0x3030303030303030L;
+
+	/** The Constant SIXES. */
+	private static final long SIXES = 0x0606060606060606L;
+
+	/** The Constant HIGH_NIBBLES. */
+	private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+
+	/**
+	 * Instantiates a new iso date parser.
+	 */
+	private IsoDateParser() {
+	}
+
+	/**
+	 * Parses the given text.
+	 *
+	 * @param text the text
+	 * @return the packed local millis and offset, or NOT_ISO
+	 */
+	static long parse(CharSequence text) {
+		return parse(text, 0, text.length());
+	}
+
+	/**
+	 * Parses the given range of the text.
+	 *
+	 * @param text the text
+	 * @param start the start, inclusive
+	 * @param end the end, exclusive
+	 * @return the packed local millis and offset, or NOT_ISO
+	 */
+	static long parse(CharSequence text, int start, int end) {
+		if (end - start < 10) {
+			return NOT_ISO;
+		}
+		int century;
+		int yearOfCentury;
+		int month;
+		if (text instanceof AsciiBytes) {
+			long pairs = digitPairs(((AsciiBytes) text).longAt(start), DATE_DIGITS, DATE_SEPARATORS);
+			if (pairs < 0) {
+				return NOT_ISO;
+			}
+			century = (int) pairs & 0xFF;
+			yearOfCentury = (int) (pairs >>> 16) & 0xFF;
+			month = (int) (pairs >>> 40) & 0xFF;
+		} else if (text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-') {
+			century = twoDigits(text, start);
+			yearOfCentury = twoDigits(text, start + 2);
+			month = twoDigits(text, start + 5);
+		} else {
+			return NOT_ISO;
+		}
+		int day = twoDigits(text, start + 8);
+		if ((century | yearOfCentury | month | day) < 0) {
+			return NOT_ISO;
+		}
+		int year = century * 100 + yearOfCentury;
+		if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+			return NOT_ISO;
+		}
+		long localMillis = epochDay(year, month, day) * MILLIS_PER_DAY;
+		int pos = start + 10;
+		if (pos == end) {
+			return localMillis << OFFSET_BITS;
+		}
+		char separator = text.charAt(pos);
+		if ((separator != 'T' && separator != 't' && separator != ' ') || end - pos < 6) {
+			return NOT_ISO;
+		}
+		int hour = -1;
+		int minute = -1;
+		int second = 0;
+		int milli = 0;
+		boolean seconds = false;
+		if (text instanceof AsciiBytes && end - pos >= 9) {
+			long pairs = digitPairs(((AsciiBytes) text).longAt(pos + 1), TIME_DIGITS, TIME_SEPARATORS);
+			if (pairs >= 0) {
+				hour = (int) pairs & 0xFF;
+				minute = (int) (pairs >>> 24) & 0xFF;
+				second = (int) (pairs >>> 48) & 0xFF;
+				seconds = true;
+			}
+		}
+		if (!seconds) {
+			if (text.charAt(pos + 3) != ':') {
+				return NOT_ISO;
+			}
+			hour = twoDigits(text, pos + 1);
+			minute = twoDigits(text, pos + 4);
+			seconds = end - pos > 6 && text.charAt(pos + 6) == ':';
+			if (seconds) {
+				if (end - pos < 9) {
+					return NOT_ISO;
+				}
+				second = twoDigits(text, pos + 7);
+			}
+		}
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return NOT_ISO;
+		}
+		pos += 6;
+		if (seconds) {
+			pos += 3;
+			if (pos < end && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+				int fractionStart = ++pos;
+				int scale = 100;
+				while (pos < end && isDigit(text.charAt(pos))) {
+					milli += (text.charAt(pos) - '0') * scale;
+					scale /= 10;
+					pos++;
+				}
+				if (pos == fractionStart || pos - fractionStart > 9) {
+					return NOT_ISO;
+				}
+			}
+		}
+		localMillis += ((hour * 60L + minute) * 60L + second) * 1000L + milli;
+		if (pos == end) {
+			return localMillis << OFFSET_BITS;
+		}
+		int offsetMinutes = parseOffset(text, pos, end);
+		if (offsetMinutes == Integer.MIN_VALUE) {
+			return NOT_ISO;
+		}
+		return (localMillis << OFFSET_BITS) | (offsetMinutes + OFFSET_BIAS);
+	}
+
+	/**
+	 * Checks if the parsed text has an offset.
+	 *
+	 * @param iso the packed iso value
+	 * @return true, if successful
+	 */
+	static boolean hasOffset(long iso) {
+		return (iso & OFFSET_MASK) != 0;
+	}
+
+	/**
+	 * The local millis, i.e. the epoch-millis the parsed fields would have at offset zero.
+	 *
+	 * @param iso the packed iso value
+	 * @return the local millis
+	 */
+	static long localMillis(long iso) {
+		return iso >> OFFSET_BITS;
+	}
+
+	/**
+	 * The parsed offset in minutes.
+	 *
+	 * @param iso the packed iso value, with an offset
+	 * @return the offset minutes
+	 */
+	static int offsetMinutes(long iso) {
+		return (int) (iso & OFFSET_MASK) - OFFSET_BIAS;
+	}
+
+	/**
+	 * The epoch-millis of the parsed value. Text without an offset is taken to be in the default zone, resolved as
+	 * DateParserUtils does; it is not resolved here close to an offset transition.
+	 *
+	 * @param iso the packed iso value
+	 * @return the epoch millis, or NOT_ISO if the local time is close to an offset transition
+	 */
+	static long epochMillis(long iso) {
+		if (hasOffset(iso)) {
+			return localMillis(iso) - offsetMinutes(iso) * 60_000L;
+		}
+		return zoneMillis(DEFAULT_TIME_ZONE, localMillis(iso));
+	}
+
+	/**
+	 * Parses the offset of the remaining text.
+	 *
+	 * @param text the text
+	 * @param pos the position
+	 * @param end the end
+	 * @return the offset minutes, or Integer.MIN_VALUE if the remaining text is not an offset
+	 */
+	private static int parseOffset(CharSequence text, int pos, int end) {
+		char sign = text.charAt(pos);
+		if (sign == 'Z') {
+			return pos + 1 == end ? 0 : Integer.MIN_VALUE;
+		}
+		int length = end - pos;
+		if ((sign != '+' && sign != '-') || (length != 3 && length != 5 && length != 6)
+				|| (length == 6 && text.charAt(pos + 3) != ':')) {
+			return Integer.MIN_VALUE;
+		}
+		int hours = twoDigits(text, pos + 1);
+		int minutes = length == 3 ? 0 : twoDigits(text, end - 2);
+		if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+			return Integer.MIN_VALUE;
+		}
+		int offsetMinutes = hours * 60 + minutes;
+		return sign == '-' ? -offsetMinutes : offsetMinutes;
+	}
+
+	/**
+	 * Checks the eight ASCII bytes of a word against the given digit and separator bytes, and converts each pair of
+	 * digits to its value, in the byte of the first digit of the pair.
+	 *
+	 * @param word the word, the first byte lowest
+	 * @param digits the mask of the digit bytes
+	 * @param separators the separator bytes, zero elsewhere
+	 * @return the pair values, or -1 if the word does not match
+	 */
+	private static long digitPairs(long word, long digits, long separators) {
+		long zeros = ZEROS & digits;
+		long highNibbles = HIGH_NIBBLES & digits;
+		if ((word & ~digits) != separators || (word & highNibbles) != zeros
+				|| ((word + (SIXES & digits)) & highNibbles) != zeros) {
+			return -1;
+		}
+		long values = (word & digits) - zeros;
+		return values * 10 + (values >>> 8);
+	}
+
+	/**
+	 * Parses two ASCII digits.
+	 *
+	 * @param text the text
+	 * @param pos the position
+	 * @return the value, or a negative value if not two digits
+	 */
+	private static int twoDigits(CharSequence text, int pos) {
+		int tens = text.charAt(pos) - '0';
+		int ones = text.charAt(pos + 1) - '0';
+		if ((tens | ones | (9 - tens) | (9 - ones)) < 0) {
+			return -1;
+		}
+		return tens * 10 + ones;
+	}
+
+	/**
+	 * Checks if the char is an ASCII digit.
+	 *
+	 * @param c the c
+	 * @return true, if is digit
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
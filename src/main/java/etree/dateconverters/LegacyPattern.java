@@ -0,0 +1,715 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+
+/**
+ * The Class LegacyPattern.
+ * 
+ * An immutable, thread-safe parser of SimpleDateFormat patterns, compiled once per pattern. Parsing goes straight
+ * from the text to epoch-millis, without any formatter or calendar state. Only the pattern letters y, M, d, H, k, K,
+ * h, m, s, S, a, Z and X are compiled, for text whose fields are in range; anything else, including text the
+ * compiled pattern does not match, is handed to a clone of the SimpleDateFormat prototype, so the results and
+ * failures are those of SimpleDateFormat. Formatting writes the same compiled letters straight from the fields of
+ * the epoch-millis, for dates of the Gregorian calendar in locales with ASCII digits, and is likewise handed to
+ * SimpleDateFormat otherwise.
+ */
+final class LegacyPattern {
+
+	/** The result of a parse whose fields are valid but whose local time is close to an offset transition. */
+	static final long UNRESOLVED = Long.MIN_VALUE + 1;
+
+	/** The Constant NO_OFFSET. */
+	private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+	/** The Constant NO_VALUE. */
+	private static final int NO_VALUE = -1;
+
+	/** The Constant MAX_DIGITS. */
+	private static final int MAX_DIGITS = 9;
+
+	/** The epoch day of the Gregorian cutover of SimpleDateFormat, 1582-10-15. */
+	private static final long GREGORIAN_EPOCH_DAY = -141_427L;
+
+	/** The pattern elements, or null if the pattern is not compiled. */
+	private final Element[] elements;
+
+	/** The SimpleDateFormat prototype, cloned per fallback. */
+	private final SimpleDateFormat prototype;
+
+	/** The zone of local date-times. */
+	private final TimeZone zone;
+
+	/** The month names. */
+	private final String[] months;
+
+	/** The short month names. */
+	private final String[] shortMonths;
+
+	/** The am/pm markers. */
+	private final String[] amPmMarkers;
+
+	/** The first year of the two-digit year century. */
+	private final int centuryStartYear;
+
+	/** Whether the compiled elements format as SimpleDateFormat does. */
+	private final boolean formattable;
+
+	/**
+	 * A compiled pattern element: either a literal or a pattern letter repeated count times.
+	 */
+	private static final class Element {
+
+		/** The letter, or 0 for a literal. */
+		private final char letter;
+
+		/** The count. */
+		private final int count;
+
+		/** The literal. */
+		private final String literal;
+
+		/** Whether the numeric field abuts the next field, and so takes exactly count digits. */
+		private final boolean abutting;
+
+		/**
+		 * Instantiates a new element.
+		 *
+		 * @param letter the letter
+		 * @param count the count
+		 * @param literal the literal
+		 * @param abutting the abutting
+		 */
+		private Element(char letter, int count, String literal, boolean abutting) {
+			this.letter = letter;
+			this.count = count;
+			this.literal = literal;
+			this.abutting = abutting;
+		}
+
+		/**
+		 * Checks if the element is a numeric field.
+		 *
+		 * @return true, if is numeric
+		 */
+		private boolean isNumeric() {
+			switch (letter) {
+			case 'y':
+			case 'd':
+			case 'H':
+			case 'k':
+			case 'K':
+			case 'h':
+			case 'm':
+			case 's':
+			case 'S':
+				return true;
+			case 'M':
+				return count <= 2;
+			default:
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Instantiates a new legacy pattern.
+	 *
+	 * @param elements the elements
+	 * @param prototype the prototype
+	 */
+	private LegacyPattern(Element[] elements, SimpleDateFormat prototype) {
+		this.elements = elements;
+		this.prototype = prototype;
+		this.zone = prototype.getTimeZone();
+		DateFormatSymbols symbols = prototype.getDateFormatSymbols();
+		this.months = symbols.getMonths();
+		this.shortMonths = symbols.getShortMonths();
+		this.amPmMarkers = symbols.getAmPmStrings();
+		Calendar centuryStart = Calendar.getInstance(zone);
+		centuryStart.setTime(prototype.get2DigitYearStart());
+		this.centuryStartYear = centuryStart.get(Calendar.YEAR);
+		this.formattable = elements != null && prototype.getCalendar().getClass() == GregorianCalendar.class
+				&& prototype.getNumberFormat() instanceof DecimalFormat
+				&& ((DecimalFormat) prototype.getNumberFormat()).getDecimalFormatSymbols().getZeroDigit() == '0';
+	}
+
+	/**
+	 * Compiles the given SimpleDateFormat pattern.
+	 *
+	 * @param pattern the pattern
+	 * @param locale the locale
+	 * @param zone the zone of local date-times
+	 * @return the legacy pattern
+	 * @throws IllegalArgumentException if the pattern is invalid, as SimpleDateFormat does
+	 */
+	static LegacyPattern compile(String pattern, Locale locale, TimeZone zone) {
+		SimpleDateFormat prototype = new SimpleDateFormat(pattern, locale);
+		prototype.setTimeZone((TimeZone) zone.clone());
+		return new LegacyPattern(compileElements(pattern), prototype);
+	}
+
+	/**
+	 * Parses the given text to epoch-millis.
+	 *
+	 * @param text the text
+	 * @return the epoch millis
+	 * @throws ParseException if the text cannot be parsed
+	 */
+	long parseMillis(CharSequence text) throws ParseException {
+		if (elements != null) {
+			long millis = parseCompiled(text);
+			if (millis != Long.MIN_VALUE && millis != UNRESOLVED) {
+				return millis;
+			}
+		}
+		return ((SimpleDateFormat) prototype.clone()).parse(text.toString()).getTime();
+	}
+
+	/**
+	 * Parses the given text with the compiled elements only, without the SimpleDateFormat fallback.
+	 *
+	 * @param text the text
+	 * @return the epoch millis, Long.MIN_VALUE if the compiled elements cannot parse the text, or UNRESOLVED if
+	 *         the local time is too close to an offset transition to be resolved here
+	 */
+	long tryParseMillis(CharSequence text) {
+		return elements == null ? Long.MIN_VALUE : parseCompiled(text);
+	}
+
+	/**
+	 * Checks if {@link #parseMillis(CharSequence)} parses the given text, without throwing if it does not.
+	 *
+	 * @param text the text
+	 * @return true, if the text is parseable
+	 */
+	boolean matches(CharSequence text) {
+		if (tryParseMillis(text) != Long.MIN_VALUE) {
+			return true;
+		}
+		return ((SimpleDateFormat) prototype.clone()).parse(text.toString(), new ParsePosition(0)) != null;
+	}
+
+	/**
+	 * Appends the given epoch-millis, formatted in the given zone.
+	 *
+	 * @param millis the epoch millis
+	 * @param zone the zone
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	StringBuilder format(long millis, TimeZone zone, StringBuilder builder) {
+		if (formattable) {
+			long localMillis = millis + zone.getOffset(millis);
+			long epochDay = Math.floorDiv(localMillis, AbstractDateConversions.MILLIS_PER_DAY);
+			if (epochDay >= GREGORIAN_EPOCH_DAY) {
+				int millisOfDay = (int) (localMillis - epochDay * AbstractDateConversions.MILLIS_PER_DAY);
+				return formatCompiled(AbstractDateConversions.yearMonthDay(epochDay), millisOfDay,
+						(int) (localMillis - millis), builder);
+			}
+		}
+		SimpleDateFormat format = (SimpleDateFormat) prototype.clone();
+		format.setTimeZone(zone);
+		return builder.append(format.format(new Date(millis)));
+	}
+
+	/**
+	 * Appends the given local date and time with the compiled elements.
+	 *
+	 * @param date the date, packed as {@link AbstractDateConversions#yearMonthDay(long)} packs it
+	 * @param millisOfDay the millis of day
+	 * @param offset the offset millis
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	private StringBuilder formatCompiled(long date, int millisOfDay, int offset, StringBuilder builder) {
+		int hour = millisOfDay / 3_600_000;
+		for (Element element : elements) {
+			int count = element.count;
+			switch (element.letter) {
+			case 0:
+				builder.append(element.literal);
+				break;
+			case 'y':
+				int year = (int) (date >> 9);
+				XsdLexical.appendNumber(builder, count == 2 ? year % 100 : year, count);
+				break;
+			case 'M':
+				int month = (int) (date >> 5) & 15;
+				if (count >= 4) {
+					builder.append(months[month - 1]);
+				} else if (count == 3) {
+					builder.append(shortMonths[month - 1]);
+				} else {
+					XsdLexical.appendNumber(builder, month, count);
+				}
+				break;
+			case 'd':
+				XsdLexical.appendNumber(builder, date & 31, count);
+				break;
+			case 'H':
+				XsdLexical.appendNumber(builder, hour, count);
+				break;
+			case 'k':
+				XsdLexical.appendNumber(builder, hour == 0 ? 24 : hour, count);
+				break;
+			case 'K':
+				XsdLexical.appendNumber(builder, hour % 12, count);
+				break;
+			case 'h':
+				XsdLexical.appendNumber(builder, hour % 12 == 0 ? 12 : hour % 12, count);
+				break;
+			case 'm':
+				XsdLexical.appendNumber(builder, millisOfDay / 60_000 % 60, count);
+				break;
+			case 's':
+				XsdLexical.appendNumber(builder, millisOfDay / 1000 % 60, count);
+				break;
+			case 'S':
+				XsdLexical.appendNumber(builder, millisOfDay % 1000, count);
+				break;
+			case 'a':
+				builder.append(amPmMarkers[hour < 12 ? 0 : 1]);
+				break;
+			case 'Z':
+				int zoneMinutes = offset / 60_000;
+				builder.append(zoneMinutes >= 0 ? '+' : '-');
+				zoneMinutes = Math.abs(zoneMinutes);
+				XsdLexical.appendNumber(builder, zoneMinutes / 60 * 100 + zoneMinutes % 60, 4);
+				break;
+			default:
+				if (offset == 0) {
+					builder.append('Z');
+					break;
+				}
+				int isoMinutes = offset / 60_000;
+				builder.append(isoMinutes >= 0 ? '+' : '-');
+				isoMinutes = Math.abs(isoMinutes);
+				XsdLexical.appendNumber(builder, isoMinutes / 60, 2);
+				if (count > 1) {
+					XsdLexical.appendNumber(count == 3 ? builder.append(':') : builder, isoMinutes % 60, 2);
+				}
+				break;
+			}
+		}
+		return builder;
+	}
+
+	/**
+	 * Parses the given text with the compiled elements.
+	 *
+	 * @param text the text
+	 * @return the epoch millis, Long.MIN_VALUE if the text does not match, or UNRESOLVED if the local time is
+	 *         close to an offset transition
+	 */
+	private long parseCompiled(CharSequence text) {
+		int year = NO_VALUE;
+		int month = NO_VALUE;
+		int day = NO_VALUE;
+		int hourOfDay = NO_VALUE;
+		int hour = NO_VALUE;
+		int amPm = NO_VALUE;
+		int minute = 0;
+		int second = 0;
+		int milli = 0;
+		int offsetMillis = NO_OFFSET;
+		int pos = 0;
+		int length = text.length();
+		for (Element element : elements) {
+			if (element.letter == 0) {
+				if (!regionMatches(text, pos, element.literal, false)) {
+					return Long.MIN_VALUE;
+				}
+				pos += element.literal.length();
+				continue;
+			}
+			if (element.isNumeric()) {
+				int end = pos;
+				int limit = element.abutting ? Math.min(length, pos + element.count) : length;
+				while (end < limit && isDigit(text.charAt(end))) {
+					end++;
+				}
+				if (end == pos || end - pos > MAX_DIGITS || element.abutting && end - pos != element.count) {
+					return Long.MIN_VALUE;
+				}
+				int value = parseInt(text, pos, end);
+				switch (element.letter) {
+				case 'y':
+					year = element.count <= 2 && end - pos == 2 ? twoDigitYear(value) : value;
+					if (year == NO_VALUE) {
+						return Long.MIN_VALUE;
+					}
+					break;
+				case 'M':
+					month = value;
+					break;
+				case 'd':
+					day = value;
+					break;
+				case 'H':
+					hourOfDay = value;
+					break;
+				case 'k':
+					hourOfDay = value == 24 ? 0 : value;
+					break;
+				case 'K':
+					hour = value;
+					break;
+				case 'h':
+					hour = value == 12 ? 0 : value;
+					break;
+				case 'm':
+					minute = value;
+					break;
+				case 's':
+					second = value;
+					break;
+				default:
+					milli = value;
+					break;
+				}
+				pos = end;
+				continue;
+			}
+			switch (element.letter) {
+			case 'M': {
+				String[] names = months;
+				int idx = matchText(text, pos, months);
+				if (idx < 0) {
+					names = shortMonths;
+					idx = matchText(text, pos, shortMonths);
+				}
+				if (idx < 0) {
+					return Long.MIN_VALUE;
+				}
+				month = idx + 1;
+				pos += names[idx].length();
+				break;
+			}
+			case 'a': {
+				int idx = matchText(text, pos, amPmMarkers);
+				if (idx < 0) {
+					return Long.MIN_VALUE;
+				}
+				amPm = idx;
+				pos += amPmMarkers[idx].length();
+				break;
+			}
+			default:
+				int end = parseOffset(text, pos, element);
+				if (end < 0) {
+					return Long.MIN_VALUE;
+				}
+				offsetMillis = end == pos + 1 ? 0 : offsetMillis(text, pos, end);
+				if (offsetMillis == NO_OFFSET) {
+					return Long.MIN_VALUE;
+				}
+				pos = end;
+				break;
+			}
+		}
+		if (year == NO_VALUE) {
+			year = 1970;
+		}
+		if (month == NO_VALUE) {
+			month = 1;
+		}
+		if (day == NO_VALUE) {
+			day = 1;
+		}
+		if (hour != NO_VALUE) {
+			hourOfDay = amPm == 1 ? hour + 12 : hour;
+			if (hour > 11) {
+				return Long.MIN_VALUE;
+			}
+		} else if (hourOfDay == NO_VALUE) {
+			hourOfDay = 0;
+		}
+		if (year < 1583 || month < 1 || month > 12 || day < 1 || day > AbstractDateConversions.lengthOfMonth(year, month)
+				|| hourOfDay > 23 || minute > 59 || second > 59 || milli > 999) {
+			return Long.MIN_VALUE;
+		}
+		long localMillis = AbstractDateConversions.epochDay(year, month, day) * AbstractDateConversions.MILLIS_PER_DAY
+				+ ((hourOfDay * 60L + minute) * 60L + second) * 1000L + milli;
+		if (offsetMillis != NO_OFFSET) {
+			return localMillis - offsetMillis;
+		}
+		long millis = AbstractDateConversions.zoneMillis(zone, localMillis);
+		return millis == Long.MIN_VALUE ? UNRESOLVED : millis;
+	}
+
+	/**
+	 * Resolves a two-digit year within the century starting at the two-digit year start of SimpleDateFormat.
+	 *
+	 * @param value the two-digit value
+	 * @return the year, or NO_VALUE if the year is ambiguous without the full date
+	 */
+	private int twoDigitYear(int value) {
+		int ambiguous = centuryStartYear % 100;
+		if (value == ambiguous) {
+			return NO_VALUE;
+		}
+		return value + (centuryStartYear / 100) * 100 + (value < ambiguous ? 100 : 0);
+	}
+
+	/**
+	 * Finds the end of the zone offset at the given position.
+	 *
+	 * @param text the text
+	 * @param pos the position
+	 * @param element the element
+	 * @return the end of the offset, or -1 if not matched
+	 */
+	private static int parseOffset(CharSequence text, int pos, Element element) {
+		if (pos >= text.length()) {
+			return -1;
+		}
+		char sign = text.charAt(pos);
+		if (sign == 'Z' && element.letter == 'X') {
+			return pos + 1;
+		}
+		if (sign != '+' && sign != '-') {
+			return -1;
+		}
+		int end = pos + 1;
+		int digits = element.letter == 'X' && element.count == 1 ? 2 : 4;
+		boolean colon = element.letter == 'X' && element.count == 3;
+		for (int idx = 0; idx < digits; idx++) {
+			if (colon && idx == 2) {
+				if (end >= text.length() || text.charAt(end) != ':') {
+					return -1;
+				}
+				end++;
+			}
+			if (end >= text.length() || !isDigit(text.charAt(end))) {
+				return -1;
+			}
+			end++;
+		}
+		if (end < text.length() && isDigit(text.charAt(end))) {
+			return -1;
+		}
+		return end;
+	}
+
+	/**
+	 * Offset millis of the matched zone offset.
+	 *
+	 * @param text the text
+	 * @param pos the start of the offset, at its sign
+	 * @param end the end of the offset
+	 * @return the offset millis, or NO_OFFSET if out of range
+	 */
+	private static int offsetMillis(CharSequence text, int pos, int end) {
+		int hours = parseInt(text, pos + 1, pos + 3);
+		int minutes = end - pos > 3 ? parseInt(text, end - 2, end) : 0;
+		if (hours > 23 || minutes > 59) {
+			return NO_OFFSET;
+		}
+		int millis = (hours * 60 + minutes) * 60_000;
+		return text.charAt(pos) == '-' ? -millis : millis;
+	}
+
+	/**
+	 * Matches the longest of the given names at the given position, ignoring case.
+	 *
+	 * @param text the text
+	 * @param pos the position
+	 * @param names the names
+	 * @return the index of the matched name, or -1
+	 */
+	private static int matchText(CharSequence text, int pos, String[] names) {
+		int matched = -1;
+		int matchedLength = 0;
+		for (int idx = 0; idx < names.length; idx++) {
+			String name = names[idx];
+			int nameLength = name.length();
+			if (nameLength > matchedLength && regionMatches(text, pos, name, true)) {
+				matched = idx;
+				matchedLength = nameLength;
+			}
+		}
+		return matched;
+	}
+
+	/**
+	 * Checks if the text has the given string at the given position, as {@link String#regionMatches} does.
+	 *
+	 * @param text the text
+	 * @param pos the position
+	 * @param string the string
+	 * @param ignoreCase whether to ignore case
+	 * @return true, if successful
+	 */
+	private static boolean regionMatches(CharSequence text, int pos, String string, boolean ignoreCase) {
+		int length = string.length();
+		if (pos + length > text.length()) {
+			return false;
+		}
+		for (int idx = 0; idx < length; idx++) {
+			char c1 = text.charAt(pos + idx);
+			char c2 = string.charAt(idx);
+			if (c1 == c2) {
+				continue;
+			}
+			if (!ignoreCase) {
+				return false;
+			}
+			char u1 = Character.toUpperCase(c1);
+			char u2 = Character.toUpperCase(c2);
+			if (u1 != u2 && Character.toLowerCase(u1) != Character.toLowerCase(u2)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the digits in the given range.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the value
+	 */
+	private static int parseInt(CharSequence text, int start, int end) {
+		int value = 0;
+		for (int idx = start; idx < end; idx++) {
+			value = value * 10 + (text.charAt(idx) - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if the char is an ASCII digit.
+	 *
+	 * @param c the c
+	 * @return true, if is digit
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Compiles the pattern into elements.
+	 *
+	 * @param pattern the pattern
+	 * @return the elements, or null if the pattern has letters that are not compiled
+	 */
+	private static Element[] compileElements(String pattern) {
+		List<Element> elements = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		String letters = "";
+		int length = pattern.length();
+		int idx = 0;
+		while (idx < length) {
+			char c = pattern.charAt(idx);
+			if (c == '\'') {
+				int end = idx + 1;
+				if (end < length && pattern.charAt(end) == '\'') {
+					literal.append('\'');
+					idx += 2;
+					continue;
+				}
+				while (end < length) {
+					if (pattern.charAt(end) == '\'') {
+						if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+							literal.append('\'');
+							end += 2;
+							continue;
+						}
+						break;
+					}
+					literal.append(pattern.charAt(end++));
+				}
+				idx = end + 1;
+				continue;
+			}
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				if ("yMdHkKhmsSaZX".indexOf(c) < 0 || letters.indexOf(c) >= 0) {
+					return null;
+				}
+				letters += c;
+				int end = idx + 1;
+				while (end < length && pattern.charAt(end) == c) {
+					end++;
+				}
+				if (literal.length() > 0) {
+					elements.add(new Element((char) 0, 0, literal.toString(), false));
+					literal.setLength(0);
+				}
+				elements.add(new Element(c, end - idx, null, false));
+				idx = end;
+				continue;
+			}
+			literal.append(c);
+			idx++;
+		}
+		if (literal.length() > 0) {
+			elements.add(new Element((char) 0, 0, literal.toString(), false));
+		}
+		if (!isResolvable(letters)) {
+			return null;
+		}
+		Element[] compiled = elements.toArray(new Element[elements.size()]);
+		for (int elementIdx = 0; elementIdx < compiled.length - 1; elementIdx++) {
+			Element element = compiled[elementIdx];
+			if (element.isNumeric() && compiled[elementIdx + 1].letter != 0) {
+				compiled[elementIdx] = new Element(element.letter, element.count, null, true);
+			}
+		}
+		return compiled;
+	}
+
+	/**
+	 * Checks if the hour fields resolve unambiguously: the am/pm marker only along with a 12-hour field, and a single
+	 * hour field.
+	 *
+	 * @param letters the pattern letters
+	 * @return true, if is resolvable
+	 */
+	private static boolean isResolvable(String letters) {
+		int hourFields = 0;
+		for (char c : "HkKh".toCharArray()) {
+			if (letters.indexOf(c) >= 0) {
+				hourFields++;
+			}
+		}
+		boolean twelveHour = letters.indexOf('K') >= 0 || letters.indexOf('h') >= 0;
+		boolean offsets = letters.indexOf('Z') >= 0 && letters.indexOf('X') >= 0;
+		return hourFields <= 1 && !offsets && (letters.indexOf('a') < 0 || twelveHour);
+	}
+}
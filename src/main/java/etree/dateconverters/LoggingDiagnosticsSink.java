@@ -0,0 +1,162 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class LoggingDiagnosticsSink.
+ * 
+ * A {@link DiagnosticsSink} counting the diagnostics per source class, target class and diagnostic, and logging the
+ * counts of the diagnostics reported since its previous line in one line at WARN, at most once per interval. The
+ * first diagnostic is logged as it is reported; the diagnostics of a quiet interval are logged with the next one
+ * reported. A report costs a counter increment and a clock read, without locking or creating objects once the
+ * counter of its classes and diagnostic exists.
+ */
+public final class LoggingDiagnosticsSink implements DiagnosticsSink {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoggingDiagnosticsSink.class);
+
+	/** The interval between two log lines, in millis. */
+	private final long intervalMillis;
+
+	/** The time of the next log line, in epoch-millis. */
+	private final AtomicLong nextLogMillis = new AtomicLong();
+
+	/** The counters, per source class and target class, indexed by diagnostic. */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Counter[]>> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * The counter of one source class, target class and diagnostic.
+	 */
+	private static final class Counter {
+
+		/** The count. */
+		private final LongAdder count = new LongAdder();
+
+		/** The count at the previous log line, written by the logging thread only. */
+		private long logged;
+	}
+
+	/**
+	 * Instantiates a new logging diagnostics sink.
+	 *
+	 * @param intervalMillis the least interval between two log lines, in millis
+	 */
+	public LoggingDiagnosticsSink(long intervalMillis) {
+		if (intervalMillis < 0) {
+			throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+					"Date converter error! Invalid diagnostics interval " + intervalMillis);
+		}
+		this.intervalMillis = intervalMillis;
+	}
+
+	@Override
+	public void report(Class<?> source, Class<?> target, ConversionDiagnostic diagnostic) {
+		counter(source, target, diagnostic).count.increment();
+		long now = System.currentTimeMillis();
+		long next = nextLogMillis.get();
+		if (now >= next && nextLogMillis.compareAndSet(next, now + intervalMillis)) {
+			log();
+		}
+	}
+
+	/**
+	 * The number of diagnostics reported for the given source class, target class and diagnostic.
+	 *
+	 * @param source the source class
+	 * @param target the target class
+	 * @param diagnostic the diagnostic
+	 * @return the count
+	 */
+	public long count(Class<?> source, Class<?> target, ConversionDiagnostic diagnostic) {
+		Map<Class<?>, Counter[]> targets = counters.get(source);
+		Counter[] diagnostics = targets == null ? null : targets.get(target);
+		return diagnostics == null ? 0 : diagnostics[diagnostic.ordinal()].count.sum();
+	}
+
+	/**
+	 * The counter of the given source class, target class and diagnostic.
+	 *
+	 * @param source the source class
+	 * @param target the target class
+	 * @param diagnostic the diagnostic
+	 * @return the counter
+	 */
+	private Counter counter(Class<?> source, Class<?> target, ConversionDiagnostic diagnostic) {
+		ConcurrentMap<Class<?>, Counter[]> targets = counters.get(source);
+		if (targets == null) {
+			targets = counters.computeIfAbsent(source, key -> new ConcurrentHashMap<>());
+		}
+		Counter[] diagnostics = targets.get(target);
+		if (diagnostics == null) {
+			diagnostics = targets.computeIfAbsent(target, key -> {
+				Counter[] created = new Counter[ConversionDiagnostic.values().length];
+				for (int idx = 0; idx < created.length; idx++) {
+					created[idx] = new Counter();
+				}
+				return created;
+			});
+		}
+		return diagnostics[diagnostic.ordinal()];
+	}
+
+	/**
+	 * Logs the counts of the diagnostics reported since the previous log line, if any.
+	 */
+	private synchronized void log() {
+		StringBuilder line = new StringBuilder("Date conversion diagnostics since the previous report:");
+		boolean any = false;
+		for (Map.Entry<Class<?>, ConcurrentMap<Class<?>, Counter[]>> targets : counters.entrySet()) {
+			for (Map.Entry<Class<?>, Counter[]> diagnostics : targets.getValue().entrySet()) {
+				for (ConversionDiagnostic diagnostic : ConversionDiagnostic.values()) {
+					Counter counter = diagnostics.getValue()[diagnostic.ordinal()];
+					long count = counter.count.sum();
+					if (count == counter.logged) {
+						continue;
+					}
+					line.append(any ? ", " : " ").append(count - counter.logged).append(" x ").append(diagnostic)
+							.append(" from ").append(targets.getKey().getName()).append(" to ")
+							.append(diagnostics.getKey().getName());
+					counter.logged = count;
+					any = true;
+				}
+			}
+		}
+		if (any) {
+			LOGGER.warn(line.append('.').toString());
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.sql.Time;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.joda.time.ReadableInstant;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class MutableDateWriter.
+ * 
+ * Converts dates into caller-owned instances of the mutable date-types - java.util.Date, its java.sql subclasses and
+ * Calendar - by setting their time, so that a loop writing the dates of a column through one target instance creates
+ * no objects. The time set is that of the date {@link ConversionTable} conversions to the type of the target would
+ * create in the same zone context: a Timestamp gets the nanos of those millis, as it would if created from them, and
+ * a Calendar keeps its own zone and locale. Dates are read straight into epoch-millis, without the intermediate
+ * objects of the conversions, ISO-8601 date-strings included.
+ */
+final class MutableDateWriter extends AbstractDateConversions {
+
+	/** The writer of the default zone. */
+	static final MutableDateWriter DEFAULT = new MutableDateWriter(DEFAULT_ZONE);
+
+	/** The epoch-millis of the dates written into a java.util.Date, a Timestamp or a Calendar. */
+	private final PrimitiveConversionTable epochMillis;
+
+	/** The epoch-millis of the dates written into a java.sql.Date. */
+	private final PrimitiveConversionTable sqlDateMillis;
+
+	/** The epoch-millis of the dates written into a java.sql.Time. */
+	private final PrimitiveConversionTable timeMillis;
+
+	/**
+	 * Instantiates a new mutable date writer.
+	 *
+	 * @param zone the zone context
+	 */
+	MutableDateWriter(ZoneContext zone) {
+		epochMillis = addEpochMillis(new PrimitiveConversionTable("java.util.Date"), zone);
+		sqlDateMillis = addEpochMillis(new PrimitiveConversionTable("java.sql.Date")
+				.add(OffsetDateTime.class, date -> DEFAULT_ZONE.startOfDayMillis(date.toLocalDate().toEpochDay())),
+				zone);
+		timeMillis = addEpochMillis(new PrimitiveConversionTable("java.sql.Time")
+				.add(LocalTime.class, date -> DEFAULT_ZONE.epochMillisOfLocal(date.toSecondOfDay() * 1000L))
+				.add(org.joda.time.LocalTime.class,
+						date -> DEFAULT_ZONE.epochMillisOfLocal(date.getMillisOfDay() / 1000 * 1000L)),
+				zone);
+	}
+
+	/**
+	 * Adds the epoch-millis of the dates in the given zone context, as the conversions of the context compute them,
+	 * to the given table.
+	 *
+	 * @param table the table
+	 * @param zone the zone context
+	 * @return the table
+	 */
+	private static PrimitiveConversionTable addEpochMillis(PrimitiveConversionTable table, ZoneContext zone) {
+		return table.add(String.class, date -> zone.parseEpochMillis(date, 0, date.length()))
+				.add(Date.class, Date::getTime)
+				.add(Calendar.class, Calendar::getTimeInMillis)
+				.add(ImmutableXMLGregorianCalendar.class, ImmutableXMLGregorianCalendar::epochMillis)
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().getTimeInMillis())
+				.add(Instant.class, Instant::toEpochMilli)
+				.add(LocalDate.class, date -> zone.startOfDayMillis(date.toEpochDay()))
+				.add(LocalDateTime.class, zone::epochMillis)
+				.add(ZonedDateTime.class, date -> date.toInstant().toEpochMilli())
+				.add(OffsetDateTime.class, date -> date.toInstant().toEpochMilli())
+				.add(ReadableInstant.class, ReadableInstant::getMillis)
+				.add(org.joda.time.LocalDate.class, zone::legacyStartOfDayMillis)
+				.add(org.joda.time.LocalDateTime.class, zone::epochMillis);
+	}
+
+	/**
+	 * Sets the time of the given date to that of the converted date.
+	 *
+	 * @param <D> the type of the target
+	 * @param from the from
+	 * @param to the target
+	 * @return the target, or null if from is null or has no date information, in which case the target is left as it
+	 *         is
+	 */
+	<D extends Date> D into(Object from, D to) {
+		checkTarget(from, to);
+		if (from == null) {
+			return null;
+		}
+		if (to instanceof Time) {
+			to.setTime(timeMillis.convert(from));
+			return to;
+		}
+		if (!hasDate(from, to)) {
+			return null;
+		}
+		to.setTime(to instanceof java.sql.Date ? sqlDateMillis.convert(from) : epochMillis.convert(from));
+		return to;
+	}
+
+	/**
+	 * Sets the time of the given calendar to that of the converted date, leaving the zone and locale of the calendar
+	 * as they are.
+	 *
+	 * @param <C> the type of the target
+	 * @param from the from
+	 * @param to the target
+	 * @return the target, or null if from is null or has no date information, in which case the target is left as it
+	 *         is
+	 */
+	<C extends Calendar> C into(Object from, C to) {
+		checkTarget(from, to);
+		if (from == null || !hasDate(from, to)) {
+			return null;
+		}
+		to.setTimeInMillis(epochMillis.convert(from));
+		return to;
+	}
+
+	/**
+	 * Checks that there is a target to convert into.
+	 *
+	 * @param from the from
+	 * @param to the target
+	 */
+	private static void checkTarget(Object from, Object to) {
+		if (to == null) {
+			throw new DateConverterException(ErrorCode.INVALID_ARGUMENT, "Date conversion error! Unable to convert "
+					+ (from == null ? null : from.getClass().getName()) + " into null");
+		}
+	}
+
+	/**
+	 * Checks if the given date has date information, as the conversions to the type of the target require.
+	 *
+	 * @param from the from
+	 * @param to the target
+	 * @return true, if the date has date information
+	 */
+	private static boolean hasDate(Object from, Object to) {
+		if (from instanceof LocalTime || from instanceof org.joda.time.LocalTime) {
+			diagnose(from.getClass(), to.getClass(), ConversionDiagnostic.NO_DATE_INFORMATION);
+			return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,217 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class ParallelConversion.
+ * 
+ * Converts index ranges of a source array into the same positions of a pre-sized target array, in parallel. Each
+ * range runs the serial {@link ConversionTable#convertAll(Object[], Object[], int, int)} loop, so the results are
+ * the same as those of the serial path. The first failure of any range is rethrown as is, once all ranges are done.
+ */
+final class ParallelConversion extends RecursiveAction {
+
+	/** The Constant serialVersionUID. */
+	private static final long serialVersionUID = -3187442911826411522L;
+
+	/** The least number of dates per range; below it the split costs more than it gains. */
+	static final int MIN_GRANULARITY = 1 << 13;
+
+	/** The number of ranges per worker, to even out the load of uneven ranges. */
+	private static final int RANGES_PER_WORKER = 4;
+
+	/** The conversions. */
+	private final transient ConversionTable<?> conversions;
+
+	/** The source dates. */
+	private final Object[] from;
+
+	/** The target array. */
+	private final Object[] to;
+
+	/** The first index, inclusive. */
+	private final int fromIdx;
+
+	/** The last index, exclusive. */
+	private final int toIdx;
+
+	/** The number of dates below which a range is not split any further. */
+	private final int granularity;
+
+	/** The first failure of any range. */
+	private final AtomicReference<RuntimeException> failure;
+
+	/**
+	 * Instantiates a new parallel conversion.
+	 *
+	 * @param conversions the conversions
+	 * @param from the source dates
+	 * @param to the target array
+	 * @param fromIdx the first index, inclusive
+	 * @param toIdx the last index, exclusive
+	 * @param granularity the granularity
+	 * @param failure the failure
+	 */
+	private ParallelConversion(ConversionTable<?> conversions, Object[] from, Object[] to, int fromIdx, int toIdx,
+			int granularity, AtomicReference<RuntimeException> failure) {
+		this.conversions = conversions;
+		this.from = from;
+		this.to = to;
+		this.fromIdx = fromIdx;
+		this.toIdx = toIdx;
+		this.granularity = granularity;
+		this.failure = failure;
+	}
+
+	/**
+	 * Converts the source dates into the target array on the given fork/join pool.
+	 *
+	 * @param conversions the conversions
+	 * @param from the source dates
+	 * @param to the target array, at least as long as the source array
+	 * @param pool the pool
+	 */
+	static void convertAll(ConversionTable<?> conversions, Object[] from, Object[] to, ForkJoinPool pool) {
+		int granularity = granularity(from.length, pool.getParallelism());
+		if (from.length <= granularity) {
+			conversions.convertAll(from, to, 0, from.length);
+			return;
+		}
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		pool.invoke(new ParallelConversion(conversions, from, to, 0, from.length, granularity, failure));
+		rethrow(failure);
+	}
+
+	/**
+	 * Converts the source dates into the target array on the given executor. The calling thread converts the last
+	 * range itself and then waits for the others; ranges the executor rejects are converted by the calling thread
+	 * too.
+	 *
+	 * @param conversions the conversions
+	 * @param from the source dates
+	 * @param to the target array, at least as long as the source array
+	 * @param executor the executor
+	 */
+	static void convertAll(ConversionTable<?> conversions, Object[] from, Object[] to, Executor executor) {
+		if (executor instanceof ForkJoinPool) {
+			convertAll(conversions, from, to, (ForkJoinPool) executor);
+			return;
+		}
+		int granularity = granularity(from.length, Runtime.getRuntime().availableProcessors());
+		if (from.length <= granularity) {
+			conversions.convertAll(from, to, 0, from.length);
+			return;
+		}
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		int ranges = (from.length + granularity - 1) / granularity;
+		CountDownLatch pending = new CountDownLatch(ranges - 1);
+		for (int range = 0; range < ranges - 1; range++) {
+			ParallelConversion task = new ParallelConversion(conversions, from, to, range * granularity,
+					(range + 1) * granularity, granularity, failure);
+			try {
+				executor.execute(() -> {
+					try {
+						task.convertRange();
+					} finally {
+						pending.countDown();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				task.convertRange();
+				pending.countDown();
+			}
+		}
+		new ParallelConversion(conversions, from, to, (ranges - 1) * granularity, from.length, granularity, failure)
+				.convertRange();
+		try {
+			pending.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DateConverterException(ErrorCode.INTERRUPTED, e);
+		}
+		rethrow(failure);
+	}
+
+	/**
+	 * Granularity for the given number of dates and workers: a few ranges per worker, but no range smaller than
+	 * {@link #MIN_GRANULARITY}.
+	 *
+	 * @param length the number of dates
+	 * @param parallelism the number of workers
+	 * @return the granularity
+	 */
+	static int granularity(int length, int parallelism) {
+		return Math.max(MIN_GRANULARITY, length / (Math.max(parallelism, 1) * RANGES_PER_WORKER));
+	}
+
+	/**
+	 * Compute.
+	 */
+	@Override
+	protected void compute() {
+		if (toIdx - fromIdx <= granularity) {
+			convertRange();
+			return;
+		}
+		int midIdx = (fromIdx + toIdx) >>> 1;
+		invokeAll(new ParallelConversion(conversions, from, to, fromIdx, midIdx, granularity, failure),
+				new ParallelConversion(conversions, from, to, midIdx, toIdx, granularity, failure));
+	}
+
+	/**
+	 * Converts the range of this task, unless another range has failed already.
+	 */
+	private void convertRange() {
+		if (failure.get() != null) {
+			return;
+		}
+		try {
+			conversions.convertAll(from, to, fromIdx, toIdx);
+		} catch (RuntimeException e) {
+			failure.compareAndSet(null, e);
+		}
+	}
+
+	/**
+	 * Rethrows the failure, if any.
+	 *
+	 * @param failure the failure
+	 */
+	private static void rethrow(AtomicReference<RuntimeException> failure) {
+		RuntimeException e = failure.get();
+		if (e != null) {
+			throw e;
+		}
+	}
+}
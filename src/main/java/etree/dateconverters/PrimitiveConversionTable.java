@@ -0,0 +1,168 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class PrimitiveConversionTable.
+ * 
+ * The primitive counterpart of {@link ConversionTable}: holds the conversions of source date-types to one primitive
+ * unit (e.g. epoch-millis), resolved once per concrete source class.
+ */
+
+final class PrimitiveConversionTable {
+
+	/** The target name used in error messages. */
+	private final String targetName;
+
+	/** The source types in the order of precedence. */
+	private final List<Class<?>> sourceTypes = new ArrayList<>();
+
+	/** The conversions, index-aligned with the source types. */
+	private final List<ToLongFunction<Object>> conversions = new ArrayList<>();
+
+	/** The conversions resolved per concrete source class. */
+	private final ClassValue<ToLongFunction<Object>> resolvedConversions = new ClassValue<ToLongFunction<Object>>() {
+
+		@Override
+		protected ToLongFunction<Object> computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	/**
+	 * Instantiates a new primitive conversion table.
+	 *
+	 * @param targetName the target name
+	 */
+	PrimitiveConversionTable(String targetName) {
+		this.targetName = targetName;
+	}
+
+	/**
+	 * Adds the conversion for the given source type. Conversions are expected to be added only while the
+	 * owning class is being initialized.
+	 *
+	 * @param <S> the source type
+	 * @param sourceType the source type
+	 * @param conversion the conversion
+	 * @return this conversion table
+	 */
+	@SuppressWarnings("unchecked")
+	<S> PrimitiveConversionTable add(Class<S> sourceType, ToLongFunction<? super S> conversion) {
+		sourceTypes.add(sourceType);
+		conversions.add((ToLongFunction<Object>) conversion);
+		return this;
+	}
+
+	/**
+	 * Converts the date.
+	 *
+	 * @param date the date
+	 * @return the converted value
+	 */
+	long convert(Object date) {
+		if (date == null) {
+			throw new DateConverterException(ErrorCode.INVALID_ARGUMENT,
+					"Date conversion error! Unable to convert null to " + targetName);
+		}
+		return resolvedConversions.get(date.getClass()).applyAsLong(date);
+	}
+
+	/**
+	 * Converts the dates within the given index range of the source array into the same positions of the target
+	 * array, resolving the conversion again only when the class of the source changes.
+	 *
+	 * @param from the source dates
+	 * @param to the target array
+	 * @param fromIdx the first index, inclusive
+	 * @param toIdx the last index, exclusive
+	 */
+	void convertAll(Object[] from, long[] to, int fromIdx, int toIdx) {
+		Class<?> type = null;
+		ToLongFunction<Object> conversion = null;
+		for (int idx = fromIdx; idx < toIdx; idx++) {
+			Object date = from[idx];
+			if (date == null) {
+				throw new DateConverterException(ErrorCode.INVALID_ARGUMENT,
+						"Date conversion error! Unable to convert null at index " + idx + " to " + targetName);
+			}
+			if (date.getClass() != type) {
+				type = date.getClass();
+				conversion = resolvedConversions.get(type);
+			}
+			to[idx] = conversion.applyAsLong(date);
+		}
+	}
+
+	/**
+	 * Converts the dates within the given index range into an int array, in the manner of
+	 * {@link #convertAll(Object[], long[], int, int)}. Meant for units that fit an int, e.g. seconds-of-day.
+	 *
+	 * @param from the source dates
+	 * @param to the target array
+	 * @param fromIdx the first index, inclusive
+	 * @param toIdx the last index, exclusive
+	 */
+	void convertAll(Object[] from, int[] to, int fromIdx, int toIdx) {
+		Class<?> type = null;
+		ToLongFunction<Object> conversion = null;
+		for (int idx = fromIdx; idx < toIdx; idx++) {
+			Object date = from[idx];
+			if (date == null) {
+				throw new DateConverterException(ErrorCode.INVALID_ARGUMENT,
+						"Date conversion error! Unable to convert null at index " + idx + " to " + targetName);
+			}
+			if (date.getClass() != type) {
+				type = date.getClass();
+				conversion = resolvedConversions.get(type);
+			}
+			to[idx] = (int) conversion.applyAsLong(date);
+		}
+	}
+
+	/**
+	 * Resolves the conversion for the given concrete source class.
+	 *
+	 * @param type the type
+	 * @return the conversion
+	 */
+	private ToLongFunction<Object> resolve(Class<?> type) {
+		for (int idx = 0; idx < sourceTypes.size(); idx++) {
+			if (sourceTypes.get(idx).isAssignableFrom(type)) {
+				return conversions.get(idx);
+			}
+		}
+		return date -> {
+			throw new DateConverterException(ErrorCode.UNSUPPORTED_CONVERSION,
+					"Date conversion error! Unable to convert " + date.getClass().getName() + " to " + targetName);
+		};
+	}
+}
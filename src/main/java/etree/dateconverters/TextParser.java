@@ -0,0 +1,46 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+
+/**
+ * The Interface TextParser.
+ * 
+ * Parses a date-string from a range of characters in place, without copying the range into a String first. Each
+ * target date-type has one, which its conversion of Strings also goes through.
+ *
+ * @param <T> the target type
+ */
+@FunctionalInterface
+interface TextParser<T> {
+
+	/**
+	 * Parses the characters from start, inclusive, to end, exclusive.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the t
+	 */
+	T parse(CharSequence text, int start, int end);
+}
@@ -23,7 +23,6 @@
 package etree.dateconverters;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,12 +35,11 @@ import java.util.GregorianCalendar;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.github.sisyphsu.dateparser.DateParserUtils;
 
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -50,8 +48,53 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToCalendar extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToCalendar.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Calendar> TEXT_PARSER = textParser(DEFAULT_ZONE);
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Calendar> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Calendar> textParser(ZoneContext zone) {
+		return (text, start, end) -> {
+			long iso = IsoDateParser.parse(text, start, end);
+			if (iso == IsoDateParser.NOT_ISO || IsoDateParser.hasOffset(iso)) {
+				return DateParserUtils.parseCalendar(text.subSequence(start, end).toString());
+			}
+			return zone.calendar(zone.parseEpochMillis(text, start, end));
+		};
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Calendar> conversions(ZoneContext zone) {
+		TextParser<Calendar> textParser = textParser(zone);
+		return new ConversionTable<Calendar>(Calendar.class)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> zone.calendar(date.getTime()))
+				.add(Calendar.class, date -> date)
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar())
+				.add(Instant.class, date -> zone.calendar(date.toEpochMilli()))
+				.add(LocalDate.class, date -> GregorianCalendar.from(date.atStartOfDay(zone.zoneId())))
+				.add(LocalTime.class, date -> missingDate(date, Calendar.class))
+				.add(LocalDateTime.class, date -> GregorianCalendar.from(date.atZone(zone.zoneId())))
+				.add(ZonedDateTime.class, date -> GregorianCalendar.from(date))
+				.add(OffsetDateTime.class, date -> GregorianCalendar.from(date.toZonedDateTime()))
+				.add(org.joda.time.Instant.class, date -> zone.calendar(date.getMillis()))
+				.add(org.joda.time.DateTime.class, date -> date.toCalendar(zone.locale()))
+				.add(org.joda.time.LocalDate.class, date -> zone.calendar(zone.startOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, Calendar.class))
+				.add(org.joda.time.LocalDateTime.class, date -> zone.calendar(zone.epochMillis(date)));
+	}
 
 	/**
 	 * To calendar.
@@ -64,60 +107,7 @@ class ToCalendar extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			return DateParserUtils.parseCalendar((String) date);
-		}
-		if (date instanceof Date) {
-			Calendar calendar = Calendar.getInstance();
-			calendar.setTime((Date) date);
-			return calendar;
-		}
-		if (date instanceof Calendar) { // date instanceof GregorianCalendar ||
-			return (Calendar) date;
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar();
-		}
-		if (date instanceof Instant) {
-			Calendar calendar = Calendar.getInstance();
-			calendar.setTimeInMillis(((Instant) date).toEpochMilli());
-			return calendar;
-		}
-		if (date instanceof LocalDate) {
-			return GregorianCalendar.from(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID));
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to Calendar.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return GregorianCalendar.from(((LocalDateTime) date).atZone(DEFAULT_ZONE_ID));
-		}
-		if (date instanceof ZonedDateTime) {
-			return GregorianCalendar.from(((ZonedDateTime) date));
-		}
-		if (date instanceof OffsetDateTime) {
-			return GregorianCalendar.from(((OffsetDateTime) date).toZonedDateTime());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return (((org.joda.time.Instant) date).toDateTime().toCalendar(DEFAULT_LOCALE));
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ((org.joda.time.DateTime) date).toCalendar(DEFAULT_LOCALE);
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return (((org.joda.time.LocalDate) date).toDateTime(org.joda.time.LocalTime.MIDNIGHT))
-					.toCalendar(DEFAULT_LOCALE);
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to java.sql.Date. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return (((org.joda.time.LocalDateTime) date).toDateTime().toCalendar(DEFAULT_LOCALE));
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to Calendar");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -127,16 +117,26 @@ class ToCalendar extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the calendar
 	 */
-	public static Calendar toCalendar(String dateString, String format) {
+	public static Calendar toCalendar(CharSequence dateString, String format) {
+		return toCalendar(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To calendar, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the calendar
+	 */
+	static Calendar toCalendar(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			Calendar calendar = Calendar.getInstance();
-			calendar.setTime(new SimpleDateFormat(format).parse(dateString));
-			return calendar;
+			return zone.calendar(zone.legacyPattern(format).parseMillis(dateString));
 		} catch (ParseException e) {
-			throw new DateConverterException(
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Calendar conversion error! Unable to convert " + dateString + " to Calendar.", e);
 		}
 	}
@@ -33,12 +33,8 @@ import java.util.Date;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -47,8 +43,48 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToInstant extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToInstant.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Instant> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Instant> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Instant> textParser(ZoneContext zone) {
+		return (text, start, end) -> Instant.ofEpochMilli(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Instant> conversions(ZoneContext zone) {
+		TextParser<Instant> textParser = textParser(zone);
+		return new ConversionTable<Instant>(Instant.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> Instant.ofEpochMilli(date.getTime()))
+				.add(Calendar.class, calendar -> calendar.toInstant())
+				.add(ImmutableXMLGregorianCalendar.class, date -> Instant.ofEpochMilli(date.epochMillis()))
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toInstant())
+				.add(Instant.class, date -> date)
+				.add(LocalDate.class, date -> Instant.ofEpochMilli(zone.startOfDayMillis(date.toEpochDay())))
+				.add(LocalTime.class, date -> missingDate(date, Instant.class))
+				.add(LocalDateTime.class, date -> Instant.ofEpochSecond(zone.epochSecond(date), date.getNano()))
+				.add(ZonedDateTime.class, date -> date.toInstant())
+				.add(OffsetDateTime.class, date -> date.toInstant())
+				.add(org.joda.time.Instant.class, date -> Instant.ofEpochMilli(date.getMillis()))
+				.add(org.joda.time.DateTime.class, date -> Instant.ofEpochMilli(date.getMillis()))
+				.add(org.joda.time.LocalDate.class, date -> Instant.ofEpochMilli(zone.startOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, Instant.class))
+				.add(org.joda.time.LocalDateTime.class, date -> Instant.ofEpochMilli(zone.epochMillis(date)));
+	}
 
 	/**
 	 * To instant.
@@ -61,57 +97,7 @@ class ToInstant extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return utilDate.toInstant();
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime());
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			return calendar.toInstant();
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar().toInstant();
-		}
-		if (date instanceof Instant) {
-			return (Instant) date;
-		}
-		if (date instanceof LocalDate) {
-			return ((LocalDate) date).atStartOfDay().toInstant(DEFAULT_ZONE_OFFSET);
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to Instant. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return ((LocalDateTime) date).toInstant(DEFAULT_ZONE_OFFSET);
-		}
-		if (date instanceof ZonedDateTime) {
-			return ((ZonedDateTime) date).toInstant();
-		}
-		if (date instanceof OffsetDateTime) {
-			return ((OffsetDateTime) date).toInstant();
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return Instant.ofEpochMilli(((org.joda.time.Instant) date).getMillis());
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return Instant.ofEpochMilli(((org.joda.time.DateTime) date).getMillis());
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return Instant.ofEpochMilli(((org.joda.time.LocalDate) date).toDate().getTime());
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to Instant. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return Instant.ofEpochMilli(((org.joda.time.LocalDateTime) date).toDate().getTime());
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to java.time.Instant!");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -120,15 +106,15 @@ class ToInstant extends AbstractDateConversions {
 	 * @param dateString the date string
 	 * @return the instant
 	 */
-	public static Instant toInstant(String dateString) {
+	public static Instant toInstant(CharSequence dateString) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			LOGGER.warn("Ignoring date-format as it is not applicable while converting to java.time.Instant!");
+			diagnose(dateString.getClass(), Instant.class, ConversionDiagnostic.DATE_FORMAT_IGNORED);
 			return Instant.parse(dateString);
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to java.time.Instant!", e);
 		}
 	}
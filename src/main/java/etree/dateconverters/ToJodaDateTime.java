@@ -22,7 +22,6 @@
 */
 package etree.dateconverters;
 
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -33,14 +32,10 @@ import java.util.Date;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.joda.time.DateTime;
-import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
 
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -49,8 +44,52 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToJodaDateTime extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToJodaDateTime.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<DateTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<DateTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<DateTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> new DateTime(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<DateTime> conversions(ZoneContext zone) {
+		TextParser<DateTime> textParser = textParser(zone);
+		return new ConversionTable<DateTime>(DateTime.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> new DateTime(date.getTime(), zone.jodaChronology()))
+				.add(Calendar.class, date -> new DateTime(date))
+				.add(ImmutableXMLGregorianCalendar.class,
+						date -> new DateTime(date.epochMillis(), date.jodaChronology()))
+				.add(XMLGregorianCalendar.class, date -> new DateTime(date.toGregorianCalendar()))
+				.add(Instant.class, date -> new DateTime(date.toEpochMilli(), zone.jodaChronology()))
+				.add(LocalDate.class,
+						date -> new DateTime(zone.startOfDayMillis(date.toEpochDay()), zone.jodaChronology()))
+				.add(ZonedDateTime.class, date -> new DateTime(date))
+				.add(OffsetDateTime.class, date -> new DateTime(date))
+				.add(org.joda.time.Instant.class, date -> date.toDateTime(zone.jodaZone()))
+				.add(DateTime.class, date -> date)
+				.add(org.joda.time.LocalDate.class, date -> date.toDateTimeAtStartOfDay(zone.jodaZone()))
+				.add(org.joda.time.LocalTime.class, date -> {
+					throw new DateConverterException(ErrorCode.INCOMPLETE_DATE,
+							"Date conversion error! Unable to convert "
+							+ date.getClass().getName() + " to org.joda.time.DateTime");
+				})
+				.add(org.joda.time.LocalDateTime.class, date -> date.toDateTime(zone.jodaZone()));
+	}
 
 	/**
 	 * To date time.
@@ -63,51 +102,7 @@ class ToJodaDateTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return new DateTime(utilDate);
-		}
-		if (date instanceof Date || date instanceof java.sql.Date) {
-			return new DateTime(date);
-		}
-		if (date instanceof Timestamp) {
-			return new DateTime(date);
-		}
-		if (date instanceof Calendar) {
-			return new DateTime(date);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new DateTime(((XMLGregorianCalendar) date).toGregorianCalendar());
-		}
-		if (date instanceof Instant) {
-			return new DateTime(date);
-		}
-		if (date instanceof LocalDate) {
-			return new DateTime(date);
-		}
-		if (date instanceof ZonedDateTime) {
-			return new DateTime(date);
-		}
-		if (date instanceof OffsetDateTime) {
-			return new DateTime(date);
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return ((org.joda.time.Instant) date).toDateTime();
-		}
-		if (date instanceof DateTime) {
-			return (DateTime) date;
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay();
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.DateTime.");
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return ((org.joda.time.LocalDateTime) date).toDateTime();
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to org.joda.time.DateTime");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -117,15 +112,27 @@ class ToJodaDateTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the org.joda.time. local date time
 	 */
-	public static org.joda.time.LocalDateTime toLocalDateTime(String dateString, String format) {
+	public static org.joda.time.LocalDateTime toLocalDateTime(CharSequence dateString, String format) {
+		return toLocalDateTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local date time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the org.joda.time. local date time
+	 */
+	static org.joda.time.LocalDateTime toLocalDateTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormat.forPattern(format);
-			return org.joda.time.LocalDateTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.jodaFormatter(format);
+			return org.joda.time.LocalDateTime.parse(dateString.toString(), formatter);
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to org.joda.time.DateTime", e);
 		}
 	}
@@ -22,7 +22,6 @@
 */
 package etree.dateconverters;
 
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -34,14 +33,10 @@ import java.util.Date;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.joda.time.Instant;
-import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
 
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -50,8 +45,51 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToJodaInstant extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToJodaInstant.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Instant> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Instant> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Instant> textParser(ZoneContext zone) {
+		return (text, start, end) -> Instant.ofEpochMilli(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Instant> conversions(ZoneContext zone) {
+		TextParser<Instant> textParser = textParser(zone);
+		return new ConversionTable<Instant>(Instant.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> Instant.ofEpochMilli(date.getTime()))
+				.add(Calendar.class, calendar -> Instant.ofEpochMilli(calendar.toInstant().toEpochMilli()))
+				.add(ImmutableXMLGregorianCalendar.class, date -> new Instant(date.epochMillis()))
+				.add(XMLGregorianCalendar.class,
+						date -> Instant.ofEpochMilli(date.toGregorianCalendar().toInstant().toEpochMilli()))
+				.add(java.time.Instant.class, date -> new Instant(date.toEpochMilli()))
+				.add(LocalDate.class,
+						date -> Instant.ofEpochMilli(zone.startOfDayMillis(date.toEpochDay())))
+				.add(LocalTime.class, date -> missingDate(date, Instant.class))
+				.add(LocalDateTime.class, date -> Instant.ofEpochMilli(zone.epochMillis(date)))
+				.add(ZonedDateTime.class, date -> Instant.ofEpochMilli(date.toInstant().toEpochMilli()))
+				.add(OffsetDateTime.class, date -> Instant.ofEpochMilli(date.toInstant().toEpochMilli()))
+				.add(Instant.class, date -> date)
+				.add(org.joda.time.DateTime.class, date -> date.toInstant())
+				.add(org.joda.time.LocalDate.class, date -> Instant.ofEpochMilli(zone.startOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, Instant.class))
+				.add(org.joda.time.LocalDateTime.class,
+						date -> Instant.ofEpochMilli(date.toDate().toInstant().toEpochMilli()));
+	}
 
 	/**
 	 * To instant.
@@ -64,62 +102,7 @@ class ToJodaInstant extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			return Instant.ofEpochMilli(DateParserUtils.parseDate((String) date).getTime());
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime());
-		}
-		if (date instanceof java.sql.Date) {
-			return Instant.ofEpochMilli(((java.sql.Date) date).getTime());
-		}
-		if (date instanceof Timestamp) {
-			return Instant.ofEpochMilli(((Timestamp) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			return Instant.ofEpochMilli(calendar.toInstant().toEpochMilli());
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return Instant.ofEpochMilli(((XMLGregorianCalendar) date).toGregorianCalendar().toInstant().toEpochMilli());
-		}
-		if (date instanceof java.time.Instant) {
-			return new Instant(((java.time.Instant) date).toEpochMilli());
-		}
-		if (date instanceof LocalDate) {
-			return Instant.ofEpochMilli(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.Instant. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return Instant.ofEpochMilli(((LocalDateTime) date).toInstant(DEFAULT_ZONE_OFFSET).toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return Instant.ofEpochMilli(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return Instant.ofEpochMilli(((OffsetDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof Instant) {
-			return (Instant) date;
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ((org.joda.time.DateTime) date).toInstant();
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return Instant.ofEpochMilli(((org.joda.time.LocalDate) date).toDate().toInstant().toEpochMilli());
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.Instant. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return Instant.ofEpochMilli(((org.joda.time.LocalDateTime) date).toDate().toInstant().toEpochMilli());
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to org.joda.time.Instant");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -129,15 +112,27 @@ class ToJodaInstant extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the instant
 	 */
-	public static Instant toInstant(String dateString, String format) {
+	public static Instant toInstant(CharSequence dateString, String format) {
+		return toInstant(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To instant, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the instant
+	 */
+	static Instant toInstant(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormat.forPattern(format);
-			return Instant.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.jodaFormatter(format);
+			return zone.intern(Instant.parse(dateString.toString(), formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to org.joda.time.Instant", e);
 		}
 	}
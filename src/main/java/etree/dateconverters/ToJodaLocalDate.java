@@ -22,7 +22,6 @@
 */
 package etree.dateconverters;
 
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -34,14 +33,11 @@ import java.util.Date;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.joda.time.LocalDate;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
 
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -50,8 +46,53 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToJodaLocalDate extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToJodaLocalDate.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<LocalDate> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<LocalDate> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<LocalDate> textParser(ZoneContext zone) {
+		return (text, start, end) -> new LocalDate(zone.parseLocalMillis(text, start, end),
+				ISOChronology.getInstanceUTC());
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<LocalDate> conversions(ZoneContext zone) {
+		TextParser<LocalDate> textParser = textParser(zone);
+		return new ConversionTable<LocalDate>(LocalDate.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> new LocalDate(date.getTime(), zone.jodaChronology()))
+				.add(Calendar.class, date -> new LocalDate(date))
+				.add(ImmutableXMLGregorianCalendar.class,
+						date -> new LocalDate(date.epochMillis(), date.jodaChronology()))
+				.add(XMLGregorianCalendar.class, date -> new LocalDate(date.toGregorianCalendar()))
+				.add(Instant.class, date -> new LocalDate(date.toEpochMilli(), zone.jodaChronology()))
+				.add(java.time.LocalDate.class,
+						date -> new LocalDate(zone.startOfDayMillis(date.toEpochDay()), zone.jodaChronology()))
+				.add(LocalTime.class, date -> missingDate(date, LocalDate.class))
+				.add(LocalDateTime.class,
+						date -> new LocalDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth()))
+				.add(ZonedDateTime.class, date -> new LocalDate(date.toInstant().toEpochMilli(), zone.jodaChronology()))
+				.add(OffsetDateTime.class,
+						date -> new LocalDate(date.toInstant().toEpochMilli(), zone.jodaChronology()))
+				.add(org.joda.time.Instant.class, date -> date.toDateTime(zone.jodaZone()).toLocalDate())
+				.add(org.joda.time.DateTime.class, date -> date.toLocalDate())
+				.add(LocalDate.class, date -> date)
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, LocalDate.class))
+				.add(org.joda.time.LocalDateTime.class, date -> date.toLocalDate());
+	}
 
 	/**
 	 * To local date.
@@ -64,59 +105,7 @@ class ToJodaLocalDate extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return new LocalDate(utilDate);
-		}
-		if (date instanceof Date) {
-			return new LocalDate(date);
-		}
-		if (date instanceof Timestamp) {
-			return new LocalDate(date);
-		}
-		if (date instanceof Calendar) {
-			return new LocalDate(date);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new LocalDate(((XMLGregorianCalendar) date).toGregorianCalendar());
-		}
-		if (date instanceof Instant) {
-			return new LocalDate(((Instant) date).toEpochMilli());
-		}
-		if (date instanceof java.time.LocalDate) {
-			return new LocalDate(((java.time.LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.LocalDate. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return new LocalDate(((LocalDateTime) date).toInstant(DEFAULT_ZONE_OFFSET).toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return new LocalDate(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return new LocalDate(((OffsetDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return ((org.joda.time.Instant) date).toDateTime().toLocalDate();
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ((org.joda.time.DateTime) date).toLocalDate();
-		}
-		if (date instanceof LocalDate) {
-			return (LocalDate) date;
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.LocalDate. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return ((org.joda.time.LocalDateTime) date).toLocalDate();
-		}
-		throw new DateConverterException("", "Date conversion error! Unable to convert " + date.getClass().getName()
-				+ " to org.joda.time.LocalDate");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -126,15 +115,27 @@ class ToJodaLocalDate extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the local date
 	 */
-	public static LocalDate toLocalDate(String dateString, String format) {
+	public static LocalDate toLocalDate(CharSequence dateString, String format) {
+		return toLocalDate(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local date, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the local date
+	 */
+	static LocalDate toLocalDate(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormat.forPattern(format);
-			return LocalDate.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.jodaFormatter(format);
+			return zone.intern(LocalDate.parse(dateString.toString(), formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to org.joda.time.LocalDate", e);
 		}
 	}
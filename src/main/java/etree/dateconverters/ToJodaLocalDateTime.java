@@ -33,14 +33,11 @@ import java.util.Date;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.joda.time.LocalDateTime;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
 
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -49,8 +46,56 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToJodaLocalDateTime extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToJodaLocalDateTime.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<LocalDateTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<LocalDateTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<LocalDateTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> new LocalDateTime(zone.parseLocalMillis(text, start, end),
+				ISOChronology.getInstanceUTC());
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<LocalDateTime> conversions(ZoneContext zone) {
+		TextParser<LocalDateTime> textParser = textParser(zone);
+		return new ConversionTable<LocalDateTime>(LocalDateTime.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> new LocalDateTime(date.getTime(), zone.jodaChronology()))
+				.add(Calendar.class, date -> new LocalDateTime(date))
+				.add(ImmutableXMLGregorianCalendar.class,
+						date -> new LocalDateTime(date.epochMillis(), date.jodaChronology()))
+				.add(XMLGregorianCalendar.class, date -> new LocalDateTime(date.toGregorianCalendar()))
+				.add(java.time.Instant.class, date -> new LocalDateTime(date.toEpochMilli(), zone.jodaChronology()))
+				.add(LocalDate.class,
+						date -> new LocalDateTime(zone.startOfDayMillis(date.toEpochDay()), zone.jodaChronology()))
+				.add(LocalTime.class, date -> missingDate(date, LocalDateTime.class))
+				.add(java.time.LocalDateTime.class,
+						date -> new LocalDateTime(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+								date.getHour(), date.getMinute(), date.getSecond(), date.getNano() / 1_000_000))
+				.add(ZonedDateTime.class,
+						date -> new LocalDateTime(date.toInstant().toEpochMilli(), zone.jodaChronology()))
+				.add(OffsetDateTime.class,
+						date -> new LocalDateTime(date.toInstant().toEpochMilli(), zone.jodaChronology()))
+				.add(org.joda.time.Instant.class, date -> date.toDateTime(zone.jodaZone()).toLocalDateTime())
+				.add(org.joda.time.DateTime.class, date -> date.toLocalDateTime())
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, LocalDateTime.class))
+				.add(org.joda.time.LocalDate.class,
+						date -> date.toDateTimeAtStartOfDay(zone.jodaZone()).toLocalDateTime())
+				.add(LocalDateTime.class, date -> date);
+	}
 
 	/**
 	 * To local date time.
@@ -63,61 +108,7 @@ class ToJodaLocalDateTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return new LocalDateTime(utilDate);
-		}
-		if (date instanceof Date) {
-			return new LocalDateTime(date);
-		}
-		if (date instanceof Calendar) {
-			return new LocalDateTime(date);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new LocalDateTime(((XMLGregorianCalendar) date).toGregorianCalendar());
-		}
-		if (date instanceof java.time.Instant) {
-			return new LocalDateTime(((java.time.Instant) date).toEpochMilli());
-		}
-		if (date instanceof Instant) {
-			Instant instant = ((Instant) date);
-			return new LocalDateTime(instant);
-		}
-		if (date instanceof LocalDate) {
-			return new LocalDateTime(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.LocalDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof java.time.LocalDateTime) {
-			return new LocalDateTime(
-					((java.time.LocalDateTime) date).atZone(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return new LocalDateTime(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return new LocalDateTime(((OffsetDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return ((org.joda.time.Instant) date).toDateTime().toLocalDateTime();
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ((org.joda.time.DateTime) date).toLocalDateTime();
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to org.joda.time.LocalDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay().toLocalDateTime();
-		}
-		if (date instanceof LocalDateTime) {
-			return (LocalDateTime) date;
-		}
-		throw new DateConverterException("", "Date conversion error! Unable to convert " + date.getClass().getName()
-				+ " to org.joda.time.LocalDateTime");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -127,15 +118,27 @@ class ToJodaLocalDateTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the local date time
 	 */
-	public static LocalDateTime toLocalDateTime(String dateString, String format) {
+	public static LocalDateTime toLocalDateTime(CharSequence dateString, String format) {
+		return toLocalDateTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local date time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the local date time
+	 */
+	static LocalDateTime toLocalDateTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormat.forPattern(format);
-			return LocalDateTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.jodaFormatter(format);
+			return zone.intern(LocalDateTime.parse(dateString.toString(), formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to org.joda.time.LocalDateTime", e);
 		}
 	}
@@ -33,12 +33,11 @@ import java.util.Date;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.joda.time.LocalTime;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
 
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -47,6 +46,55 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToJodaLocalTime extends AbstractDateConversions {
 
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<LocalTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<LocalTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<LocalTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> new LocalTime(zone.parseLocalMillis(text, start, end),
+				ISOChronology.getInstanceUTC());
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<LocalTime> conversions(ZoneContext zone) {
+		TextParser<LocalTime> textParser = textParser(zone);
+		return new ConversionTable<LocalTime>(LocalTime.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> new LocalTime(date.getTime(), zone.jodaChronology()))
+				.add(Calendar.class, calendar -> new LocalTime(calendar))
+				.add(ImmutableXMLGregorianCalendar.class,
+						date -> new LocalTime(date.epochMillis(), date.jodaChronology()))
+				.add(XMLGregorianCalendar.class, date -> new LocalTime(date.toGregorianCalendar()))
+				.add(Instant.class, date -> new LocalTime(date.toEpochMilli(), zone.jodaChronology()))
+				.add(LocalDate.class,
+						date -> new LocalTime(zone.startOfDayMillis(date.toEpochDay()), zone.jodaChronology()))
+				.add(java.time.LocalTime.class,
+						localTime -> new LocalTime(localTime.getHour(), localTime.getMinute(), localTime.getSecond()))
+				.add(LocalDateTime.class, date -> new LocalTime(date.getHour(), date.getMinute(), date.getSecond(),
+						date.getNano() / 1_000_000))
+				.add(ZonedDateTime.class, date -> new LocalTime(date.toInstant().toEpochMilli(), zone.jodaChronology()))
+				.add(OffsetDateTime.class,
+						date -> new LocalTime(date.toInstant().toEpochMilli(), zone.jodaChronology()))
+				.add(org.joda.time.Instant.class, date -> date.toDateTime(zone.jodaZone()).toLocalTime())
+				.add(org.joda.time.DateTime.class, date -> date.toLocalTime())
+				.add(org.joda.time.LocalDate.class, date -> date.toDateTimeAtStartOfDay(zone.jodaZone()).toLocalTime())
+				.add(LocalTime.class, date -> date)
+				.add(org.joda.time.LocalDateTime.class, date -> date.toLocalTime());
+	}
+
 	/**
 	 * To local time.
 	 *
@@ -58,56 +106,7 @@ class ToJodaLocalTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return new LocalTime(utilDate);
-		}
-		if (date instanceof Date) {
-			return new LocalTime(date);
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			return new LocalTime(calendar);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new LocalTime(((XMLGregorianCalendar) date).toGregorianCalendar());
-		}
-		if (date instanceof Instant) {
-			return new LocalTime(((Instant) date).toEpochMilli());
-		}
-		if (date instanceof LocalDate) {
-			return new LocalTime(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof java.time.LocalTime) {
-			java.time.LocalTime localTime = (java.time.LocalTime) date;
-			return new LocalTime(localTime.getHour(), localTime.getMinute(), localTime.getSecond());
-		}
-		if (date instanceof LocalDateTime) {
-			return new LocalTime(((LocalDateTime) date).toInstant(DEFAULT_ZONE_OFFSET).toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return new LocalTime(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return new LocalTime(((OffsetDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return ((org.joda.time.Instant) date).toDateTime().toLocalTime();
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ((org.joda.time.DateTime) date).toLocalTime();
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay().toLocalTime();
-		}
-		if (date instanceof LocalTime) {
-			return (LocalTime) date;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return ((org.joda.time.LocalDateTime) date).toLocalTime();
-		}
-		throw new DateConverterException("", "Date conversion error! Unable to convert " + date.getClass().getName()
-				+ " to org.joda.time.LocalTime");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -117,15 +116,27 @@ class ToJodaLocalTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the local time
 	 */
-	public static LocalTime toLocalTime(String dateString, String format) {
+	public static LocalTime toLocalTime(CharSequence dateString, String format) {
+		return toLocalTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the local time
+	 */
+	static LocalTime toLocalTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormat.forPattern(format);
-			return LocalTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.jodaFormatter(format);
+			return zone.intern(LocalTime.parse(dateString.toString(), formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to org.joda.time.LocalTime", e);
 		}
 	}
@@ -22,7 +22,6 @@
 */
 package etree.dateconverters;
 
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,12 +36,8 @@ import java.util.TimeZone;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -51,8 +46,55 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToLocalDate extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToLocalDate.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<LocalDate> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<LocalDate> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<LocalDate> textParser(ZoneContext zone) {
+		return (text, start, end) -> zone.localDate(Math.floorDiv(zone.parseLocalMillis(text, start, end),
+				MILLIS_PER_DAY));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<LocalDate> conversions(ZoneContext zone) {
+		TextParser<LocalDate> textParser = textParser(zone);
+		return new ConversionTable<LocalDate>(LocalDate.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> zone.localDate(zone.epochDayAt(date.getTime())))
+				.add(Calendar.class, calendar -> {
+					TimeZone timeZone = calendar.getTimeZone();
+					ZoneId zoneId = timeZone == null ? zone.zoneId() : timeZone.toZoneId();
+					return LocalDateTime.ofInstant(calendar.toInstant(), zoneId).toLocalDate();
+				})
+				.add(ImmutableXMLGregorianCalendar.class, date -> date.localDate())
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toZonedDateTime().toLocalDate())
+				.add(Instant.class, instant -> zone.localDate(zone.epochDayAt(instant)))
+				.add(LocalDate.class, date -> date)
+				.add(LocalTime.class, date -> missingDate(date, LocalDate.class))
+				.add(LocalDateTime.class, date -> date.toLocalDate())
+				.add(ZonedDateTime.class, date -> date.toLocalDate())
+				.add(OffsetDateTime.class, date -> date.toZonedDateTime().toLocalDate())
+				.add(org.joda.time.Instant.class, date -> zone.localDate(zone.epochDayAt(date.getMillis())))
+				.add(org.joda.time.DateTime.class, date -> zone.localDate(zone.epochDayAt(date.getMillis())))
+				.add(org.joda.time.LocalDate.class,
+						date -> zone.localDate(epochDay(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth())))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, LocalDate.class))
+				.add(org.joda.time.LocalDateTime.class,
+						date -> LocalDate.of(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth()));
+	}
 
 	/**
 	 * To local date.
@@ -65,68 +107,7 @@ class ToLocalDate extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return Instant.ofEpochMilli(utilDate.getTime()).atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime()).atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		if (date instanceof Timestamp) {
-			return ((Timestamp) date).toLocalDateTime().toLocalDate();
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			TimeZone timeZone = calendar.getTimeZone();
-			ZoneId zoneId = timeZone == null ? DEFAULT_ZONE_ID : timeZone.toZoneId();
-			return LocalDateTime.ofInstant(calendar.toInstant(), zoneId).toLocalDate();
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar().toZonedDateTime().toLocalDate();
-		}
-		if (date instanceof Instant) {
-			Instant instant = ((Instant) date);
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		if (date instanceof LocalDate) {
-			return (LocalDate) date;
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to LocalDate. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return ((LocalDateTime) date).toLocalDate();
-		}
-		if (date instanceof ZonedDateTime) {
-			return ((ZonedDateTime) date).toLocalDate();
-		}
-		if (date instanceof OffsetDateTime) {
-			return ((OffsetDateTime) date).toZonedDateTime().toLocalDate();
-		}
-		if (date instanceof org.joda.time.Instant) {
-			Instant instant = Instant.ofEpochMilli(((org.joda.time.Instant) date).getMillis());
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			Instant instant = Instant.ofEpochMilli(((org.joda.time.DateTime) date).getMillis());
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			Instant instant = Instant
-					.ofEpochMilli(((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay().getMillis());
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to LocalDate. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			Instant instant = Instant.ofEpochMilli(((org.joda.time.LocalDateTime) date).toDateTime().getMillis());
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalDate();
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to LocalDate");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -136,15 +117,27 @@ class ToLocalDate extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the local date
 	 */
-	public static LocalDate toLocalDate(String dateString, String format) {
+	public static LocalDate toLocalDate(CharSequence dateString, String format) {
+		return toLocalDate(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local date, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the local date
+	 */
+	static LocalDate toLocalDate(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-			return LocalDate.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.dateTimeFormatter(format);
+			return zone.intern(LocalDate.parse(dateString, formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to LocalDate", e);
 		}
 	}
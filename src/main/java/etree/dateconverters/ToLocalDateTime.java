@@ -22,13 +22,13 @@
 */
 package etree.dateconverters;
 
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
@@ -37,12 +37,8 @@ import java.util.TimeZone;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -51,8 +47,60 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToLocalDateTime extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToLocalDateTime.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<LocalDateTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<LocalDateTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<LocalDateTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> localDateTime(zone.parseLocalMillis(text, start, end), ZoneOffset.UTC);
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<LocalDateTime> conversions(ZoneContext zone) {
+		TextParser<LocalDateTime> textParser = textParser(zone);
+		return new ConversionTable<LocalDateTime>(LocalDateTime.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> zone.localDateTime(date.getTime()))
+				.add(Calendar.class, calendar -> {
+					TimeZone timeZone = calendar.getTimeZone();
+					ZoneId zoneId = timeZone == null ? zone.zoneId() : timeZone.toZoneId();
+					return LocalDateTime.ofInstant(calendar.toInstant(), zoneId);
+				})
+				.add(ImmutableXMLGregorianCalendar.class, date -> date.localDateTime())
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toZonedDateTime().toLocalDateTime())
+				.add(Instant.class, instant -> zone.localDateTime(instant))
+				.add(LocalDate.class, date -> date.atStartOfDay())
+				.add(LocalTime.class, date -> missingDate(date, LocalDateTime.class))
+				.add(LocalDateTime.class, date -> date)
+				.add(ZonedDateTime.class, date -> date.toLocalDateTime())
+				.add(OffsetDateTime.class, date -> date.toZonedDateTime().toLocalDateTime())
+				.add(org.joda.time.Instant.class,
+						date -> zone.localDateTime(date.getMillis()))
+				.add(org.joda.time.DateTime.class,
+						date -> zone.localDateTime(date.getMillis()))
+				.add(org.joda.time.LocalDate.class, date -> {
+					org.joda.time.DateTime dateTime = date.toDateTimeAtStartOfDay(zone.jodaZone());
+					return zone.localDateTime(dateTime.getMillis());
+				})
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, LocalDateTime.class))
+				.add(org.joda.time.LocalDateTime.class,
+						date -> LocalDateTime.of(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(),
+								date.getHourOfDay(), date.getMinuteOfHour(), date.getSecondOfMinute(),
+								date.getMillisOfSecond() * 1_000_000));
+	}
 
 	/**
 	 * To local date time.
@@ -65,68 +113,7 @@ class ToLocalDateTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return Instant.ofEpochMilli(utilDate.getTime()).atZone(DEFAULT_ZONE_ID).toLocalDateTime();
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime()).atZone(DEFAULT_ZONE_ID).toLocalDateTime();
-		}
-		if (date instanceof Timestamp) {
-			return ((Timestamp) date).toLocalDateTime();
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			TimeZone timeZone = calendar.getTimeZone();
-			ZoneId zoneId = timeZone == null ? DEFAULT_ZONE_ID : timeZone.toZoneId();
-			return LocalDateTime.ofInstant(calendar.toInstant(), zoneId);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar().toZonedDateTime().toLocalDateTime();
-		}
-		if (date instanceof Instant) {
-			Instant instant = ((Instant) date);
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalDateTime();
-		}
-		if (date instanceof LocalDate) {
-			return ((LocalDate) date).atStartOfDay();
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to LocalDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return (LocalDateTime) date;
-		}
-		if (date instanceof ZonedDateTime) {
-			return ((ZonedDateTime) date).toLocalDateTime();
-		}
-		if (date instanceof OffsetDateTime) {
-			return ((OffsetDateTime) date).toZonedDateTime().toLocalDateTime();
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return LocalDateTime.ofInstant(Instant.ofEpochMilli(((org.joda.time.Instant) date).getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return LocalDateTime.ofInstant(Instant.ofEpochMilli(((org.joda.time.DateTime) date).getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			org.joda.time.DateTime dateTime = ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay();
-			return LocalDateTime.ofInstant(Instant.ofEpochMilli(dateTime.getMillis()), DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to Instant. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			org.joda.time.LocalDateTime localDateTime = ((org.joda.time.LocalDateTime) date);
-			return LocalDateTime.ofInstant(Instant.ofEpochMilli(localDateTime.toDateTime().getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to LocalDateTime");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -136,15 +123,27 @@ class ToLocalDateTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the local date time
 	 */
-	public static LocalDateTime toLocalDateTime(String dateString, String format) {
+	public static LocalDateTime toLocalDateTime(CharSequence dateString, String format) {
+		return toLocalDateTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local date time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the local date time
+	 */
+	static LocalDateTime toLocalDateTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-			return LocalDateTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.dateTimeFormatter(format);
+			return zone.intern(LocalDateTime.parse(dateString, formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to LocalDateTime", e);
 		}
 	}
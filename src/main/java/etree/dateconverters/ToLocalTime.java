@@ -22,8 +22,6 @@
 */
 package etree.dateconverters;
 
-import java.sql.Time;
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,12 +36,8 @@ import java.util.TimeZone;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -52,8 +46,63 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToLocalTime extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToLocalTime.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<LocalTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<LocalTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<LocalTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> LocalTime.ofNanoOfDay(
+			Math.floorMod(zone.parseLocalMillis(text, start, end), MILLIS_PER_DAY) * NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<LocalTime> conversions(ZoneContext zone) {
+		TextParser<LocalTime> textParser = textParser(zone);
+		return new ConversionTable<LocalTime>(LocalTime.class, zone.interner())
+				.add(java.sql.Date.class, date -> null)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> zone.localDateTime(date.getTime()).toLocalTime())
+				.add(Calendar.class, calendar -> {
+					TimeZone timeZone = calendar.getTimeZone();
+					ZoneId zoneId = timeZone == null ? zone.zoneId() : timeZone.toZoneId();
+					return LocalDateTime.ofInstant(calendar.toInstant(), zoneId).toLocalTime();
+				})
+				.add(ImmutableXMLGregorianCalendar.class, date -> date.localDateTime().toLocalTime())
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toZonedDateTime().toLocalTime())
+				.add(Instant.class, instant -> zone.localDateTime(instant).toLocalTime())
+				.add(LocalTime.class, date -> date)
+				.add(LocalDate.class, date -> missingTime(date, LocalTime.class))
+				.add(LocalDateTime.class, date -> date.toLocalTime())
+				.add(ZonedDateTime.class, date -> date.toLocalTime())
+				.add(OffsetDateTime.class, date -> date.toZonedDateTime().toLocalTime())
+				.add(org.joda.time.Instant.class, date -> {
+					org.joda.time.DateTime dateTime = date.toDateTime(zone.jodaZone());
+					return LocalTime.of(dateTime.getHourOfDay(), dateTime.getMinuteOfHour(),
+							dateTime.getSecondOfMinute());
+				})
+				.add(org.joda.time.LocalDate.class, date -> {
+					org.joda.time.DateTime dateTime = date.toDateTimeAtStartOfDay(zone.jodaZone());
+					return LocalTime.of(dateTime.getHourOfDay(), dateTime.getMinuteOfHour(),
+							dateTime.getSecondOfMinute());
+				})
+				.add(org.joda.time.LocalTime.class, localTime -> LocalTime.of(localTime.getHourOfDay(),
+						localTime.getMinuteOfHour(), localTime.getSecondOfMinute()))
+				.add(org.joda.time.LocalDateTime.class, localDateTime -> LocalTime.of(localDateTime.getHourOfDay(),
+						localDateTime.getMinuteOfHour(), localDateTime.getSecondOfMinute()));
+	}
 
 	/**
 	 * To local time.
@@ -63,70 +112,10 @@ class ToLocalTime extends AbstractDateConversions {
 	 * @return the local time
 	 */
 	public static <F> LocalTime toLocalTime(F date) {
-		if (date == null || date instanceof java.sql.Date) {
-			return null;
-		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return utilDate.toInstant().atZone(DEFAULT_ZONE_ID).toLocalTime();
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime()).atZone(DEFAULT_ZONE_ID).toLocalTime();
-		}
-		if (date instanceof Timestamp) {
-			return ((Timestamp) date).toLocalDateTime().toLocalTime();
-		}
-		if (date instanceof Time) {
-			return ((Time) date).toLocalTime();
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			TimeZone timeZone = calendar.getTimeZone();
-			ZoneId zoneId = timeZone == null ? DEFAULT_ZONE_ID : timeZone.toZoneId();
-			return LocalDateTime.ofInstant(calendar.toInstant(), zoneId).toLocalTime();
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar().toZonedDateTime().toLocalTime();
-		}
-		if (date instanceof Instant) {
-			Instant instant = ((Instant) date);
-			return instant.atZone(DEFAULT_ZONE_ID).toLocalTime();
-		}
-		if (date instanceof LocalTime) {
-			return (LocalTime) date;
-		}
-		if (date instanceof LocalDate) {
-			LOGGER.warn("No Time information available to convert to LocalTime. Returning null.");
+		if (date == null) {
 			return null;
 		}
-		if (date instanceof LocalDateTime) {
-			return ((LocalDateTime) date).toLocalTime();
-		}
-		if (date instanceof ZonedDateTime) {
-			return ((ZonedDateTime) date).toLocalTime();
-		}
-		if (date instanceof OffsetDateTime) {
-			return ((OffsetDateTime) date).toZonedDateTime().toLocalTime();
-		}
-		if (date instanceof org.joda.time.Instant) {
-			org.joda.time.DateTime dateTime = ((org.joda.time.Instant) date).toDateTime();
-			return LocalTime.of(dateTime.getHourOfDay(), dateTime.getMinuteOfHour(), dateTime.getSecondOfMinute());
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			org.joda.time.DateTime dateTime = ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay();
-			return LocalTime.of(dateTime.getHourOfDay(), dateTime.getMinuteOfHour(), dateTime.getSecondOfMinute());
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			org.joda.time.LocalTime localTime = ((org.joda.time.LocalTime) date);
-			return LocalTime.of(localTime.getHourOfDay(), localTime.getMinuteOfHour(), localTime.getSecondOfMinute());
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			org.joda.time.LocalDateTime localDateTime = ((org.joda.time.LocalDateTime) date);
-			return LocalTime.of(localDateTime.getHourOfDay(), localDateTime.getMinuteOfHour(),
-					localDateTime.getSecondOfMinute());
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to LocalTime");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -136,15 +125,27 @@ class ToLocalTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the local time
 	 */
-	public static LocalTime toLocalTime(String dateString, String format) {
+	public static LocalTime toLocalTime(CharSequence dateString, String format) {
+		return toLocalTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To local time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the local time
+	 */
+	static LocalTime toLocalTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-			return LocalTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.dateTimeFormatter(format);
+			return zone.intern(LocalTime.parse(dateString, formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to LocalTime", e);
 		}
 	}
@@ -22,7 +22,6 @@
 */
 package etree.dateconverters;
 
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,12 +36,8 @@ import java.util.TimeZone;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -51,8 +46,60 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToOffsetDateTime extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToOffsetDateTime.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<OffsetDateTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<OffsetDateTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<OffsetDateTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> zone.offsetDateTime(Instant.ofEpochMilli(zone.parseEpochMillis(text, start, end)));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<OffsetDateTime> conversions(ZoneContext zone) {
+		TextParser<OffsetDateTime> textParser = textParser(zone);
+		return new ConversionTable<OffsetDateTime>(OffsetDateTime.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> zone.offsetDateTime(Instant.ofEpochMilli(date.getTime())))
+				.add(Calendar.class, calendar -> {
+					TimeZone timeZone = calendar.getTimeZone();
+					ZoneId zoneId = timeZone == null ? zone.zoneId() : timeZone.toZoneId();
+					return OffsetDateTime.ofInstant(calendar.toInstant(), zoneId);
+				})
+				.add(ImmutableXMLGregorianCalendar.class, date -> date.zonedDateTime().toOffsetDateTime())
+				.add(XMLGregorianCalendar.class,
+						date -> OffsetDateTime.from(date.toGregorianCalendar().toZonedDateTime()))
+				.add(Instant.class, instant -> zone.offsetDateTime(instant))
+				.add(LocalDate.class,
+						date -> zone.offsetDateTime(Instant.ofEpochMilli(zone.startOfDayMillis(date.toEpochDay()))))
+				.add(LocalTime.class, date -> missingDate(date, OffsetDateTime.class))
+				.add(LocalDateTime.class, date -> zone.offsetDateTime(date))
+				.add(ZonedDateTime.class, date -> date.toOffsetDateTime())
+				.add(OffsetDateTime.class, date -> date)
+				.add(org.joda.time.Instant.class,
+						date -> zone.offsetDateTime(Instant.ofEpochMilli(date.getMillis())))
+				.add(org.joda.time.DateTime.class,
+						date -> zone.offsetDateTime(Instant.ofEpochMilli(date.getMillis())))
+				.add(org.joda.time.LocalDate.class, date -> {
+					org.joda.time.DateTime dateTime = date.toDateTimeAtStartOfDay(zone.jodaZone());
+					return zone.offsetDateTime(Instant.ofEpochMilli(dateTime.getMillis()));
+				})
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, OffsetDateTime.class))
+				.add(org.joda.time.LocalDateTime.class, date -> zone.offsetDateTime(
+						Instant.ofEpochMilli(zone.epochMillis(date))));
+	}
 
 	/**
 	 * To offset date time.
@@ -65,69 +112,7 @@ class ToOffsetDateTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return utilDate.toInstant().atOffset(DEFAULT_ZONE_OFFSET);
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime()).atZone(DEFAULT_ZONE_ID).toOffsetDateTime();
-		}
-		if (date instanceof Timestamp) {
-			Timestamp timestamp = (Timestamp) date;
-			return OffsetDateTime.ofInstant(timestamp.toInstant(), DEFAULT_ZONE_OFFSET);
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			TimeZone timeZone = calendar.getTimeZone();
-			ZoneId zoneId = timeZone == null ? DEFAULT_ZONE_ID : timeZone.toZoneId();
-			return OffsetDateTime.ofInstant(calendar.toInstant(), zoneId);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return OffsetDateTime.from(((XMLGregorianCalendar) date).toGregorianCalendar().toZonedDateTime());
-		}
-		if (date instanceof Instant) {
-			Instant instant = ((Instant) date);
-			return instant.atZone(DEFAULT_ZONE_ID).toOffsetDateTime();
-		}
-		if (date instanceof LocalDate) {
-			return ((LocalDate) date).atStartOfDay().atOffset(DEFAULT_ZONE_OFFSET);
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to OffsetDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return ((LocalDateTime) date).atOffset(DEFAULT_ZONE_OFFSET);
-		}
-		if (date instanceof ZonedDateTime) {
-			return ((ZonedDateTime) date).toOffsetDateTime();
-		}
-		if (date instanceof OffsetDateTime) {
-			return (OffsetDateTime) date;
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return OffsetDateTime.ofInstant(Instant.ofEpochMilli(((org.joda.time.Instant) date).getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return OffsetDateTime.ofInstant(Instant.ofEpochMilli(((org.joda.time.DateTime) date).getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			org.joda.time.DateTime dateTime = ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay();
-			return OffsetDateTime.ofInstant(Instant.ofEpochMilli(dateTime.getMillis()), DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to OffsetDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			org.joda.time.LocalDateTime localDateTime = ((org.joda.time.LocalDateTime) date);
-			return OffsetDateTime.ofInstant(Instant.ofEpochMilli(localDateTime.toDateTime().getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to OffsetDateTime");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -137,15 +122,27 @@ class ToOffsetDateTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the offset date time
 	 */
-	public static OffsetDateTime toOffsetDateTime(String dateString, String format) {
+	public static OffsetDateTime toOffsetDateTime(CharSequence dateString, String format) {
+		return toOffsetDateTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To offset date time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the offset date time
+	 */
+	static OffsetDateTime toOffsetDateTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-			return OffsetDateTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.dateTimeFormatter(format);
+			return zone.intern(OffsetDateTime.parse(dateString, formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to OffsetDateTime", e);
 		}
 	}
@@ -23,9 +23,7 @@
 package etree.dateconverters;
 
 import java.sql.Date;
-import java.sql.Timestamp;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,12 +34,8 @@ import java.util.Calendar;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -50,8 +44,49 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToSqlDate extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToSqlDate.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Date> TEXT_PARSER = textParser(DEFAULT_ZONE);
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Date> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Date> textParser(ZoneContext zone) {
+		return (text, start, end) -> new Date(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Date> conversions(ZoneContext zone) {
+		TextParser<Date> textParser = textParser(zone);
+		return new ConversionTable<Date>(Date.class)
+				.add(Date.class, date -> date)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(java.util.Date.class, date -> new Date(date.getTime()))
+				.add(Calendar.class, date -> new Date(date.getTimeInMillis()))
+				.add(ImmutableXMLGregorianCalendar.class, date -> new Date(date.epochMillis()))
+				.add(XMLGregorianCalendar.class, date -> new Date(date.toGregorianCalendar().getTimeInMillis()))
+				.add(Instant.class, date -> new Date(date.toEpochMilli()))
+				.add(LocalDate.class, date -> new Date(zone.startOfDayMillis(date.toEpochDay())))
+				.add(LocalTime.class, date -> missingDate(date, Date.class))
+				.add(LocalDateTime.class, date -> new Date(zone.epochMillis(date)))
+				.add(ZonedDateTime.class, date -> new Date(date.toInstant().toEpochMilli()))
+				.add(OffsetDateTime.class, date -> Date.valueOf(date.toLocalDate()))
+				.add(org.joda.time.Instant.class, date -> new Date(date.getMillis()))
+				.add(org.joda.time.DateTime.class, date -> new Date(date.getMillis()))
+				.add(org.joda.time.LocalDate.class, date -> new Date(zone.legacyStartOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, Date.class))
+				.add(org.joda.time.LocalDateTime.class, date -> new Date(zone.epochMillis(date)));
+	}
 
 	/**
 	 * To sql date.
@@ -64,58 +99,7 @@ class ToSqlDate extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof Date) {
-			return (Date) date;
-		}
-		if (date instanceof String) {
-			return new Date(DateParserUtils.parseDate((String) date).getTime());
-		}
-		if (date instanceof java.util.Date || date instanceof Timestamp) {
-			return new Date(((java.util.Date) date).getTime());
-		}
-		if (date instanceof Calendar) {
-			return new Date(((Calendar) date).getTimeInMillis());
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new Date(((XMLGregorianCalendar) date).toGregorianCalendar().getTimeInMillis());
-		}
-		if (date instanceof Instant) {
-			return new Date(((Instant) date).toEpochMilli());
-		}
-		if (date instanceof LocalDate) {
-			return new Date(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to java.sql.Date. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return new Date(((LocalDateTime) date).atZone(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return new Date(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return Date.valueOf(((OffsetDateTime) date).toLocalDate());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return new Date(((org.joda.time.Instant) date).getMillis());
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return new Date(((org.joda.time.DateTime) date).getMillis());
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return new Date(((org.joda.time.LocalDate) date).toDate().getTime());
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to java.sql.Date. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return new Date(((org.joda.time.LocalDateTime) date).toDate().getTime());
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to java.sql.Date");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -125,15 +109,26 @@ class ToSqlDate extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the date
 	 */
-	public static Date toSqlDate(String dateString, String format) {
+	public static Date toSqlDate(CharSequence dateString, String format) {
+		return toSqlDate(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To sql date, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the date
+	 */
+	static Date toSqlDate(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			java.util.Date date = new SimpleDateFormat(format).parse(dateString);
-			return new java.sql.Date(date.getTime());
+			return new java.sql.Date(zone.legacyPattern(format).parseMillis(dateString));
 		} catch (ParseException e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to java.sql.Date", e);
 		}
 	}
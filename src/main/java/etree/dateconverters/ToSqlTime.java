@@ -23,9 +23,7 @@
 package etree.dateconverters;
 
 import java.sql.Time;
-import java.sql.Timestamp;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,9 +35,8 @@ import java.util.Date;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -48,6 +45,50 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToSqlTime extends AbstractDateConversions {
 
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Time> TEXT_PARSER = textParser(DEFAULT_ZONE);
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Time> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Time> textParser(ZoneContext zone) {
+		return (text, start, end) -> new Time(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Time> conversions(ZoneContext zone) {
+		TextParser<Time> textParser = textParser(zone);
+		return new ConversionTable<Time>(Time.class)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> new Time(date.getTime()))
+				.add(Calendar.class, date -> new Time(date.getTimeInMillis()))
+				.add(ImmutableXMLGregorianCalendar.class, date -> new Time(date.epochMillis()))
+				.add(XMLGregorianCalendar.class, date -> new Time(date.toGregorianCalendar().getTimeInMillis()))
+				.add(Instant.class, date -> new Time(date.toEpochMilli()))
+				.add(LocalDate.class, date -> new Time(zone.startOfDayMillis(date.toEpochDay())))
+				.add(LocalTime.class, date -> Time.valueOf(date))
+				.add(LocalDateTime.class, date -> new Time(zone.epochMillis(date)))
+				.add(ZonedDateTime.class, date -> new Time(date.toInstant().toEpochMilli()))
+				.add(OffsetDateTime.class, date -> new Time(date.toInstant().toEpochMilli()))
+				.add(org.joda.time.Instant.class, date -> new Time(date.toDate().getTime()))
+				.add(org.joda.time.DateTime.class, date -> new Time(date.toDate().getTime()))
+				.add(org.joda.time.LocalDate.class, date -> new Time(zone.legacyStartOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, localTime -> new Time(localTime.getHourOfDay(),
+						localTime.getMinuteOfHour(), localTime.getSecondOfMinute()))
+				.add(org.joda.time.LocalDateTime.class, date -> new Time(zone.epochMillis(date)));
+	}
+
 	/**
 	 * To sql time.
 	 *
@@ -59,61 +100,7 @@ class ToSqlTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return new Time(utilDate.getTime());
-		}
-		if (date instanceof Date) {
-			return new Time(((java.util.Date) date).getTime());
-		}
-		if (date instanceof Timestamp) {
-			return new Time(((Timestamp) date).getTime());
-		}
-		if (date instanceof Time) {
-			return (Time) date;
-		}
-		if (date instanceof Calendar) {
-			return new Time(((Calendar) date).getTimeInMillis());
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new Time(((XMLGregorianCalendar) date).toGregorianCalendar().getTimeInMillis());
-		}
-		if (date instanceof Instant) {
-			return new Time(((Instant) date).toEpochMilli());
-		}
-		if (date instanceof LocalDate) {
-			return new Time(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof LocalTime) {
-			return Time.valueOf((LocalTime) date);
-		}
-		if (date instanceof LocalDateTime) {
-			return new Time(((LocalDateTime) date).atZone(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return new Time(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return new Time(((OffsetDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return new Time(((org.joda.time.Instant) date).toDate().getTime());
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return new Time(((org.joda.time.DateTime) date).toDate().getTime());
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return new Time(((org.joda.time.LocalDate) date).toDate().getTime());
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			org.joda.time.LocalTime localTime = (org.joda.time.LocalTime) date;
-			return new Time(localTime.getHourOfDay(), localTime.getMinuteOfHour(), localTime.getSecondOfMinute());
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return new Time(((org.joda.time.LocalDateTime) date).toDate().getTime());
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to java.sql.Time");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -123,15 +110,26 @@ class ToSqlTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the time
 	 */
-	public static Time toSqlTime(String dateString, String format) {
+	public static Time toSqlTime(CharSequence dateString, String format) {
+		return toSqlTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To sql time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the time
+	 */
+	static Time toSqlTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			Date date = new SimpleDateFormat(format).parse(dateString);
-			return new Time(date.getTime());
+			return new Time(zone.legacyPattern(format).parseMillis(dateString));
 		} catch (ParseException e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to java.sql.Time", e);
 		}
 	}
@@ -22,10 +22,8 @@
 */
 package etree.dateconverters;
 
-import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,12 +35,8 @@ import java.util.Date;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -51,8 +45,49 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToSqlTimestamp extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToSqlTimestamp.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Timestamp> TEXT_PARSER = textParser(DEFAULT_ZONE);
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Timestamp> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Timestamp> textParser(ZoneContext zone) {
+		return (text, start, end) -> new Timestamp(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Timestamp> conversions(ZoneContext zone) {
+		TextParser<Timestamp> textParser = textParser(zone);
+		return new ConversionTable<Timestamp>(Timestamp.class)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> new Timestamp(date.getTime()))
+				.add(Calendar.class, date -> new Timestamp(date.getTimeInMillis()))
+				.add(ImmutableXMLGregorianCalendar.class, date -> new Timestamp(date.epochMillis()))
+				.add(XMLGregorianCalendar.class, date -> new Timestamp(date.toGregorianCalendar().getTimeInMillis()))
+				.add(Instant.class, date -> new Timestamp(date.toEpochMilli()))
+				.add(LocalDate.class,
+						date -> new Timestamp(zone.startOfDayMillis(date.toEpochDay())))
+				.add(LocalTime.class, date -> missingDate(date, Timestamp.class))
+				.add(LocalDateTime.class, date -> new Timestamp(zone.epochMillis(date)))
+				.add(ZonedDateTime.class, date -> new Timestamp(date.toInstant().toEpochMilli()))
+				.add(OffsetDateTime.class, date -> new Timestamp(date.toInstant().toEpochMilli()))
+				.add(org.joda.time.Instant.class, date -> new Timestamp(date.getMillis()))
+				.add(org.joda.time.DateTime.class, date -> new Timestamp(date.getMillis()))
+				.add(org.joda.time.LocalDate.class, date -> new Timestamp(zone.legacyStartOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, Timestamp.class))
+				.add(org.joda.time.LocalDateTime.class, date -> new Timestamp(zone.epochMillis(date)));
+	}
 
 	/**
 	 * To sql timestamp.
@@ -65,59 +100,7 @@ class ToSqlTimestamp extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return new Timestamp(utilDate.getTime());
-		}
-		if (date instanceof Date) {
-			return new Timestamp(((java.util.Date) date).getTime());
-		}
-		if (date instanceof Timestamp) {
-			return (Timestamp) date;
-		}
-		if (date instanceof Calendar) {
-			return new Timestamp(((Calendar) date).getTimeInMillis());
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return new Timestamp(((XMLGregorianCalendar) date).toGregorianCalendar().getTimeInMillis());
-		}
-		if (date instanceof Instant) {
-			return new Timestamp(((Instant) date).toEpochMilli());
-		}
-		if (date instanceof LocalDate) {
-			return new Timestamp(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to Timestamp.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return new Timestamp(((LocalDateTime) date).atZone(DEFAULT_ZONE_ID).toInstant().toEpochMilli());
-		}
-		if (date instanceof ZonedDateTime) {
-			return new Timestamp(((ZonedDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof OffsetDateTime) {
-			return new Timestamp(((OffsetDateTime) date).toInstant().toEpochMilli());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return new Timestamp(((org.joda.time.Instant) date).getMillis());
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return new Timestamp(((org.joda.time.DateTime) date).getMillis());
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return new Timestamp(((org.joda.time.LocalDate) date).toDate().getTime());
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to Timestamp.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return new Timestamp(((org.joda.time.LocalDateTime) date).toDate().getTime());
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to java.sql.Timestamp");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -125,17 +108,28 @@ class ToSqlTimestamp extends AbstractDateConversions {
 	 *
 	 * @param dateString the date string
 	 * @param format the format
-	 * @return the time
+	 * @return the timestamp
+	 */
+	public static Timestamp toSqlTimestamp(CharSequence dateString, String format) {
+		return toSqlTimestamp(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To sql timestamp, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the timestamp
 	 */
-	public static Time toSqlTimestamp(String dateString, String format) {
+	static Timestamp toSqlTimestamp(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			Date date = new SimpleDateFormat(format).parse(dateString);
-			return new Time(date.getTime());
+			return new Timestamp(zone.legacyPattern(format).parseMillis(dateString));
 		} catch (ParseException e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to java.sql.Timestamp", e);
 		}
 	}
@@ -23,7 +23,6 @@
 package etree.dateconverters;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,16 +31,11 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -50,8 +44,48 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToUtilDate extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToUtilDate.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<Date> TEXT_PARSER = textParser(DEFAULT_ZONE);
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<Date> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<Date> textParser(ZoneContext zone) {
+		return (text, start, end) -> new Date(zone.parseEpochMillis(text, start, end));
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<Date> conversions(ZoneContext zone) {
+		TextParser<Date> textParser = textParser(zone);
+		return new ConversionTable<Date>(Date.class)
+				.add(Date.class, date -> date)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Calendar.class, date -> date.getTime())
+				.add(ImmutableXMLGregorianCalendar.class, date -> new Date(date.epochMillis()))
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().getTime())
+				.add(Instant.class, date -> Date.from(date))
+				.add(LocalDate.class, date -> new Date(zone.startOfDayMillis(date.toEpochDay())))
+				.add(LocalTime.class, date -> missingDate(date, Date.class))
+				.add(LocalDateTime.class, date -> new Date(zone.epochMillis(date)))
+				.add(ZonedDateTime.class, date -> Date.from(date.toInstant()))
+				.add(OffsetDateTime.class, date -> Date.from(date.toInstant()))
+				.add(org.joda.time.Instant.class, date -> date.toDateTime(zone.jodaZone()).toDate())
+				.add(org.joda.time.DateTime.class, date -> date.toDate())
+				.add(org.joda.time.LocalDate.class, date -> new Date(zone.legacyStartOfDayMillis(date)))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, Date.class))
+				.add(org.joda.time.LocalDateTime.class, date -> new Date(zone.epochMillis(date)));
+	}
 
 	/**
 	 * To util date.
@@ -64,61 +98,7 @@ class ToUtilDate extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof Date) {
-			return (Date) date;
-		}
-		if (date instanceof String) {
-			return DateParserUtils.parseDate((String) date);
-		}
-		if (date instanceof Calendar) {
-			return ((Calendar) date).getTime();
-		}
-		if (date instanceof java.sql.Timestamp) {
-			return new Date(((Date) date).getTime());
-		}
-		if (date instanceof GregorianCalendar) {
-			return ((GregorianCalendar) date).getTime();
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar().getTime();
-		}
-		if (date instanceof Instant) {
-			return Date.from((Instant) date);
-		}
-		if (date instanceof LocalDate) {
-			return Date.from(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID).toInstant());
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to Date. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return Date.from(((LocalDateTime) date).atZone(DEFAULT_ZONE_ID).toInstant());
-		}
-		if (date instanceof ZonedDateTime) {
-			return Date.from(((ZonedDateTime) date).toInstant());
-		}
-		if (date instanceof OffsetDateTime) {
-			return Date.from(((OffsetDateTime) date).toInstant());
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return ((org.joda.time.Instant) date).toDateTime().toDate();
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ((org.joda.time.DateTime) date).toDate();
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			return ((org.joda.time.LocalDate) date).toDate();
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to Date. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			return ((org.joda.time.LocalDateTime) date).toDate();
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to java.util.Date");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -128,14 +108,26 @@ class ToUtilDate extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the date
 	 */
-	public static Date toUtilDate(String dateString, String format) {
+	public static Date toUtilDate(CharSequence dateString, String format) {
+		return toUtilDate(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To util date, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the date
+	 */
+	static Date toUtilDate(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			return new SimpleDateFormat(format).parse(dateString);
+			return new Date(zone.legacyPattern(format).parseMillis(dateString));
 		} catch (ParseException e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to java.util.Date", e);
 		}
 	}
@@ -23,27 +23,25 @@
 package etree.dateconverters;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -52,8 +50,134 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToXMLGregorianCalendar extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToXMLGregorianCalendar.class);
+	/** The epoch-millis of 1583-01-01, from which GregorianCalendar uses the Gregorian calendar in every zone. */
+	private static final long GREGORIAN_MILLIS = epochDay(1583, 1, 1) * MILLIS_PER_DAY;
+
+	/** The cached DatatypeFactory. */
+	private static volatile DatatypeFactory datatypeFactory;
+
+	/** The Constant JDK_FIELDS, creating the JDK implementation through the DatatypeFactory. */
+	static final FieldFactory<XMLGregorianCalendar> JDK_FIELDS = (date, year, month, day, hour, minute, second,
+			millisecond, timezone) -> datatypeFactory(date).newXMLGregorianCalendar(year, month, day, hour, minute,
+					second, millisecond, timezone);
+
+	/** The Constant IMMUTABLE_FIELDS. */
+	static final FieldFactory<ImmutableXMLGregorianCalendar> IMMUTABLE_FIELDS = (date, year, month, day, hour, minute,
+			second, millisecond, timezone) -> ImmutableXMLGregorianCalendar.of(year, month, day, hour, minute, second,
+					millisecond, timezone);
+
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<XMLGregorianCalendar> TEXT_PARSER = textParser(DEFAULT_ZONE, JDK_FIELDS);
+
+	/** The Constant IMMUTABLE_TEXT_PARSER. */
+	static final TextParser<ImmutableXMLGregorianCalendar> IMMUTABLE_TEXT_PARSER = textParser(DEFAULT_ZONE,
+			IMMUTABLE_FIELDS);
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<XMLGregorianCalendar> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/** The Constant IMMUTABLE_CONVERSIONS. */
+	static final ConversionTable<ImmutableXMLGregorianCalendar> IMMUTABLE_CONVERSIONS = immutableConversions(
+			DEFAULT_ZONE);
+
+	/**
+	 * Creates XMLGregorianCalendars of their fields, as
+	 * {@link DatatypeFactory#newXMLGregorianCalendar(int, int, int, int, int, int, int, int)} does.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 */
+	@FunctionalInterface
+	interface FieldFactory<T extends XMLGregorianCalendar> {
+
+		/**
+		 * New XML gregorian calendar.
+		 *
+		 * @param date the source date
+		 * @param year the year
+		 * @param month the month
+		 * @param day the day
+		 * @param hour the hour
+		 * @param minute the minute
+		 * @param second the second
+		 * @param millisecond the millisecond
+		 * @param timezone the timezone offset in minutes
+		 * @return the XML gregorian calendar
+		 */
+		T newXMLGregorianCalendar(Object date, int year, int month, int day, int hour, int minute, int second,
+				int millisecond, int timezone);
+	}
+
+	/**
+	 * Text parser reading date-strings in the given zone context, creating XMLGregorianCalendars through the given
+	 * field factory.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 * @param zone the zone context
+	 * @param fields the field factory
+	 * @return the text parser
+	 */
+	static <T extends XMLGregorianCalendar> TextParser<T> textParser(ZoneContext zone, FieldFactory<T> fields) {
+		return (text, start, end) -> newXMLGregorianCalendar(zone.parseEpochMillis(text, start, end), text, zone,
+				fields);
+	}
+
+	/**
+	 * Conversion table to XMLGregorianCalendar bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<XMLGregorianCalendar> conversions(ZoneContext zone) {
+		return conversions(XMLGregorianCalendar.class, date -> date, zone, JDK_FIELDS, textParser(zone, JDK_FIELDS));
+	}
+
+	/**
+	 * Conversion table to ImmutableXMLGregorianCalendar bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<ImmutableXMLGregorianCalendar> immutableConversions(ZoneContext zone) {
+		return conversions(ImmutableXMLGregorianCalendar.class, ImmutableXMLGregorianCalendar::of, zone,
+				IMMUTABLE_FIELDS, textParser(zone, IMMUTABLE_FIELDS));
+	}
+
+	/**
+	 * Conversion table creating XMLGregorianCalendars through the given field factory.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 * @param type the target type
+	 * @param copy the conversion of other XMLGregorianCalendars
+	 * @param zone the zone context
+	 * @param fields the field factory
+	 * @param textParser the text parser
+	 * @return the conversion table
+	 */
+	private static <T extends XMLGregorianCalendar> ConversionTable<T> conversions(Class<T> type,
+			Converter<XMLGregorianCalendar, T> copy, ZoneContext zone, FieldFactory<T> fields,
+			TextParser<T> textParser) {
+		return new ConversionTable<T>(type)
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(Date.class, date -> newXMLGregorianCalendar(date.getTime(), date, zone, fields))
+				.add(Calendar.class, date -> newXMLGregorianCalendar(date.getTimeInMillis(), date, zone, fields))
+				.add(XMLGregorianCalendar.class, copy)
+				.add(Instant.class, instant -> newXMLGregorianCalendar(instant.toEpochMilli(), instant, zone, fields))
+				.add(LocalDate.class,
+						date -> newXMLGregorianCalendar(date.atStartOfDay(zone.zoneId()), date, zone, fields))
+				.add(LocalTime.class, date -> missingDate(date, type))
+				.add(LocalDateTime.class,
+						date -> newXMLGregorianCalendar(date.atZone(zone.zoneId()), date, zone, fields))
+				.add(ZonedDateTime.class, date -> newXMLGregorianCalendar(date, date, zone, fields))
+				.add(OffsetDateTime.class, date -> newXMLGregorianCalendar(date.toZonedDateTime(), date, zone, fields))
+				.add(org.joda.time.Instant.class, date -> newXMLGregorianCalendar(date.getMillis(), date, zone, fields))
+				.add(org.joda.time.DateTime.class,
+						date -> newXMLGregorianCalendar(date.getMillis(), date, zone, fields))
+				.add(org.joda.time.LocalDate.class,
+						date -> newXMLGregorianCalendar(zone.legacyStartOfDayMillis(date), date, zone, fields))
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, type))
+				.add(org.joda.time.LocalDateTime.class,
+						date -> newXMLGregorianCalendar(zone.epochMillis(date), date, zone, fields));
+	}
 
 	/**
 	 * To XML gregorian calendar.
@@ -66,75 +190,146 @@ class ToXMLGregorianCalendar extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		try {
-			GregorianCalendar gc = null;
-			if (date instanceof String) {
-				Date utlDate = DateParserUtils.parseDate((String) date);
-				gc = new GregorianCalendar();
-				gc.setTime(utlDate);
-			}
-			if (date instanceof Date) {
-				gc = new GregorianCalendar();
-				gc.setTime((Date) date);
-			}
-			if (date instanceof Calendar) {
-				Date utlDate = ((Calendar) date).getTime();
-				gc = new GregorianCalendar();
-				gc.setTime(utlDate);
-			}
-			if (date instanceof XMLGregorianCalendar) {
-				return ((XMLGregorianCalendar) date);
-			}
-			if (date instanceof Instant) {
-				gc = new GregorianCalendar();
-				Instant instant = (Instant) date;
-				gc.setTimeInMillis(instant.toEpochMilli());
-			}
-			if (date instanceof LocalDate) {
-				gc = GregorianCalendar.from(((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID));
-			}
-			if (date instanceof LocalTime) {
-				LOGGER.warn("No date information available to convert to XMLGregorianCalendar. Returning null.");
-				return null;
-			}
-			if (date instanceof LocalDateTime) {
-				gc = GregorianCalendar.from(((LocalDateTime) date).atZone(DEFAULT_ZONE_ID));
-			}
-			if (date instanceof ZonedDateTime) {
-				gc = GregorianCalendar.from(((ZonedDateTime) date));
-			}
-			if (date instanceof OffsetDateTime) {
-				gc = GregorianCalendar.from(((OffsetDateTime) date).toZonedDateTime());
-			}
-			if (date instanceof org.joda.time.Instant) {
-				gc = new GregorianCalendar();
-				gc.setTime(((org.joda.time.Instant) date).toDate());
-			}
-			if (date instanceof org.joda.time.DateTime) {
-				gc = new GregorianCalendar();
-				gc.setTime(((org.joda.time.DateTime) date).toDate());
-			}
-			if (date instanceof org.joda.time.LocalDate) {
-				gc = new GregorianCalendar();
-				gc.setTime(((org.joda.time.LocalDate) date).toDate());
-			}
-			if (date instanceof org.joda.time.LocalTime) {
-				LOGGER.warn("No date information available to convert to XMLGregorianCalendar. Returning null.");
-				return null;
-			}
-			if (date instanceof org.joda.time.LocalDateTime) {
-				gc = new GregorianCalendar();
-				gc.setTime(((org.joda.time.LocalDateTime) date).toDate());
-			}
-			if (gc != null) {
-				return DatatypeFactory.newInstance().newXMLGregorianCalendar(gc);
+		return CONVERSIONS.convert(date);
+	}
+
+	/**
+	 * To immutable XML gregorian calendar.
+	 *
+	 * @param <F> the generic type
+	 * @param date the date
+	 * @return the immutable XML gregorian calendar
+	 */
+	public static <F> ImmutableXMLGregorianCalendar toImmutableXMLGregorianCalendar(F date) {
+		if (date == null) {
+			return null;
+		}
+		return IMMUTABLE_CONVERSIONS.convert(date);
+	}
+
+	/**
+	 * New XML gregorian calendar of the given epoch-millis in the zone of the context, with the fields a
+	 * GregorianCalendar of that zone has. They are computed directly from the epoch-millis from 1583 on, when that
+	 * GregorianCalendar no longer uses the Julian calendar.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 * @param epochMillis the epoch millis
+	 * @param date the source date
+	 * @param zone the zone context
+	 * @param fields the field factory
+	 * @return the XML gregorian calendar
+	 */
+	private static <T extends XMLGregorianCalendar> T newXMLGregorianCalendar(long epochMillis, Object date,
+			ZoneContext zone, FieldFactory<T> fields) {
+		if (epochMillis < GREGORIAN_MILLIS) {
+			GregorianCalendar gc = new GregorianCalendar((TimeZone) zone.timeZone().clone(), zone.locale());
+			gc.setTimeInMillis(epochMillis);
+			return newXMLGregorianCalendar(gc, date, fields);
+		}
+		int offsetMillis = zone.timeZone().getOffset(epochMillis);
+		long localMillis = epochMillis + offsetMillis;
+		LocalDate localDate = zone.localDate(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+		int millisOfDay = (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+		return fields.newXMLGregorianCalendar(date, localDate.getYear(), localDate.getMonthValue(),
+				localDate.getDayOfMonth(), millisOfDay / 3_600_000, millisOfDay / 60_000 % 60, millisOfDay / 1000 % 60,
+				millisOfDay % 1000, offsetMillis / 60_000);
+	}
+
+	/**
+	 * New XML gregorian calendar of the fields and offset of the given date-time, as {@link GregorianCalendar#from}
+	 * gives them. They are taken directly from the date-time if the GregorianCalendar would have the same offset,
+	 * i.e. for the zone of the context and for offsets of whole minutes, and the year is in the current era.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 * @param dateTime the date time
+	 * @param date the source date
+	 * @param zone the zone context
+	 * @param fields the field factory
+	 * @return the XML gregorian calendar
+	 */
+	private static <T extends XMLGregorianCalendar> T newXMLGregorianCalendar(ZonedDateTime dateTime, Object date,
+			ZoneContext zone, FieldFactory<T> fields) {
+		int offsetSeconds = dateTime.getOffset().getTotalSeconds();
+		ZoneId dateZone = dateTime.getZone();
+		boolean sameOffset;
+		if (dateZone instanceof ZoneOffset) {
+			sameOffset = offsetSeconds % 60 == 0;
+		} else {
+			long epochMillis = dateTime.toEpochSecond() * 1000L + dateTime.getNano() / NANOS_PER_MILLI;
+			sameOffset = dateZone.equals(zone.zoneId())
+					&& zone.timeZone().getOffset(epochMillis) == offsetSeconds * 1000;
+		}
+		if (!sameOffset || dateTime.getYear() <= 0) {
+			return newXMLGregorianCalendar(GregorianCalendar.from(dateTime), date, fields);
+		}
+		return fields.newXMLGregorianCalendar(date, dateTime.getYear(), dateTime.getMonthValue(),
+				dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(),
+				dateTime.getNano() / (int) NANOS_PER_MILLI, offsetSeconds / 60);
+	}
+
+	/**
+	 * New XML gregorian calendar of the fields of the given calendar, as
+	 * {@link DatatypeFactory#newXMLGregorianCalendar(GregorianCalendar)} takes them.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 * @param gc the gregorian calendar
+	 * @param date the source date
+	 * @param fields the field factory
+	 * @return the XML gregorian calendar
+	 */
+	private static <T extends XMLGregorianCalendar> T newXMLGregorianCalendar(GregorianCalendar gc, Object date,
+			FieldFactory<T> fields) {
+		int year = gc.get(Calendar.YEAR);
+		return fields.newXMLGregorianCalendar(date, gc.get(Calendar.ERA) == GregorianCalendar.BC ? -year : year,
+				gc.get(Calendar.MONTH) + 1, gc.get(Calendar.DAY_OF_MONTH), gc.get(Calendar.HOUR_OF_DAY),
+				gc.get(Calendar.MINUTE), gc.get(Calendar.SECOND), gc.get(Calendar.MILLISECOND),
+				(gc.get(Calendar.ZONE_OFFSET) + gc.get(Calendar.DST_OFFSET)) / 60_000);
+	}
+
+	/**
+	 * The DatatypeFactory, looked up once. DatatypeFactory instances hold no state of their own.
+	 *
+	 * @param date the source date, or null if there is none
+	 * @return the datatype factory
+	 */
+	static DatatypeFactory datatypeFactory(Object date) {
+		DatatypeFactory factory = datatypeFactory;
+		if (factory == null) {
+			try {
+				factory = DatatypeFactory.newInstance();
+			} catch (DatatypeConfigurationException e) {
+				String source = date == null ? "fields" : date.getClass().getName();
+				throw new DateConverterException(ErrorCode.INVALID_CONFIGURATION,
+						"Date conversion error! Unable to convert " + source + " to XMLGregorianCalendar", e);
 			}
-		} catch (DatatypeConfigurationException e) {
-			throw new DateConverterException("", "Date conversion error! Unable to convert " + date.getClass().getName()
+			datatypeFactory = factory;
+		}
+		return factory;
+	}
+
+	/**
+	 * Parses the XML Schema lexical representation in the given range of characters, with the fields
+	 * {@link DatatypeFactory#newXMLGregorianCalendar(String)} gives. The fields are read by {@link XsdLexical}, and
+	 * only the text it leaves is parsed by the DatatypeFactory.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the immutable XML gregorian calendar, or the DatatypeFactory's for text left to it
+	 */
+	static XMLGregorianCalendar parseXMLFormat(CharSequence text, int start, int end) {
+		ImmutableXMLGregorianCalendar date = XsdLexical.parse(text, start, end);
+		if (date != null) {
+			return date;
+		}
+		String lexicalRepresentation = text.subSequence(start, end).toString();
+		try {
+			return datatypeFactory(lexicalRepresentation).newXMLGregorianCalendar(lexicalRepresentation);
+		} catch (IllegalArgumentException e) {
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
+					"Date conversion error! Unable to convert " + lexicalRepresentation
 					+ " to XMLGregorianCalendar", e);
 		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to XMLGregorianCalendar");
 	}
 
 	/**
@@ -144,17 +339,68 @@ class ToXMLGregorianCalendar extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the XML gregorian calendar
 	 */
-	public static XMLGregorianCalendar toXMLGregorianCalendar(String dateString, String format) {
+	public static XMLGregorianCalendar toXMLGregorianCalendar(CharSequence dateString, String format) {
+		return toXMLGregorianCalendar(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To XML gregorian calendar, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the XML gregorian calendar
+	 */
+	static XMLGregorianCalendar toXMLGregorianCalendar(CharSequence dateString, String format, ZoneContext zone) {
+		return toXMLGregorianCalendar(dateString, format, zone, JDK_FIELDS);
+	}
+
+	/**
+	 * To immutable XML gregorian calendar.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @return the immutable XML gregorian calendar
+	 */
+	public static ImmutableXMLGregorianCalendar toImmutableXMLGregorianCalendar(CharSequence dateString,
+			String format) {
+		return toImmutableXMLGregorianCalendar(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To immutable XML gregorian calendar, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the immutable XML gregorian calendar
+	 */
+	static ImmutableXMLGregorianCalendar toImmutableXMLGregorianCalendar(CharSequence dateString, String format,
+			ZoneContext zone) {
+		return toXMLGregorianCalendar(dateString, format, zone, IMMUTABLE_FIELDS);
+	}
+
+	/**
+	 * To XML gregorian calendar.
+	 *
+	 * @param <T> the XMLGregorianCalendar type
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @param fields the field factory
+	 * @return the XML gregorian calendar
+	 */
+	private static <T extends XMLGregorianCalendar> T toXMLGregorianCalendar(CharSequence dateString, String format,
+			ZoneContext zone, FieldFactory<T> fields) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			GregorianCalendar gc = (GregorianCalendar) GregorianCalendar.getInstance();
-			gc.setTime(new SimpleDateFormat(format).parse(dateString));
-			return DatatypeFactory.newInstance().newXMLGregorianCalendar(gc);
-		} catch (ParseException | DatatypeConfigurationException e) {
-			throw new DateConverterException(
+			return newXMLGregorianCalendar(zone.legacyPattern(format).parseMillis(dateString), dateString, zone,
+					fields);
+		} catch (ParseException e) {
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Calendar conversion error! Unable to convert " + dateString + " to XMLGregorianCalendar.", e);
 		}
 	}
-}
\ No newline at end of file
+}
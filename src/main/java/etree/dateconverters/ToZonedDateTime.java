@@ -36,12 +36,8 @@ import java.util.TimeZone;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.sisyphsu.dateparser.DateParserUtils;
-
 import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 
 
 /**
@@ -50,8 +46,61 @@ import etree.dateconverters.exception.DateConverterException;
 
 class ToZonedDateTime extends AbstractDateConversions {
 	
-	/** The Constant LOGGER. */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ToZonedDateTime.class);
+	/** The Constant TEXT_PARSER. */
+	static final TextParser<ZonedDateTime> TEXT_PARSER = DEFAULT_ZONE.interned(textParser(DEFAULT_ZONE));
+
+	/** The Constant CONVERSIONS. */
+	static final ConversionTable<ZonedDateTime> CONVERSIONS = conversions(DEFAULT_ZONE);
+
+	/**
+	 * Text parser reading date-strings in the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the text parser
+	 */
+	static TextParser<ZonedDateTime> textParser(ZoneContext zone) {
+		return (text, start, end) -> Instant.ofEpochMilli(zone.parseEpochMillis(text, start, end))
+				.atZone(zone.zoneId());
+	}
+
+	/**
+	 * Conversion table bound to the given zone context.
+	 *
+	 * @param zone the zone context
+	 * @return the conversion table
+	 */
+	static ConversionTable<ZonedDateTime> conversions(ZoneContext zone) {
+		TextParser<ZonedDateTime> textParser = textParser(zone);
+		return new ConversionTable<ZonedDateTime>(ZonedDateTime.class, zone.interner())
+				.add(String.class, date -> textParser.parse(date, 0, date.length()))
+				.add(java.sql.Date.class, date -> date.toLocalDate().atStartOfDay(zone.zoneId()))
+				.add(Date.class, date -> Instant.ofEpochMilli(date.getTime()).atZone(zone.zoneId()).toOffsetDateTime()
+						.toZonedDateTime())
+				.add(Calendar.class, calendar -> {
+					TimeZone timeZone = calendar.getTimeZone();
+					ZoneId zoneId = timeZone == null ? zone.zoneId() : timeZone.toZoneId();
+					return ZonedDateTime.ofInstant(calendar.toInstant(), zoneId);
+				})
+				.add(ImmutableXMLGregorianCalendar.class, date -> date.zonedDateTime())
+				.add(XMLGregorianCalendar.class, date -> date.toGregorianCalendar().toZonedDateTime())
+				.add(Instant.class, instant -> instant.atZone(zone.zoneId()))
+				.add(LocalDate.class, date -> date.atStartOfDay(zone.zoneId()))
+				.add(LocalTime.class, date -> missingDate(date, ZonedDateTime.class))
+				.add(LocalDateTime.class, date -> date.atZone(zone.zoneId()))
+				.add(ZonedDateTime.class, date -> date)
+				.add(OffsetDateTime.class, date -> date.toZonedDateTime())
+				.add(org.joda.time.Instant.class,
+						date -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(date.getMillis()), zone.zoneId()))
+				.add(org.joda.time.DateTime.class,
+						date -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(date.getMillis()), zone.zoneId()))
+				.add(org.joda.time.LocalDate.class, date -> {
+					org.joda.time.DateTime dateTime = date.toDateTimeAtStartOfDay(zone.jodaZone());
+					return ZonedDateTime.ofInstant(Instant.ofEpochMilli(dateTime.getMillis()), zone.zoneId());
+				})
+				.add(org.joda.time.LocalTime.class, date -> missingDate(date, ZonedDateTime.class))
+				.add(org.joda.time.LocalDateTime.class, localDateTime -> ZonedDateTime
+						.ofInstant(Instant.ofEpochMilli(zone.epochMillis(localDateTime)), zone.zoneId()));
+	}
 
 	/**
 	 * To zoned date time.
@@ -64,69 +113,7 @@ class ToZonedDateTime extends AbstractDateConversions {
 		if (date == null) {
 			return null;
 		}
-		if (date instanceof String) {
-			Date utilDate = DateParserUtils.parseDate((String) date);
-			return utilDate.toInstant().atZone(DEFAULT_ZONE_ID);
-		}
-		if (date instanceof java.sql.Date) {
-			return ((java.sql.Date) date).toLocalDate().atStartOfDay(DEFAULT_ZONE_ID);
-		}
-		if (date instanceof Date) {
-			return Instant.ofEpochMilli(((Date) date).getTime()).atZone(DEFAULT_ZONE_ID).toOffsetDateTime()
-					.toZonedDateTime();
-		}
-		if (date instanceof Calendar) {
-			Calendar calendar = (Calendar) date;
-			TimeZone timeZone = calendar.getTimeZone();
-			ZoneId zoneId = timeZone == null ? DEFAULT_ZONE_ID : timeZone.toZoneId();
-			return ZonedDateTime.ofInstant(calendar.toInstant(), zoneId);
-		}
-		if (date instanceof XMLGregorianCalendar) {
-			return ((XMLGregorianCalendar) date).toGregorianCalendar().toZonedDateTime();
-		}
-		if (date instanceof Instant) {
-			Instant instant = ((Instant) date);
-			return instant.atZone(DEFAULT_ZONE_ID);
-		}
-		if (date instanceof LocalDate) {
-			return ((LocalDate) date).atStartOfDay(DEFAULT_ZONE_ID);
-		}
-		if (date instanceof LocalTime) {
-			LOGGER.warn("No date information available to convert to ZonedDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof LocalDateTime) {
-			return ((LocalDateTime) date).atZone(DEFAULT_ZONE_ID);
-		}
-		if (date instanceof ZonedDateTime) {
-			return (ZonedDateTime) date;
-		}
-		if (date instanceof OffsetDateTime) {
-			return ((OffsetDateTime) date).toZonedDateTime();
-		}
-		if (date instanceof org.joda.time.Instant) {
-			return ZonedDateTime.ofInstant(Instant.ofEpochMilli(((org.joda.time.Instant) date).getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.DateTime) {
-			return ZonedDateTime.ofInstant(Instant.ofEpochMilli(((org.joda.time.DateTime) date).getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.LocalDate) {
-			org.joda.time.DateTime dateTime = ((org.joda.time.LocalDate) date).toDateTimeAtStartOfDay();
-			return ZonedDateTime.ofInstant(Instant.ofEpochMilli(dateTime.getMillis()), DEFAULT_ZONE_ID);
-		}
-		if (date instanceof org.joda.time.LocalTime) {
-			LOGGER.warn("No date information available to convert to ZonedDateTime. Returning null.");
-			return null;
-		}
-		if (date instanceof org.joda.time.LocalDateTime) {
-			org.joda.time.LocalDateTime localDateTime = ((org.joda.time.LocalDateTime) date);
-			return ZonedDateTime.ofInstant(Instant.ofEpochMilli(localDateTime.toDateTime().getMillis()),
-					DEFAULT_ZONE_ID);
-		}
-		throw new DateConverterException("",
-				"Date conversion error! Unable to convert " + date.getClass().getName() + " to ZonedDateTime.");
+		return CONVERSIONS.convert(date);
 	}
 
 	/**
@@ -136,15 +123,27 @@ class ToZonedDateTime extends AbstractDateConversions {
 	 * @param format the format
 	 * @return the zoned date time
 	 */
-	public static ZonedDateTime toZonedDateTime(String dateString, String format) {
+	public static ZonedDateTime toZonedDateTime(CharSequence dateString, String format) {
+		return toZonedDateTime(dateString, format, DEFAULT_ZONE);
+	}
+
+	/**
+	 * To zoned date time, reading the date-string in the given zone context.
+	 *
+	 * @param dateString the date string
+	 * @param format the format
+	 * @param zone the zone context
+	 * @return the zoned date time
+	 */
+	static ZonedDateTime toZonedDateTime(CharSequence dateString, String format, ZoneContext zone) {
 		if (dateString == null) {
 			return null;
 		}
 		try {
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-			return ZonedDateTime.parse(dateString, formatter);
+			DateTimeFormatter formatter = zone.dateTimeFormatter(format);
+			return zone.intern(ZonedDateTime.parse(dateString, formatter));
 		} catch (Exception e) {
-			throw new DateConverterException("",
+			throw new DateConverterException(ErrorCode.UNPARSEABLE_DATE,
 					"Date conversion error! Unable to convert " + dateString + " to ZonedDateTime", e);
 		}
 	}
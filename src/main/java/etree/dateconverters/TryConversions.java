@@ -0,0 +1,167 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
+
+
+/**
+ * The Class TryConversions.
+ * 
+ * The non-throwing conversions of a zone context, which record the converted date or the {@link ErrorCode} of the
+ * failure in a {@link ConversionResult}. The failures common in dirty feeds are detected without creating an
+ * exception: source types without a conversion, dates lacking the date or time information of the target type,
+ * date-strings not matching the given date-format, and date-strings DateParserUtils failed to parse before. Other
+ * failures, e.g. a date-string DateParserUtils fails to parse the first time, are caught.
+ */
+final class TryConversions extends AbstractDateConversions {
+
+	/** The conversions of the default zone. */
+	static final TryConversions DEFAULT = new TryConversions(DEFAULT_ZONE);
+
+	/** The check of date-strings against a date-format resolved per target class. */
+	private final ClassValue<BiPredicate<CharSequence, String>> formatMatchers;
+
+	/**
+	 * Instantiates new try conversions.
+	 *
+	 * @param zone the zone context
+	 */
+	TryConversions(ZoneContext zone) {
+		formatMatchers = new ClassValue<BiPredicate<CharSequence, String>>() {
+
+			@Override
+			protected BiPredicate<CharSequence, String> computeValue(Class<?> toClz) {
+				DateTarget<?> target = DateTarget.of(toClz);
+				return target == null ? null : target.formatMatcher(zone);
+			}
+		};
+	}
+
+	/**
+	 * Converts the given date with the given conversion table, or, if it is a String, with the given text parser.
+	 *
+	 * @param <T> the target type
+	 * @param from the from
+	 * @param conversions the conversion table, or null if the target is not a date-type
+	 * @param textParser the text parser, or null if the target is not a date-type
+	 * @param result the result
+	 * @return true, if successful
+	 */
+	@SuppressWarnings("unchecked")
+	<T> boolean convert(Object from, ConversionTable<?> conversions, TextParser<?> textParser,
+			ConversionResult<T> result) {
+		if (from == null) {
+			return result.success(null);
+		}
+		if (from instanceof String) {
+			String text = (String) from;
+			return parse(text, 0, text.length(), textParser, result);
+		}
+		if (conversions == null || !conversions.supports(from.getClass())) {
+			return result.failure(ErrorCode.UNSUPPORTED_CONVERSION);
+		}
+		try {
+			T value = (T) conversions.convert(from);
+			return value == null ? result.failure(ErrorCode.INCOMPLETE_DATE) : result.success(value);
+		} catch (RuntimeException e) {
+			return result.failure(errorCode(e, ErrorCode.INVALID_DATE));
+		}
+	}
+
+	/**
+	 * Parses the date-string in the given range of characters with the given text parser.
+	 *
+	 * @param <T> the target type
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @param parser the text parser, or null if the target is not a date-type
+	 * @param result the result
+	 * @return true, if successful
+	 */
+	@SuppressWarnings("unchecked")
+	<T> boolean parse(CharSequence text, int start, int end, TextParser<?> parser, ConversionResult<T> result) {
+		if (text == null) {
+			return result.success(null);
+		}
+		if (parser == null) {
+			return result.failure(ErrorCode.UNSUPPORTED_CONVERSION);
+		}
+		if (FormatShapeCache.isRejected(text, start, end)) {
+			return result.failure(ErrorCode.UNPARSEABLE_DATE);
+		}
+		try {
+			return result.success((T) parser.parse(text, start, end));
+		} catch (RuntimeException e) {
+			return result.failure(errorCode(e, ErrorCode.UNPARSEABLE_DATE));
+		}
+	}
+
+	/**
+	 * Parses the date-string of the given date-format with the given parser, once it matches the date-format.
+	 *
+	 * @param <T> the target type
+	 * @param text the text
+	 * @param format the format
+	 * @param toClz the target class
+	 * @param parser the parser, or null if the target is not a date-type
+	 * @param result the result
+	 * @return true, if successful
+	 */
+	@SuppressWarnings("unchecked")
+	<T> boolean parse(CharSequence text, String format, Class<?> toClz, BiFunction<CharSequence, String, ?> parser,
+			ConversionResult<T> result) {
+		if (text == null) {
+			return result.success(null);
+		}
+		BiPredicate<CharSequence, String> matcher = toClz == null ? null : formatMatchers.get(toClz);
+		if (parser == null || matcher == null) {
+			return result.failure(ErrorCode.UNSUPPORTED_CONVERSION);
+		}
+		try {
+			if (!matcher.test(text, format)) {
+				return result.failure(ErrorCode.UNPARSEABLE_DATE);
+			}
+			return result.success((T) parser.apply(text, format));
+		} catch (RuntimeException e) {
+			return result.failure(errorCode(e, ErrorCode.UNPARSEABLE_DATE));
+		}
+	}
+
+	/**
+	 * The error code of the given failure.
+	 *
+	 * @param e the failure
+	 * @param otherwise the error code of failures other than coded DateConverterExceptions
+	 * @return the error code
+	 */
+	private static ErrorCode errorCode(RuntimeException e, ErrorCode otherwise) {
+		ErrorCode code = e instanceof DateConverterException ? ((DateConverterException) e).getCode() : null;
+		return code == null ? otherwise : code;
+	}
+}
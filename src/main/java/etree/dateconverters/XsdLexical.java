@@ -0,0 +1,377 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+
+
+/**
+ * The Class XsdLexical.
+ * 
+ * A parser and formatter of the lexical representations of the XML Schema date/time types - {@code xsd:dateTime},
+ * {@code xsd:date}, {@code xsd:time} and the {@code xsd:g...} types - with their fractional seconds and timezones.
+ * The fields are read straight off the text into an {@link ImmutableXMLGregorianCalendar}, with the same values
+ * {@link javax.xml.datatype.DatatypeFactory#newXMLGregorianCalendar(String)} gives: the type is told from the shape
+ * of the text in the same way and the fields are validated in the same way. Text the parser does not take - malformed
+ * text, years of ten or more digits, fractional seconds of more than 18 digits and the hour 24 - is left to the
+ * DatatypeFactory.
+ */
+final class XsdLexical {
+
+	/** The Constant UNDEFINED. */
+	private static final int UNDEFINED = DatatypeConstants.FIELD_UNDEFINED;
+
+	/** The Constant DATE_TIME. */
+	private static final String DATE_TIME = "%Y-%M-%DT%h:%m:%s%z";
+
+	/** The Constant DATE. */
+	private static final String DATE = "%Y-%M-%D%z";
+
+	/** The Constant TIME. */
+	private static final String TIME = "%h:%m:%s%z";
+
+	/** The Constant G_DAY. */
+	private static final String G_DAY = "---%D%z";
+
+	/** The Constant G_MONTH. */
+	private static final String G_MONTH = "--%M%z";
+
+	/** The Constant G_MONTH_DAY. */
+	private static final String G_MONTH_DAY = "--%M-%D%z";
+
+	/** The Constant G_YEAR. */
+	private static final String G_YEAR = "%Y%z";
+
+	/** The Constant G_YEAR_MONTH. */
+	private static final String G_YEAR_MONTH = "%Y-%M%z";
+
+	/** The Constant MAX_FRACTION_DIGITS. */
+	private static final int MAX_FRACTION_DIGITS = 18;
+
+	/**
+	 * Instantiates a new xsd lexical.
+	 */
+	private XsdLexical() {
+	}
+
+	/**
+	 * Parses the lexical representation in the given range of characters.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the immutable XML gregorian calendar, or null if the text is left to the DatatypeFactory
+	 */
+	static ImmutableXMLGregorianCalendar parse(CharSequence text, int start, int end) {
+		String format = format(text, start, end);
+		int year = UNDEFINED;
+		int month = UNDEFINED;
+		int day = UNDEFINED;
+		int hour = UNDEFINED;
+		int minute = UNDEFINED;
+		int second = UNDEFINED;
+		long fraction = 0L;
+		int fractionScale = UNDEFINED;
+		int timezone = UNDEFINED;
+		int pos = start;
+		for (int i = 0; i < format.length(); i++) {
+			char c = format.charAt(i);
+			if (c != '%') {
+				if (pos == end || text.charAt(pos) != c) {
+					return null;
+				}
+				pos++;
+				continue;
+			}
+			c = format.charAt(++i);
+			if (c == 'Y') {
+				boolean negative = pos < end && text.charAt(pos) == '-';
+				int digitsStart = negative ? pos + 1 : pos;
+				int digitsEnd = digitsStart;
+				while (digitsEnd < end && isDigit(text.charAt(digitsEnd))) {
+					digitsEnd++;
+				}
+				if (digitsEnd - digitsStart < 4 || digitsEnd - digitsStart > 9) {
+					return null;
+				}
+				year = digits(text, digitsStart, digitsEnd);
+				if (negative) {
+					year = -year;
+				}
+				pos = digitsEnd;
+				continue;
+			}
+			if (c == 'z') {
+				if (pos < end && text.charAt(pos) == 'Z') {
+					timezone = 0;
+					pos++;
+				} else if (pos < end && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) {
+					if (end - pos < 6 || !isDigits(text, pos + 1, pos + 3) || text.charAt(pos + 3) != ':'
+							|| !isDigits(text, pos + 4, pos + 6)) {
+						return null;
+					}
+					timezone = digits(text, pos + 1, pos + 3) * 60 + digits(text, pos + 4, pos + 6);
+					if (text.charAt(pos) == '-') {
+						timezone = -timezone;
+					}
+					pos += 6;
+				}
+				continue;
+			}
+			if (end - pos < 2 || !isDigits(text, pos, pos + 2)) {
+				return null;
+			}
+			int value = digits(text, pos, pos + 2);
+			pos += 2;
+			if (c == 'M') {
+				month = value;
+			} else if (c == 'D') {
+				day = value;
+			} else if (c == 'h') {
+				hour = value;
+			} else if (c == 'm') {
+				minute = value;
+			} else {
+				second = value;
+				if (pos < end && text.charAt(pos) == '.') {
+					int digitsStart = ++pos;
+					while (pos < end && isDigit(text.charAt(pos))) {
+						pos++;
+					}
+					if (pos == digitsStart || pos - digitsStart > MAX_FRACTION_DIGITS) {
+						return null;
+					}
+					for (int j = digitsStart; j < pos; j++) {
+						fraction = fraction * 10 + text.charAt(j) - '0';
+					}
+					fractionScale = pos - digitsStart;
+				}
+			}
+		}
+		if (pos != end || hour == 24) {
+			return null;
+		}
+		try {
+			return ImmutableXMLGregorianCalendar.of(year, month, day, hour, minute, second, fraction, fractionScale,
+					timezone);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The format of the lexical representation, told from its shape as the JDK implementation tells it.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the format
+	 */
+	private static String format(CharSequence text, int start, int end) {
+		int length = end - start;
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == 'T') {
+				return DATE_TIME;
+			}
+		}
+		if (length >= 3 && text.charAt(start + 2) == ':') {
+			return TIME;
+		}
+		if (length >= 2 && text.charAt(start) == '-' && text.charAt(start + 1) == '-') {
+			if (length >= 3 && text.charAt(start + 2) == '-') {
+				return G_DAY;
+			}
+			return length == 4 || length == 5 || length == 10 ? G_MONTH : G_MONTH_DAY;
+		}
+		int separatorsEnd = end;
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == ':') {
+				separatorsEnd -= 6;
+				break;
+			}
+		}
+		int separators = 0;
+		for (int i = start + 1; i < separatorsEnd; i++) {
+			if (text.charAt(i) == '-') {
+				separators++;
+			}
+		}
+		return separators == 0 ? G_YEAR : separators == 1 ? G_YEAR_MONTH : DATE;
+	}
+
+	/**
+	 * Appends the lexical representation of the given XMLGregorianCalendar, as
+	 * {@link XMLGregorianCalendar#toXMLFormat()} gives it.
+	 *
+	 * @param date the date
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	static StringBuilder append(XMLGregorianCalendar date, StringBuilder builder) {
+		if (date.getEon() != null) {
+			return builder.append(date.toXMLFormat());
+		}
+		QName type = date.getXMLSchemaType();
+		if (type == DatatypeConstants.DATETIME) {
+			appendDate(date, builder).append('T');
+			appendTime(date, builder);
+		} else if (type == DatatypeConstants.DATE) {
+			appendDate(date, builder);
+		} else if (type == DatatypeConstants.TIME) {
+			appendTime(date, builder);
+		} else if (type == DatatypeConstants.GMONTH) {
+			appendNumber(builder.append("--"), date.getMonth(), 2);
+		} else if (type == DatatypeConstants.GDAY) {
+			appendNumber(builder.append("---"), date.getDay(), 2);
+		} else if (type == DatatypeConstants.GYEAR) {
+			appendYear(date, builder);
+		} else if (type == DatatypeConstants.GYEARMONTH) {
+			appendNumber(appendYear(date, builder).append('-'), date.getMonth(), 2);
+		} else {
+			appendNumber(appendNumber(builder.append("--"), date.getMonth(), 2).append('-'), date.getDay(), 2);
+		}
+		int timezone = date.getTimezone();
+		if (timezone == 0) {
+			builder.append('Z');
+		} else if (timezone != UNDEFINED) {
+			int offset = Math.abs(timezone);
+			builder.append(timezone < 0 ? '-' : '+');
+			appendNumber(builder, offset / 60, 2).append(':');
+			appendNumber(builder, offset % 60, 2);
+		}
+		return builder;
+	}
+
+	/**
+	 * Appends the year, month and day.
+	 *
+	 * @param date the date
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	private static StringBuilder appendDate(XMLGregorianCalendar date, StringBuilder builder) {
+		appendNumber(appendYear(date, builder).append('-'), date.getMonth(), 2).append('-');
+		return appendNumber(builder, date.getDay(), 2);
+	}
+
+	/**
+	 * Appends the year, with at least 4 digits.
+	 *
+	 * @param date the date
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	private static StringBuilder appendYear(XMLGregorianCalendar date, StringBuilder builder) {
+		int year = date.getYear();
+		if (year < 0) {
+			builder.append('-');
+		}
+		return appendNumber(builder, Math.abs(year), 4);
+	}
+
+	/**
+	 * Appends the hour, minute, second and fractional second.
+	 *
+	 * @param date the date
+	 * @param builder the builder
+	 * @return the builder
+	 */
+	private static StringBuilder appendTime(XMLGregorianCalendar date, StringBuilder builder) {
+		appendNumber(appendNumber(builder, date.getHour(), 2).append(':'), date.getMinute(), 2).append(':');
+		appendNumber(builder, date.getSecond(), 2);
+		if (date instanceof ImmutableXMLGregorianCalendar) {
+			ImmutableXMLGregorianCalendar immutable = (ImmutableXMLGregorianCalendar) date;
+			if (immutable.fractionScale() > 0) {
+				appendNumber(builder.append('.'), immutable.fraction(), immutable.fractionScale());
+			}
+		} else if (date.getFractionalSecond() != null) {
+			String fraction = date.getFractionalSecond().toPlainString();
+			builder.append(fraction, 1, fraction.length());
+		}
+		return builder;
+	}
+
+	/**
+	 * Appends the given number, padded with zeros to the given number of digits.
+	 *
+	 * @param builder the builder
+	 * @param number the number, not negative
+	 * @param digits the digits
+	 * @return the builder
+	 */
+	static StringBuilder appendNumber(StringBuilder builder, long number, int digits) {
+		int length = 1;
+		for (long rest = number; rest >= 10; rest /= 10) {
+			length++;
+		}
+		for (int i = length; i < digits; i++) {
+			builder.append('0');
+		}
+		return builder.append(number);
+	}
+
+	/**
+	 * The value of the given range of digits.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the value
+	 */
+	private static int digits(CharSequence text, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			value = value * 10 + text.charAt(i) - '0';
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if the given range is all digits.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return true, if is digits
+	 */
+	private static boolean isDigits(CharSequence text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!isDigit(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if is digit.
+	 *
+	 * @param c the c
+	 * @return true, if is digit
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
@@ -0,0 +1,576 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeParser;
+import org.joda.time.format.DateTimeParserBucket;
+
+
+/**
+ * The Class ZoneContext.
+ * 
+ * The zone, locale and formatter cache conversions are bound to, with the offsets of the zone resolved once through a
+ * {@link ZoneOffsetResolver}. The conversion tables of the default zone and locale are bound to
+ * {@link AbstractDateConversions#DEFAULT_ZONE}; each {@link DateConverter} binds its own tables to a context of its
+ * configuration. A context is immutable and is shared across threads as is.
+ */
+final class ZoneContext extends AbstractDateConversions {
+
+	/** The zone id. */
+	private final ZoneId zoneId;
+
+	/** The time zone, never handed out to be modified. */
+	private final TimeZone timeZone;
+
+	/** The Joda zone. */
+	private final DateTimeZone jodaZone;
+
+	/** The ISO chronology of the Joda zone. */
+	private final Chronology jodaChronology;
+
+	/** The locale. */
+	private final Locale locale;
+
+	/** The offsets of the zone. */
+	private final ZoneOffsetResolver offsets;
+
+	/** The formatter cache. */
+	private final FormatterCache formatters;
+
+	/** The dates and start-of-day epoch-millis of a range of days, possibly none. */
+	private final EpochDayTable days;
+
+	/** The interner of the converted immutable dates, or null if they are not interned. */
+	private final DateInterner interner;
+
+	/**
+	 * The first epoch day whose start in the zone java.util computes as java.time does: after 1900, before which
+	 * java.util has neither the Gregorian calendar throughout nor the offsets of the zone, only its raw offset, and
+	 * after the transitions java.util has other offsets than java.time around.
+	 */
+	private final long legacyFirstDay;
+
+	/** Whether the zone is the default zone, whose zone-less ISO text is resolved as DateParserUtils resolves it. */
+	private final boolean defaultZone;
+
+	/**
+	 * Instantiates a new zone context.
+	 *
+	 * @param zoneId the zone id
+	 * @param locale the locale
+	 * @param formatters the formatter cache
+	 * @param firstYear the first year of the epoch-day table
+	 * @param lastYear the last year of the epoch-day table, before the first year for no table
+	 * @param interner the interner of the converted immutable dates, or null for none
+	 */
+	ZoneContext(ZoneId zoneId, Locale locale, FormatterCache formatters, int firstYear, int lastYear,
+			DateInterner interner) {
+		this.defaultZone = zoneId.equals(DEFAULT_ZONE_ID);
+		this.zoneId = zoneId;
+		this.timeZone = defaultZone ? DEFAULT_TIME_ZONE : TimeZone.getTimeZone(zoneId);
+		this.jodaZone = defaultZone ? DEFAULT_JODA_DATE_TIME_ZONE : DateTimeZone.forTimeZone(timeZone);
+		this.jodaChronology = ISOChronology.getInstance(jodaZone);
+		this.locale = locale;
+		this.offsets = ZoneOffsetResolver.of(zoneId);
+		this.formatters = formatters;
+		this.days = new EpochDayTable(firstYear, lastYear, offsets);
+		this.interner = interner;
+		this.legacyFirstDay = Math.max(epochDay(1900, 1, 2), legacyFirstDay(zoneId, timeZone));
+	}
+
+	/**
+	 * The first epoch day after the last transition of the zone java.util has another offset than java.time
+	 * around, before or after it.
+	 *
+	 * @param zoneId the zone id
+	 * @param timeZone the time zone
+	 * @return the epoch day, Long.MIN_VALUE if the offsets of java.util are those of java.time
+	 */
+	private static long legacyFirstDay(ZoneId zoneId, TimeZone timeZone) {
+		List<ZoneOffsetTransition> transitions = zoneId.getRules().getTransitions();
+		for (int idx = transitions.size() - 1; idx >= 0; idx--) {
+			ZoneOffsetTransition transition = transitions.get(idx);
+			long epochMillis = transition.toEpochSecond() * 1000L;
+			if (timeZone.getOffset(epochMillis) != transition.getOffsetAfter().getTotalSeconds() * 1000) {
+				return idx + 1 < transitions.size()
+						? Math.floorDiv(transitions.get(idx + 1).toEpochSecond(), SECONDS_PER_DAY) + 1 : Long.MAX_VALUE;
+			}
+			if (idx == 0
+					&& timeZone.getOffset(epochMillis - 1) != transition.getOffsetBefore().getTotalSeconds() * 1000) {
+				return Math.floorDiv(transition.toEpochSecond(), SECONDS_PER_DAY) + 1;
+			}
+		}
+		return Long.MIN_VALUE;
+	}
+
+	/**
+	 * The zone id.
+	 *
+	 * @return the zone id
+	 */
+	ZoneId zoneId() {
+		return zoneId;
+	}
+
+	/**
+	 * The time zone, shared by all users of the context and not to be modified.
+	 *
+	 * @return the time zone
+	 */
+	TimeZone timeZone() {
+		return timeZone;
+	}
+
+	/**
+	 * The Joda zone.
+	 *
+	 * @return the Joda zone
+	 */
+	DateTimeZone jodaZone() {
+		return jodaZone;
+	}
+
+	/**
+	 * The ISO chronology of the Joda zone.
+	 *
+	 * @return the chronology
+	 */
+	Chronology jodaChronology() {
+		return jodaChronology;
+	}
+
+	/**
+	 * The locale.
+	 *
+	 * @return the locale
+	 */
+	Locale locale() {
+		return locale;
+	}
+
+	/**
+	 * The interner of the converted immutable dates.
+	 *
+	 * @return the date interner, or null if the dates are not interned
+	 */
+	DateInterner interner() {
+		return interner;
+	}
+
+	/**
+	 * The canonical instance of the given converted date, if the context interns dates.
+	 *
+	 * @param <T> the generic type
+	 * @param date the date
+	 * @return the canonical date, or the date itself
+	 */
+	<T> T intern(T date) {
+		return interner == null ? date : interner.intern(date);
+	}
+
+	/**
+	 * The given text parser, interning the dates it parses if the context interns dates.
+	 *
+	 * @param <T> the generic type
+	 * @param parser the parser
+	 * @return the interning parser, or the parser itself
+	 */
+	<T> TextParser<T> interned(TextParser<T> parser) {
+		if (interner == null) {
+			return parser;
+		}
+		return (text, start, end) -> interner.intern(parser.parse(text, start, end));
+	}
+
+	/**
+	 * Offset of the zone at the given instant.
+	 *
+	 * @param epochMillis the epoch millis
+	 * @return the zone offset
+	 */
+	ZoneOffset offsetAt(long epochMillis) {
+		return offsets.offsetAt(Math.floorDiv(epochMillis, 1000L));
+	}
+
+	/**
+	 * Offset of the zone at the given instant, in millis.
+	 *
+	 * @param epochMillis the epoch millis
+	 * @return the offset millis
+	 */
+	long offsetMillisAt(long epochMillis) {
+		return offsetAt(epochMillis).getTotalSeconds() * 1000L;
+	}
+
+	/**
+	 * Epoch-millis of the start of the given day in the zone.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the epoch millis
+	 */
+	long startOfDayMillis(long epochDay) {
+		return days.startOfDayMillis(epochDay);
+	}
+
+	/**
+	 * Epoch-millis of the start of the given Joda date in the zone.
+	 *
+	 * @param date the date
+	 * @return the epoch millis
+	 */
+	long startOfDayMillis(org.joda.time.LocalDate date) {
+		return startOfDayMillis(epochDay(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth()));
+	}
+
+	/**
+	 * Epoch-millis of the start of the given Joda date in the zone, as java.util computes it, for the dates rendered
+	 * through a java.util.TimeZone: before 1900, and in a few zones later, java.util resolves the start of a day
+	 * with other offsets than java.time, and before the Gregorian cutover with the Julian calendar.
+	 *
+	 * @param date the date
+	 * @return the epoch millis
+	 */
+	long legacyStartOfDayMillis(org.joda.time.LocalDate date) {
+		long epochDay = epochDay(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth());
+		if (epochDay >= legacyFirstDay) {
+			return startOfDayMillis(epochDay);
+		}
+		GregorianCalendar calendar = new GregorianCalendar((TimeZone) timeZone.clone(), locale);
+		calendar.clear();
+		calendar.set(date.getYear(), date.getMonthOfYear() - 1, date.getDayOfMonth());
+		return calendar.getTimeInMillis();
+	}
+
+	/**
+	 * The LocalDate of the given epoch day.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the local date
+	 */
+	LocalDate localDate(long epochDay) {
+		return days.localDate(epochDay);
+	}
+
+	/**
+	 * Epoch day of the given epoch-millis in the zone.
+	 *
+	 * @param epochMillis the epoch millis
+	 * @return the epoch day
+	 */
+	long epochDayAt(long epochMillis) {
+		return Math.floorDiv(epochMillis + offsetMillisAt(epochMillis), MILLIS_PER_DAY);
+	}
+
+	/**
+	 * Epoch day of the given instant in the zone.
+	 *
+	 * @param instant the instant
+	 * @return the epoch day
+	 */
+	long epochDayAt(Instant instant) {
+		long epochSecond = instant.getEpochSecond();
+		return Math.floorDiv(epochSecond + offsets.offsetAt(epochSecond).getTotalSeconds(), SECONDS_PER_DAY);
+	}
+
+	/**
+	 * Epoch second of the given local date-time in the zone, as {@link LocalDateTime#atZone(ZoneId)} resolves it.
+	 *
+	 * @param date the date
+	 * @return the epoch second
+	 */
+	long epochSecond(LocalDateTime date) {
+		return offsets.epochSecondOfLocal(date.toEpochSecond(ZoneOffset.UTC));
+	}
+
+	/**
+	 * Epoch-millis of the given local date-time in the zone, as {@link LocalDateTime#atZone(ZoneId)} resolves it.
+	 *
+	 * @param date the date
+	 * @return the epoch millis
+	 */
+	long epochMillis(LocalDateTime date) {
+		return epochSecond(date) * 1000L + date.getNano() / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Epoch-millis of the given Joda local date-time in the zone, resolved in the manner of
+	 * {@link #epochMillis(LocalDateTime)}.
+	 *
+	 * @param date the date
+	 * @return the epoch millis
+	 */
+	long epochMillis(org.joda.time.LocalDateTime date) {
+		long epochDay = epochDay(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth());
+		return epochMillisOfLocal(epochDay * MILLIS_PER_DAY + date.getMillisOfDay());
+	}
+
+	/**
+	 * Epoch-millis of the given local millis in the zone, resolved in the manner of
+	 * {@link #epochMillis(LocalDateTime)}.
+	 *
+	 * @param localMillis the local millis
+	 * @return the epoch millis
+	 */
+	long epochMillisOfLocal(long localMillis) {
+		return offsets.epochSecondOfLocal(Math.floorDiv(localMillis, 1000L)) * 1000L
+				+ Math.floorMod(localMillis, 1000L);
+	}
+
+	/**
+	 * Local date-time of the given epoch-millis in the zone.
+	 *
+	 * @param epochMillis the epoch millis
+	 * @return the local date time
+	 */
+	LocalDateTime localDateTime(long epochMillis) {
+		return localDateTime(epochMillis, offsetAt(epochMillis));
+	}
+
+	/**
+	 * Local date-time of the given instant in the zone.
+	 *
+	 * @param instant the instant
+	 * @return the local date time
+	 */
+	LocalDateTime localDateTime(Instant instant) {
+		return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(),
+				offsets.offsetAt(instant.getEpochSecond()));
+	}
+
+	/**
+	 * Offset date-time of the given instant in the zone.
+	 *
+	 * @param instant the instant
+	 * @return the offset date time
+	 */
+	OffsetDateTime offsetDateTime(Instant instant) {
+		ZoneOffset offset = offsets.offsetAt(instant.getEpochSecond());
+		return OffsetDateTime.of(LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset),
+				offset);
+	}
+
+	/**
+	 * Offset date-time of the given local date-time in the zone, as {@link LocalDateTime#atZone(ZoneId)} resolves
+	 * it.
+	 *
+	 * @param date the date
+	 * @return the offset date time
+	 */
+	OffsetDateTime offsetDateTime(LocalDateTime date) {
+		long epochSecond = epochSecond(date);
+		ZoneOffset offset = offsets.offsetAt(epochSecond);
+		long shift = epochSecond + offset.getTotalSeconds() - date.toEpochSecond(ZoneOffset.UTC);
+		return (shift == 0 ? date : date.plusSeconds(shift)).atOffset(offset);
+	}
+
+	/**
+	 * A new calendar of the zone and locale, set to the given epoch-millis.
+	 *
+	 * @param epochMillis the epoch millis
+	 * @return the calendar
+	 */
+	Calendar calendar(long epochMillis) {
+		Calendar calendar = Calendar.getInstance((TimeZone) timeZone.clone(), locale);
+		calendar.setTimeInMillis(epochMillis);
+		return calendar;
+	}
+
+	/**
+	 * Parses the date-string in the given range of characters to epoch-millis: ISO-8601 text through
+	 * {@link IsoDateParser}, anything else through the formats learned by {@link FormatShapeCache}, or else
+	 * DateParserUtils. Text without a zone or offset of its own is taken to be in the zone. Only date-strings left to
+	 * DateParserUtils are copied.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the epoch millis
+	 */
+	long parseEpochMillis(CharSequence text, int start, int end) {
+		long iso = IsoDateParser.parse(text, start, end);
+		if (iso != IsoDateParser.NOT_ISO) {
+			if (!defaultZone && !IsoDateParser.hasOffset(iso)) {
+				return epochMillisOfLocal(IsoDateParser.localMillis(iso));
+			}
+			long millis = IsoDateParser.epochMillis(iso);
+			if (millis != IsoDateParser.NOT_ISO) {
+				return millis;
+			}
+		}
+		CharSequence date = subSequence(text, start, end);
+		if (!defaultZone) {
+			long local = FormatShapeCache.parseLocalMillis(date);
+			if (local != FormatShapeCache.ZONED) {
+				return epochMillisOfLocal(local);
+			}
+		}
+		return FormatShapeCache.parseEpochMillis(date);
+	}
+
+	/**
+	 * Parses the date-string in the given range of characters to local millis in the zone. Text without a zone or
+	 * offset of its own is taken field by field, without resolving it against the zone, except by the default zone,
+	 * which resolves non-ISO text as DateParserUtils does.
+	 *
+	 * @param text the text
+	 * @param start the start
+	 * @param end the end
+	 * @return the local millis
+	 */
+	long parseLocalMillis(CharSequence text, int start, int end) {
+		long iso = IsoDateParser.parse(text, start, end);
+		if (iso != IsoDateParser.NOT_ISO && !IsoDateParser.hasOffset(iso)) {
+			return IsoDateParser.localMillis(iso);
+		}
+		long millis;
+		if (iso == IsoDateParser.NOT_ISO && !defaultZone) {
+			CharSequence date = subSequence(text, start, end);
+			long local = FormatShapeCache.parseLocalMillis(date);
+			if (local != FormatShapeCache.ZONED) {
+				return local;
+			}
+			millis = FormatShapeCache.parseEpochMillis(date);
+		} else {
+			millis = parseEpochMillis(text, start, end);
+		}
+		return millis + offsetMillisAt(millis);
+	}
+
+	/**
+	 * The java.time formatter of the given pattern in the locale.
+	 *
+	 * @param pattern the pattern
+	 * @return the date time formatter
+	 */
+	DateTimeFormatter dateTimeFormatter(String pattern) {
+		return formatters.dateTimeFormatter(pattern, locale, null);
+	}
+
+	/**
+	 * The java.time formatter of the given pattern in the locale, with the zone for formatting instants.
+	 *
+	 * @param pattern the pattern
+	 * @return the date time formatter
+	 */
+	DateTimeFormatter zonedDateTimeFormatter(String pattern) {
+		return formatters.dateTimeFormatter(pattern, locale, timeZone);
+	}
+
+	/**
+	 * The Joda formatter of the given pattern in the locale.
+	 *
+	 * @param pattern the pattern
+	 * @return the Joda date time formatter
+	 */
+	org.joda.time.format.DateTimeFormatter jodaFormatter(String pattern) {
+		return formatters.jodaFormatter(pattern, locale, null);
+	}
+
+	/**
+	 * The Joda formatter of the given pattern in the locale, with the zone for formatting instants.
+	 *
+	 * @param pattern the pattern
+	 * @return the Joda date time formatter
+	 */
+	org.joda.time.format.DateTimeFormatter zonedJodaFormatter(String pattern) {
+		return formatters.jodaFormatter(pattern, locale, timeZone);
+	}
+
+	/**
+	 * The compiled SimpleDateFormat pattern in the locale and zone.
+	 *
+	 * @param pattern the pattern
+	 * @return the legacy pattern
+	 */
+	LegacyPattern legacyPattern(String pattern) {
+		return formatters.legacyPattern(pattern, locale, timeZone);
+	}
+
+	/**
+	 * Checks if the given date-string matches the java.time formatter of the given pattern, without throwing if it
+	 * does not. The fields are not resolved, so a matching date-string may still be invalid.
+	 *
+	 * @param text the text
+	 * @param pattern the pattern
+	 * @return true, if the text matches the pattern
+	 */
+	boolean matchesDateTimeFormat(CharSequence text, String pattern) {
+		return matches(dateTimeFormatter(pattern), text);
+	}
+
+	/**
+	 * Checks if the given date-string matches the Joda formatter of the given pattern, without throwing if it does
+	 * not. The fields are not resolved, so a matching date-string may still be invalid.
+	 *
+	 * @param text the text
+	 * @param pattern the pattern
+	 * @return true, if the text matches the pattern
+	 */
+	boolean matchesJodaFormat(CharSequence text, String pattern) {
+		DateTimeParser parser = jodaFormatter(pattern).getParser();
+		String string = text.toString();
+		return parser != null && parser.parseInto(new DateTimeParserBucket(0L, ISOChronology.getInstanceUTC(),
+				locale, null, 2000), string, 0) == string.length();
+	}
+
+	/**
+	 * Checks if the given date-string matches the SimpleDateFormat pattern, without throwing if it does not.
+	 *
+	 * @param text the text
+	 * @param pattern the pattern
+	 * @return true, if the text matches the pattern
+	 */
+	boolean matchesLegacyPattern(CharSequence text, String pattern) {
+		return legacyPattern(pattern).matches(text);
+	}
+
+	/**
+	 * Checks if the given date-string matches the given java.time formatter, without throwing if it does not.
+	 *
+	 * @param formatter the formatter
+	 * @param text the text
+	 * @return true, if the text matches the formatter
+	 */
+	static boolean matches(DateTimeFormatter formatter, CharSequence text) {
+		ParsePosition position = new ParsePosition(0);
+		return formatter.parseUnresolved(text, position) != null && position.getIndex() == text.length();
+	}
+}
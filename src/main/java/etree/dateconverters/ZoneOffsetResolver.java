@@ -0,0 +1,231 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * The Class ZoneOffsetResolver.
+ * 
+ * Resolves the offsets of a zone per instant and per local date-time, with the results of its {@link ZoneRules}.
+ * The transitions of the zone up to {@link #LIMIT_SECOND} are laid out once in arrays, indexed by buckets of about
+ * 48 days, so that a lookup is a bucket read followed by a step past the odd transition within the bucket. Instants
+ * and local date-times beyond the arrays are resolved by the ZoneRules.
+ */
+final class ZoneOffsetResolver {
+
+	/** The epoch second of 2100-01-01T00:00:00Z, up to which the transitions are laid out. */
+	static final long LIMIT_SECOND = 4_102_444_800L;
+
+	/** The Constant BUCKET_SHIFT, for buckets of 2^22 seconds. */
+	private static final int BUCKET_SHIFT = 22;
+
+	/** The local date-times up to a day and a half before the limit resolve within the arrays, whatever the offset. */
+	private static final long LOCAL_LIMIT_SECOND = LIMIT_SECOND - 129_600L;
+
+	/** The Constant RESOLVERS. */
+	private static final ConcurrentMap<ZoneId, ZoneOffsetResolver> RESOLVERS = new ConcurrentHashMap<>();
+
+	/** The rules. */
+	private final ZoneRules rules;
+
+	/** The epoch seconds of the transitions. */
+	private final long[] transitions;
+
+	/** The latest local epoch seconds of the transitions: the end of a gap or of an overlap. */
+	private final long[] localTransitions;
+
+	/** The offsets before each transition, followed by the offset after the last. */
+	private final ZoneOffset[] offsets;
+
+	/** The index of the first transition after the start of each bucket of instants. */
+	private final int[] buckets;
+
+	/** The index of the first local transition after the start of each bucket of local date-times. */
+	private final int[] localBuckets;
+
+	/**
+	 * Instantiates a new zone offset resolver.
+	 *
+	 * @param rules the rules
+	 */
+	private ZoneOffsetResolver(ZoneRules rules) {
+		this.rules = rules;
+		List<ZoneOffsetTransition> zoneTransitions = new ArrayList<>();
+		ZoneOffsetTransition transition = rules.nextTransition(Instant.MIN);
+		while (transition != null && transition.toEpochSecond() < LIMIT_SECOND) {
+			zoneTransitions.add(transition);
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		int count = zoneTransitions.size();
+		transitions = new long[count];
+		localTransitions = new long[count];
+		offsets = new ZoneOffset[count + 1];
+		offsets[0] = rules.getOffset(Instant.MIN);
+		for (int idx = 0; idx < count; idx++) {
+			ZoneOffsetTransition zoneTransition = zoneTransitions.get(idx);
+			transitions[idx] = zoneTransition.toEpochSecond();
+			localTransitions[idx] = transitions[idx] + Math.max(zoneTransition.getOffsetBefore().getTotalSeconds(),
+					zoneTransition.getOffsetAfter().getTotalSeconds());
+			offsets[idx] = zoneTransition.getOffsetBefore();
+			offsets[idx + 1] = zoneTransition.getOffsetAfter();
+		}
+		buckets = buckets(transitions, LIMIT_SECOND);
+		localBuckets = buckets(localTransitions, LOCAL_LIMIT_SECOND);
+	}
+
+	/**
+	 * The resolver of the given zone.
+	 *
+	 * @param zone the zone
+	 * @return the zone offset resolver
+	 */
+	static ZoneOffsetResolver of(ZoneId zone) {
+		ZoneOffsetResolver resolver = RESOLVERS.get(zone);
+		if (resolver == null) {
+			resolver = new ZoneOffsetResolver(zone.getRules());
+			ZoneOffsetResolver existing = RESOLVERS.putIfAbsent(zone, resolver);
+			if (existing != null) {
+				resolver = existing;
+			}
+		}
+		return resolver;
+	}
+
+	/**
+	 * The offset at the given instant, as {@link ZoneRules#getOffset(Instant)} gives it.
+	 *
+	 * @param epochSecond the epoch second
+	 * @return the zone offset
+	 */
+	ZoneOffset offsetAt(long epochSecond) {
+		if (epochSecond >= LIMIT_SECOND) {
+			return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+		}
+		return offsets[index(transitions, buckets, epochSecond)];
+	}
+
+	/**
+	 * The offset of the given local date-time, as {@link ZoneRules#getOffset(LocalDateTime)} gives it: the offset
+	 * before the transition for a local date-time in a gap or an overlap.
+	 *
+	 * @param localSecond the local date-time, in seconds from 1970-01-01T00:00
+	 * @return the zone offset
+	 */
+	ZoneOffset offsetOfLocal(long localSecond) {
+		if (localSecond >= LOCAL_LIMIT_SECOND) {
+			return rules.getOffset(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC));
+		}
+		return offsets[index(localTransitions, localBuckets, localSecond)];
+	}
+
+	/**
+	 * The epoch second of the given local date-time, as {@link LocalDateTime#atZone(ZoneId)} resolves it: shifted
+	 * forward by the length of a gap, and at the earlier offset in an overlap.
+	 *
+	 * @param localSecond the local date-time, in seconds from 1970-01-01T00:00
+	 * @return the epoch second
+	 */
+	long epochSecondOfLocal(long localSecond) {
+		return localSecond - offsetOfLocal(localSecond).getTotalSeconds();
+	}
+
+	/**
+	 * The epoch second of the start of the given day, as {@link LocalDate#atStartOfDay(ZoneId)} resolves it: the end
+	 * of the gap if midnight falls in one.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the epoch second
+	 */
+	long startOfDay(long epochDay) {
+		long midnight = epochDay * AbstractDateConversions.SECONDS_PER_DAY;
+		if (midnight >= LOCAL_LIMIT_SECOND) {
+			LocalDateTime localMidnight = LocalDate.ofEpochDay(epochDay).atStartOfDay();
+			ZoneOffsetTransition transition = rules.getTransition(localMidnight);
+			if (transition != null && transition.isGap()) {
+				return transition.toEpochSecond();
+			}
+			return midnight - rules.getOffset(localMidnight).getTotalSeconds();
+		}
+		int idx = index(localTransitions, localBuckets, midnight);
+		int offset = offsets[idx].getTotalSeconds();
+		if (idx < transitions.length && offsets[idx + 1].getTotalSeconds() > offset
+				&& midnight >= transitions[idx] + offset) {
+			return transitions[idx];
+		}
+		return midnight - offset;
+	}
+
+	/**
+	 * Index of the first of the given ascending bounds after the given value.
+	 *
+	 * @param bounds the bounds
+	 * @param bucketIndexes the index of the first bound after the start of each bucket
+	 * @param value the value, below the limit of the buckets
+	 * @return the index, the number of bounds if none is after the value
+	 */
+	private static int index(long[] bounds, int[] bucketIndexes, long value) {
+		if (bounds.length == 0 || value < bounds[0]) {
+			return 0;
+		}
+		int idx = bucketIndexes[(int) ((value - bounds[0]) >>> BUCKET_SHIFT)];
+		while (idx < bounds.length && bounds[idx] <= value) {
+			idx++;
+		}
+		return idx;
+	}
+
+	/**
+	 * The index of the first bound after the start of each bucket, from the first bound up to the limit.
+	 *
+	 * @param bounds the ascending bounds
+	 * @param limit the limit
+	 * @return the bucket indexes
+	 */
+	private static int[] buckets(long[] bounds, long limit) {
+		if (bounds.length == 0) {
+			return new int[0];
+		}
+		int[] bucketIndexes = new int[(int) ((limit - bounds[0]) >>> BUCKET_SHIFT) + 1];
+		int idx = 0;
+		for (int bucket = 0; bucket < bucketIndexes.length; bucket++) {
+			long start = bounds[0] + ((long) bucket << BUCKET_SHIFT);
+			while (idx < bounds.length && bounds[idx] <= start) {
+				idx++;
+			}
+			bucketIndexes[bucket] = idx;
+		}
+		return bucketIndexes;
+	}
+}
@@ -25,15 +25,27 @@ package etree.dateconverters.exception;
 
 /**
  * The Class DateConverterException.
+ * 
+ * The exceptions created with an {@link ErrorCode} skip filling in their stack trace if the system property
+ * {@value #STACKLESS_PROPERTY} is true, for feeds where failed conversions are routine.
  */
 public class DateConverterException extends RuntimeException {
 	
 	/** The Constant serialVersionUID. */
 	private static final long serialVersionUID = 6218106303823662498L;
+
+	/** The system property making the exceptions with an error code stackless. */
+	public static final String STACKLESS_PROPERTY = "etree.dateconverters.exception.stackless";
+
+	/** Whether the exceptions with an error code are stackless. */
+	private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
 	
 	/** The error code. */
 	private String errorCode;
 
+	/** The enumerated error code, or null if the exception was created with a free-form one. */
+	private ErrorCode code;
+
 	/**
 	 * Instantiates a new date converter exception.
 	 *
@@ -86,6 +98,39 @@ public class DateConverterException extends RuntimeException {
 		this.errorCode = errorCode;
 	}
 
+	/**
+	 * Instantiates a new date converter exception.
+	 *
+	 * @param code the error code
+	 * @param msg the msg
+	 */
+	public DateConverterException(ErrorCode code, String msg) {
+		this(code, msg, null);
+	}
+
+	/**
+	 * Instantiates a new date converter exception.
+	 *
+	 * @param code the error code
+	 * @param cause the cause
+	 */
+	public DateConverterException(ErrorCode code, Throwable cause) {
+		this(code, cause == null ? null : cause.toString(), cause);
+	}
+
+	/**
+	 * Instantiates a new date converter exception.
+	 *
+	 * @param code the error code
+	 * @param msg the msg
+	 * @param cause the cause
+	 */
+	public DateConverterException(ErrorCode code, String msg, Throwable cause) {
+		super(msg, cause, true, !STACKLESS);
+		this.errorCode = code.name();
+		this.code = code;
+	}
+
 	/**
 	 * Gets the error code.
 	 *
@@ -94,4 +139,13 @@ public class DateConverterException extends RuntimeException {
 	public String getErrorCode() {
 		return errorCode;
 	}
+
+	/**
+	 * Gets the enumerated error code.
+	 *
+	 * @return the error code, or null if the exception was created with a free-form one
+	 */
+	public ErrorCode getCode() {
+		return code;
+	}
 }
@@ -0,0 +1,56 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+*  The OTC framework is free software: you can redistribute it and/or modify
+*  it under the terms of the GNU General Public License as published by
+*  the Free Software Foundation, version 3 of the License.
+*
+*  The OTC framework is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*  GNU General Public License for more details.
+*
+*  A copy of the GNU General Public License is made available as 'License.md' file, 
+*  along with OTC framework project.  If not, see <https://www.gnu.org/licenses/>.
+*
+*/
+package etree.dateconverters.exception;
+
+
+/**
+ * The Enum ErrorCode.
+ * 
+ * The error codes of {@link DateConverterException} and of the failed results of the non-throwing conversions.
+ */
+public enum ErrorCode {
+
+	/** There is no conversion from the type of the date to the target type. */
+	UNSUPPORTED_CONVERSION,
+
+	/** The date-string cannot be parsed, with or without the given date-format. */
+	UNPARSEABLE_DATE,
+
+	/** The date lacks the date or time information the target type needs. */
+	INCOMPLETE_DATE,
+
+	/** The date cannot be converted, e.g. as it is out of the range of the target type. */
+	INVALID_DATE,
+
+	/** The date cannot be formatted. */
+	UNFORMATTABLE_DATE,
+
+	/** An argument other than the date is invalid, e.g. a target array too short for the dates. */
+	INVALID_ARGUMENT,
+
+	/** A setting of the converter is invalid. */
+	INVALID_CONFIGURATION,
+
+	/** The converting thread was interrupted. */
+	INTERRUPTED
+}
@@ -1,23 +1,45 @@
 package etree.dateconverters;
 
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.management.ObjectName;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
+import com.github.sisyphsu.dateparser.DateParserUtils;
+
 import etree.dateconverters.DateConverterFacade;
+import etree.dateconverters.exception.DateConverterException;
+import etree.dateconverters.exception.ErrorCode;
 public class DateConvertersTest {
 
 	private static final Set<Class<?>> dateTypes = new LinkedHashSet<>(15);
@@ -173,4 +195,581 @@ public class DateConvertersTest {
  			}
  		}
 	}
+
+	public void testConverterFor() {
+		Converter<Timestamp, LocalDateTime> toLocalDateTime = DateConverterFacade.converterFor(Timestamp.class,
+				LocalDateTime.class);
+		Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+		assert toLocalDateTime.convert(null) == null;
+		assert toLocalDateTime.convert(timestamp).equals(DateConverterFacade.convert(timestamp, LocalDateTime.class));
+
+		// java.sql.Date takes precedence over java.util.Date when converting to LocalTime.
+		Converter<Date, LocalTime> toLocalTime = DateConverterFacade.converterFor(Date.class, LocalTime.class);
+		assert toLocalTime.convert(new java.sql.Date(timestamp.getTime())) == null;
+		assert toLocalTime.convert(new Date(timestamp.getTime())) != null;
+	}
+
+	public void testConvertAll() {
+		Timestamp[] timestamps = new Timestamp[] { new Timestamp(0L), null, new Timestamp(System.currentTimeMillis()) };
+		LocalDateTime[] localDateTimes = DateConverterFacade.convertAll(timestamps, LocalDateTime.class,
+				new LocalDateTime[timestamps.length]);
+		List<Timestamp> converted = DateConverterFacade.convertAll(Arrays.asList(localDateTimes), Timestamp.class);
+		for (int idx = 0; idx < timestamps.length; idx++) {
+			assert Objects.equals(localDateTimes[idx], DateConverterFacade.convert(timestamps[idx], LocalDateTime.class));
+			assert Objects.equals(converted.get(idx), timestamps[idx]);
+		}
+	}
+
+	public void testEpochColumns() {
+		long[] millis = new long[] { 0L, 1_600_000_000_123L, -86_400_001L };
+		LocalDateTime[] localDateTimes = EpochColumns.fromEpochMillis(millis, LocalDateTime.class,
+				new LocalDateTime[millis.length]);
+		long[] roundTrip = EpochColumns.toEpochMillis(localDateTimes, new long[millis.length]);
+		long[] epochDays = EpochColumns.toEpochDays(localDateTimes, new long[millis.length]);
+		for (int idx = 0; idx < millis.length; idx++) {
+			assert localDateTimes[idx].equals(DateConverterFacade.convert(new Date(millis[idx]), LocalDateTime.class));
+			assert roundTrip[idx] == millis[idx];
+			assert epochDays[idx] == localDateTimes[idx].toLocalDate().toEpochDay();
+		}
+	}
+
+	public void testEpochColumnsOfJodaLocalTypesAndOverflow() {
+		org.joda.time.LocalDateTime local = new org.joda.time.LocalDateTime(2021, 3, 14, 2, 30, 15, 250);
+		long[] millis = EpochColumns.toEpochMillis(new Object[] { local }, new long[1]);
+		assert millis[0] == DateConverterFacade.convert(local, Instant.class).toEpochMilli();
+		try {
+			EpochColumns.toSecondsOfDay(new Object[] { new org.joda.time.LocalDate(2021, 3, 14) }, new int[1]);
+			assert false;
+		} catch (DateConverterException e) {
+			assert e.getCode() == ErrorCode.INCOMPLETE_DATE;
+		}
+		try {
+			EpochColumns.fromEpochSeconds(new long[] { Long.MAX_VALUE / 100 }, Instant.class, new Instant[1]);
+			assert false;
+		} catch (DateConverterException e) {
+			assert e.getCode() == ErrorCode.INVALID_DATE;
+		}
+	}
+
+	public void testParallelConvertAll() {
+		Object[] dates = new Object[ParallelConversion.MIN_GRANULARITY * 5];
+		for (int idx = 0; idx < dates.length; idx++) {
+			dates[idx] = idx % 3 == 0 ? new Date(idx * 1000L) : idx % 3 == 1 ? Instant.ofEpochSecond(idx) : null;
+		}
+		LocalDateTime[] serial = DateConverterFacade.convertAll(dates, LocalDateTime.class,
+				new LocalDateTime[dates.length]);
+		LocalDateTime[] parallel = DateConverterFacade.parallelConvertAll(dates, LocalDateTime.class,
+				new LocalDateTime[dates.length]);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			LocalDateTime[] executed = DateConverterFacade.parallelConvertAll(dates, LocalDateTime.class,
+					new LocalDateTime[dates.length], executor);
+			assert Arrays.equals(serial, parallel);
+			assert Arrays.equals(serial, executed);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public void testFormatterCache() {
+		long misses = FormatterCache.missCount();
+		long hits = FormatterCache.hitCount();
+		LocalDate first = ToLocalDate.toLocalDate("17/10/2026", "dd/MM/yyyy");
+		LocalDate second = ToLocalDate.toLocalDate("18/10/2026", "dd/MM/yyyy");
+		assert first.plusDays(1).equals(second);
+		assert FormatterCache.missCount() <= misses + 1;
+		assert FormatterCache.hitCount() >= hits + 1;
+		assert FormatterCache.size() <= FormatterCache.MAX_SIZE;
+	}
+
+	public void testLegacyPattern() throws ParseException {
+		String[] patterns = new String[] { "yyyy-MM-dd HH:mm:ss.SSS", "yyyyMMddHHmmss", "dd MMM yy hh:mm a",
+				"yyyy-MM-dd'T'HH:mm:ssXXX" };
+		Date date = new Date(1_600_000_000_123L);
+		for (String pattern : patterns) {
+			String text = new SimpleDateFormat(pattern).format(date);
+			assert new SimpleDateFormat(pattern).parse(text).equals(ToUtilDate.toUtilDate(text, pattern));
+		}
+		Timestamp timestamp = ToSqlTimestamp.toSqlTimestamp("2026-10-17 10:15:30", "yyyy-MM-dd HH:mm:ss");
+		assert timestamp.toLocalDateTime().equals(LocalDateTime.of(2026, 10, 17, 10, 15, 30));
+	}
+
+	public void testIsoDateParser() {
+		String[] dates = new String[] { "2014-03-15", "2014-03-15T12:34:56", "2014-03-15 12:34:56.789",
+				"2014-03-15T12:34:56.5Z", "2014-03-15T12:34:56+05:30", "2014-03-15T12:34:56-0800", "15/03/2014" };
+		for (String date : dates) {
+			Date parsed = DateParserUtils.parseDate(date);
+			assert parsed.equals(DateConverterFacade.convert(date, Date.class));
+			assert parsed.toInstant().equals(DateConverterFacade.convert(date, Instant.class));
+		}
+		assert IsoDateParser.parse("2014-02-30") == IsoDateParser.NOT_ISO;
+		assert LocalDateTime.of(2014, 3, 15, 12, 34, 56).equals(
+				DateConverterFacade.convert("2014-03-15T12:34:56", LocalDateTime.class));
+	}
+
+	public void testFormatShapeCache() {
+		String[] dates = new String[] { "25/06/2020 10:11", "05/06/2020 10:12", "06/13/2020 10:13", "17/10/2026 10:14",
+				"01/02/2003 10:15" };
+		FormatShapeCache.invalidate(dates[0]);
+		for (String date : dates) {
+			assert DateParserUtils.parseDate(date).equals(DateConverterFacade.convert(date, Date.class));
+		}
+		assert Arrays.asList("dd/MM/yyyy HH:mm", "MM/dd/yyyy HH:mm").equals(FormatShapeCache.learnedFormats(dates[0]));
+		FormatShapeCache.invalidate(dates[0]);
+		assert FormatShapeCache.learnedFormats(dates[0]) == null;
+	}
+
+	public void testLearnBatch() {
+		String[] dates = new String[] { "10/13/2020", "5/6/2020", null, "12/25/2019", "1/31/2021", "7/4/2018" };
+		FormatShapeCache.invalidate(dates[1]);
+		FormatShapeCache.invalidate(dates[3]);
+		Date[] converted = DateConverterFacade.convertAll(dates, Date.class, new Date[dates.length]);
+		assert converted[2] == null;
+		for (int idx = 0; idx < dates.length; idx++) {
+			if (dates[idx] != null) {
+				assert DateParserUtils.parseDate(dates[idx]).equals(converted[idx]);
+			}
+		}
+		assert Arrays.asList("d/M/yyyy", "M/d/yyyy").equals(FormatShapeCache.learnedFormats(dates[1]));
+		assert Arrays.asList("dd/MM/yyyy", "MM/dd/yyyy").equals(FormatShapeCache.learnedFormats(dates[3]));
+	}
+
+	public void testConvertRange() {
+		String line = "42,2020-06-25T10:11:12,25/06/2020 10:11,end";
+		char[] chars = line.toCharArray();
+		for (Class<?> toClz : new Class<?>[] { Date.class, Calendar.class, LocalDateTime.class, XMLGregorianCalendar.class,
+				org.joda.time.LocalDateTime.class }) {
+			Object iso = DateConverterFacade.convert("2020-06-25T10:11:12", toClz);
+			assert iso.equals(DateConverterFacade.convert(line, 3, 22, toClz));
+			assert iso.equals(DateConverterFacade.convert(chars, 3, 22, toClz));
+			Object parsed = DateConverterFacade.convert("25/06/2020 10:11", toClz);
+			assert parsed.equals(DateConverterFacade.convert(chars, 23, 39, toClz));
+		}
+		assert LocalDate.of(2020, 6, 25).equals(DateConverterFacade.convert(chars, 23, 33, LocalDate.class, "dd/MM/yyyy"));
+		assert DateConverterFacade.convert("25/06/2020", Date.class, "dd/MM/yyyy")
+				.equals(DateConverterFacade.convert(line, 23, 33, Date.class, "dd/MM/yyyy"));
+		try {
+			DateConverterFacade.convert(chars, 23, 50, Date.class);
+			assert false;
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	public void testConvertBytes() {
+		byte[] bytes = "id=7;at=2020-06-25T10:11:12.345+05:30;day=25/06/2020".getBytes(StandardCharsets.UTF_8);
+		Instant instant = Instant.parse("2020-06-25T04:41:12.345Z");
+		assert instant.equals(DateConverterFacade.convert(bytes, 8, 29, Instant.class));
+		assert instant.toEpochMilli() == EpochColumns.toEpochMillis(bytes, 8, 29);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+		assert instant.equals(DateConverterFacade.convert(direct, 8, 29, Instant.class));
+		assert instant.toEpochMilli() == EpochColumns.toEpochMillis(ByteBuffer.wrap(bytes), 8, 29);
+		assert LocalDate.of(2020, 6, 25).equals(DateConverterFacade.convert(direct, 42, 10, LocalDate.class, "dd/MM/yyyy"));
+		assert DateConverterFacade.convert("25/06/2020", Date.class)
+				.equals(DateConverterFacade.convert(bytes, 42, 10, Date.class));
+	}
+
+	public void testToXMLGregorianCalendar() throws DatatypeConfigurationException {
+		DatatypeFactory factory = DatatypeFactory.newInstance();
+		ZonedDateTime now = ZonedDateTime.now();
+		for (ZonedDateTime date : new ZonedDateTime[] { now, now.withYear(1200),
+				now.withZoneSameInstant(ZoneOffset.ofHours(-3)), now.withZoneSameInstant(ZoneId.of("Asia/Kolkata")) }) {
+			GregorianCalendar gc = GregorianCalendar.from(date);
+			assert factory.newXMLGregorianCalendar(gc).equals(DateConverterFacade.convert(date, XMLGregorianCalendar.class));
+			GregorianCalendar offsetGc = GregorianCalendar.from(date.toOffsetDateTime().toZonedDateTime());
+			assert factory.newXMLGregorianCalendar(offsetGc).toXMLFormat()
+					.equals(DateConverterFacade.convert(date.toOffsetDateTime(), XMLGregorianCalendar.class).toXMLFormat());
+			GregorianCalendar instantGc = new GregorianCalendar();
+			instantGc.setTimeInMillis(date.toInstant().toEpochMilli());
+			assert factory.newXMLGregorianCalendar(instantGc).toXMLFormat()
+					.equals(DateConverterFacade.convert(date.toInstant(), XMLGregorianCalendar.class).toXMLFormat());
+		}
+	}
+
+	public void testImmutableXMLGregorianCalendar() throws DatatypeConfigurationException {
+		DatatypeFactory factory = DatatypeFactory.newInstance();
+		XMLGregorianCalendar jdk = factory.newXMLGregorianCalendar(2021, 3, 14, 1, 59, 26, 535, 330);
+		ImmutableXMLGregorianCalendar immutable = ImmutableXMLGregorianCalendar.of(2021, 3, 14, 1, 59, 26, 535, 330);
+		assert jdk.toXMLFormat().equals(immutable.toXMLFormat());
+		assert jdk.toGregorianCalendar().equals(immutable.toGregorianCalendar());
+		assert jdk.normalize().toXMLFormat().equals(immutable.normalize().toXMLFormat());
+		assert immutable.equals(ImmutableXMLGregorianCalendar.of(jdk)) && jdk.equals(immutable.toJdk());
+		for (Class<?> toClz : new Class<?>[] { Date.class, LocalDateTime.class, ZonedDateTime.class,
+				org.joda.time.Instant.class, org.joda.time.LocalDate.class }) {
+			assert DateConverterFacade.convert(jdk, toClz).equals(DateConverterFacade.convert(immutable, toClz));
+		}
+		Instant instant = Instant.now();
+		assert DateConverterFacade.convert(instant, XMLGregorianCalendar.class).toXMLFormat()
+				.equals(DateConverterFacade.convert(instant, ImmutableXMLGregorianCalendar.class).toXMLFormat());
+		try {
+			immutable.setHour(2);
+			assert false;
+		} catch (UnsupportedOperationException e) {
+			// immutable
+		}
+	}
+
+	public void testXMLFormat() throws DatatypeConfigurationException {
+		DatatypeFactory factory = DatatypeFactory.newInstance();
+		for (String lexical : new String[] { "2021-03-14T01:59:26.535+05:30", "2021-03-14T01:59:26Z", "2021-03-14",
+				"-0044-03-15-01:00", "01:59:26.123456789", "--03-14", "2021-03", "2021-03-14T24:00:00" }) {
+			XMLGregorianCalendar expected = factory.newXMLGregorianCalendar(lexical);
+			assert expected.equals(DateConverterFacade.convertXMLFormat(lexical, XMLGregorianCalendar.class));
+			assert expected.toXMLFormat()
+					.equals(DateConverterFacade.convertXMLFormat(lexical, ImmutableXMLGregorianCalendar.class).toXMLFormat());
+			assert expected.toXMLFormat().equals(DateConverterFacade.toXMLFormat(expected));
+		}
+		String lexical = "2021-03-14T01:59:26.535+05:30";
+		assert DateConverterFacade.convertXMLFormat(lexical, OffsetDateTime.class)
+				.equals(DateConverterFacade.convert(factory.newXMLGregorianCalendar(lexical), OffsetDateTime.class));
+		Instant instant = Instant.now();
+		assert DateConverterFacade.convert(instant, XMLGregorianCalendar.class).toXMLFormat()
+				.equals(DateConverterFacade.toXMLFormat(instant));
+		try {
+			DateConverterFacade.convertXMLFormat("2021-02-29", LocalDate.class);
+			assert false;
+		} catch (DateConverterException e) {
+			// not a date
+		}
+	}
+
+	public void testFormat() {
+		Date date = new Date();
+		String pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+		assert new SimpleDateFormat(pattern).format(date).equals(DateConverterFacade.format(date, pattern));
+		assert date.equals(DateConverterFacade.convert(DateConverterFacade.format(date, pattern), Date.class, pattern));
+		Calendar calendar = Calendar.getInstance(java.util.TimeZone.getTimeZone("Asia/Kolkata"));
+		calendar.setTime(date);
+		SimpleDateFormat kolkata = new SimpleDateFormat(pattern);
+		kolkata.setTimeZone(calendar.getTimeZone());
+		assert kolkata.format(date).equals(DateConverterFacade.format(calendar, pattern));
+		OffsetDateTime offsetDateTime = OffsetDateTime.of(2021, 3, 14, 1, 59, 26, 535_000_000, ZoneOffset.ofHours(2));
+		assert "2021-03-14T01:59:26.535+02:00".equals(DateConverterFacade.format(offsetDateTime));
+		assert "14/03/2021 01:59".equals(DateConverterFacade.format(offsetDateTime, "dd/MM/yyyy HH:mm"));
+		assert offsetDateTime.toLocalDate().toString().equals(DateConverterFacade.format(offsetDateTime.toLocalDate()));
+		assert "2021-03-14T01:59:26.535Z".equals(DateConverterFacade.format(Instant.parse("2021-03-14T01:59:26.535Z")));
+		org.joda.time.LocalDateTime jodaLocalDateTime = new org.joda.time.LocalDateTime(2021, 3, 14, 1, 59, 26, 535);
+		assert jodaLocalDateTime.toString().equals(DateConverterFacade.format(jodaLocalDateTime));
+		assert "2021/03/14".equals(DateConverterFacade.format(jodaLocalDateTime, "yyyy/MM/dd"));
+		ImmutableXMLGregorianCalendar xmlDate = ImmutableXMLGregorianCalendar.of(2021, 3, 14, 1, 59, 26, 535, 330);
+		assert xmlDate.toXMLFormat().equals(DateConverterFacade.format(xmlDate));
+		assert "2021-03-14 01:59 +0530".equals(DateConverterFacade.format(xmlDate, "yyyy-MM-dd HH:mm Z"));
+		assert DateConverterFacade.format(null) == null;
+		try {
+			DateConverterFacade.format(LocalTime.NOON, "yyyy");
+			assert false;
+		} catch (DateConverterException e) {
+			// no date
+		}
+	}
+
+	public void testFormatTo() throws java.io.IOException {
+		ZonedDateTime date = ZonedDateTime.of(2021, 3, 14, 1, 59, 26, 535_000_000, ZoneId.of("Europe/Paris"));
+		String expected = DateConverterFacade.format(date);
+		StringBuilder builder = new StringBuilder("at ");
+		assert ("at " + expected).equals(DateConverterFacade.formatTo(date, null, builder).toString());
+		java.io.StringWriter writer = new java.io.StringWriter();
+		assert expected.equals(DateConverterFacade.formatTo(date, null, writer).toString());
+		byte[] bytes = new byte[64];
+		int length = DateConverterFacade.formatTo(date, null, bytes, 2);
+		assert expected.equals(new String(bytes, 2, length, StandardCharsets.UTF_8));
+		ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+		length = DateConverterFacade.formatTo(date, "d MMMM yyyy", buffer, 0);
+		assert buffer.position() == 0;
+		byte[] written = new byte[length];
+		buffer.get(written);
+		assert DateConverterFacade.format(date, "d MMMM yyyy").equals(new String(written, StandardCharsets.UTF_8));
+		assert DateConverterFacade.formatTo(null, null, bytes, 0) == 0;
+		try {
+			DateConverterFacade.formatTo(date, null, new byte[8], 0);
+			assert false;
+		} catch (IndexOutOfBoundsException e) {
+			// no room
+		}
+	}
+
+	public void testZoneOffsetResolver() {
+		ZoneId zone = ZoneId.of("America/New_York");
+		ZoneOffsetResolver resolver = ZoneOffsetResolver.of(zone);
+		LocalDateTime[] times = { LocalDateTime.of(2021, 3, 14, 1, 30), LocalDateTime.of(2021, 3, 14, 2, 30),
+				LocalDateTime.of(2021, 11, 7, 1, 30), LocalDateTime.of(2021, 11, 7, 3, 30),
+				LocalDateTime.of(2150, 7, 1, 12, 0) };
+		for (LocalDateTime time : times) {
+			long localSecond = time.toEpochSecond(ZoneOffset.UTC);
+			assert resolver.offsetOfLocal(localSecond).equals(zone.getRules().getOffset(time));
+			assert resolver.epochSecondOfLocal(localSecond) == time.atZone(zone).toEpochSecond();
+			Instant instant = time.atZone(zone).toInstant();
+			assert resolver.offsetAt(instant.getEpochSecond()).equals(zone.getRules().getOffset(instant));
+		}
+		LocalDate gapDay = LocalDate.of(2021, 3, 28);
+		ZoneId beirut = ZoneId.of("Asia/Beirut");
+		assert ZoneOffsetResolver.of(beirut).startOfDay(gapDay.toEpochDay()) == gapDay.atStartOfDay(beirut)
+				.toEpochSecond();
+		LocalDateTime local = LocalDateTime.of(2021, 3, 14, 2, 30);
+		assert DateConverterFacade.convert(local, Instant.class).equals(local.atZone(ZoneId.systemDefault())
+				.toInstant());
+		assert DateConverterFacade.convert(local, OffsetDateTime.class).toInstant()
+				.equals(local.atZone(ZoneId.systemDefault()).toInstant());
+	}
+
+	public void testDateConverter() {
+		ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+		DateConverter converter = DateConverter.builder().zone(tokyo).locale(Locale.FRENCH).formatterCacheSize(16)
+				.build();
+		assert converter.getZone().equals(tokyo) && converter.getLocale().equals(Locale.FRENCH);
+		LocalDateTime local = LocalDateTime.of(2021, 3, 14, 2, 30);
+		Instant instant = local.atZone(tokyo).toInstant();
+		assert converter.convert(local, Instant.class).equals(instant);
+		assert converter.convert(instant, LocalDateTime.class).equals(local);
+		assert converter.convert("2021-03-14T02:30:00", Instant.class).equals(instant);
+		assert converter.convert(Date.from(instant), LocalDate.class).equals(LocalDate.of(2021, 3, 14));
+		assert converter.convert("14/03/2021 02:30", Date.class, "dd/MM/yyyy HH:mm").equals(Date.from(instant));
+		assert converter.format(instant, "yyyy-MM-dd HH:mm").equals("2021-03-14 02:30");
+		assert converter.format(LocalDate.of(2021, 3, 14), "d MMMM yyyy").equals("14 mars 2021");
+		assert converter.converterFor(Instant.class, LocalDateTime.class).convert(instant).equals(local);
+		DateConverter defaults = DateConverter.getDefault();
+		assert DateConverter.builder().build() == defaults;
+		assert defaults.convert(local, Instant.class).equals(DateConverterFacade.convert(local, Instant.class));
+		assert defaults.format(instant).equals(DateConverterFacade.format(instant));
+	}
+
+	public void testEpochDayTable() {
+		ZoneId beirut = ZoneId.of("Asia/Beirut");
+		EpochDayTable table = new EpochDayTable(1990, 2030, ZoneOffsetResolver.of(beirut));
+		assert table.size() == LocalDate.of(2031, 1, 1).toEpochDay() - LocalDate.of(1990, 1, 1).toEpochDay();
+		LocalDate[] days = { LocalDate.of(1989, 12, 31), LocalDate.of(1990, 1, 1), LocalDate.of(2021, 3, 28),
+				LocalDate.of(2030, 12, 31), LocalDate.of(2031, 1, 1) };
+		for (LocalDate day : days) {
+			assert table.localDate(day.toEpochDay()).equals(day);
+			assert table.startOfDayMillis(day.toEpochDay()) == day.atStartOfDay(beirut).toInstant().toEpochMilli();
+		}
+		assert table.localDate(days[2].toEpochDay()) == table.localDate(days[2].toEpochDay());
+		assert new EpochDayTable(1, 0, ZoneOffsetResolver.of(beirut)).localDate(0).equals(LocalDate.ofEpochDay(0));
+		DateConverter converter = DateConverter.builder().zone(beirut).epochDayTable(1990, 2030).build();
+		assert converter.convert(days[2], Date.class).getTime() == days[2].atStartOfDay(beirut).toInstant()
+				.toEpochMilli();
+		assert converter.convert(new Date(days[2].atStartOfDay(beirut).toInstant().toEpochMilli()), LocalDate.class)
+				.equals(days[2]);
+		try {
+			DateConverter.builder().epochDayTable(1000, 3000);
+			assert false;
+		} catch (DateConverterException e) {
+			// too wide
+		}
+	}
+
+	public void testDateInterner() {
+		DateConverter converter = DateConverter.builder().internerSize(32).build();
+		LocalDate first = converter.convert("2021-03-14", LocalDate.class);
+		assert converter.convert(new StringBuilder("2021-03-14"), 0, 10, LocalDate.class) == first;
+		assert converter.convert(LocalDate.of(2021, 3, 14), LocalDate.class) == first;
+		assert converter.convert("14/03/2021", LocalDate.class, "dd/MM/yyyy") == first;
+		org.joda.time.LocalTime time = converter.convert(LocalTime.of(9, 30), org.joda.time.LocalTime.class);
+		assert converter.convert("09:30", org.joda.time.LocalTime.class, "HH:mm") == time;
+		assert converter.convert(Instant.EPOCH, Date.class) != converter.convert(Instant.EPOCH, Date.class);
+		DateInterner interner = DateInterner.of(32);
+		for (int day = 0; day < 1000; day++) {
+			assert interner.intern(LocalDate.ofEpochDay(day % 100)).equals(LocalDate.ofEpochDay(day % 100));
+		}
+		assert interner.count() <= 32 + DateInterner.STRIPES;
+		assert interner.evictions() > 0 && interner.misses() + interner.hits() == 1000;
+		assert DateInterner.of(0) == null;
+	}
+
+	public void testConvertInto() {
+		Timestamp timestamp = new Timestamp(0);
+		Date date = new Date(0);
+		Time time = new Time(0);
+		Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Asia/Tokyo"));
+		Object[] sources = { "2021-03-14T02:30:00", Instant.parse("2021-03-14T07:30:00.123Z"),
+				LocalDateTime.of(2021, 11, 7, 1, 30), LocalDate.of(2021, 3, 14),
+				new org.joda.time.LocalDateTime(2021, 3, 14, 2, 30), new Date(123_456_789L) };
+		for (Object source : sources) {
+			assert DateConverterFacade.convertInto(source, timestamp) == timestamp;
+			assert timestamp.equals(DateConverterFacade.convert(source, Timestamp.class));
+			assert DateConverterFacade.convertInto(source, date).equals(DateConverterFacade.convert(source, Date.class));
+			assert DateConverterFacade.convertInto(source, calendar).getTimeInMillis() == DateConverterFacade
+					.convert(source, Calendar.class).getTimeInMillis();
+			assert calendar.getTimeZone().getID().equals("Asia/Tokyo");
+		}
+		assert DateConverterFacade.convertInto(LocalTime.of(9, 30), time).equals(Time.valueOf(LocalTime.of(9, 30)));
+		assert DateConverterFacade.convertInto(LocalTime.of(9, 30), date) == null;
+		assert DateConverterFacade.convertInto(null, date) == null;
+		ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+		DateConverter converter = DateConverter.builder().zone(tokyo).build();
+		LocalDateTime local = LocalDateTime.of(2021, 3, 14, 2, 30);
+		assert converter.convertInto(local, timestamp).toInstant().equals(local.atZone(tokyo).toInstant());
+		try {
+			DateConverterFacade.convertInto(local, (Date) null);
+			assert false;
+		} catch (DateConverterException e) {
+			// no target
+		}
+	}
+
+	public void testConversionDiagnostics() {
+		LoggingDiagnosticsSink sink = new LoggingDiagnosticsSink(60_000L);
+		DateConverterFacade.setDiagnosticsSink(sink);
+		try {
+			assert DateConverterFacade.getDiagnosticsSink() == sink;
+			for (int idx = 0; idx < 1000; idx++) {
+				assert DateConverterFacade.convert(LocalTime.of(9, 30), Instant.class) == null;
+			}
+			assert DateConverterFacade.convert(LocalDate.of(2021, 3, 14), LocalTime.class) == null;
+			assert DateConverterFacade.convertInto(new org.joda.time.LocalTime(9, 30), new Date(0)) == null;
+			assert sink.count(LocalTime.class, Instant.class, ConversionDiagnostic.NO_DATE_INFORMATION) == 1000;
+			assert sink.count(LocalDate.class, LocalTime.class, ConversionDiagnostic.NO_TIME_INFORMATION) == 1;
+			assert sink.count(org.joda.time.LocalTime.class, Date.class,
+					ConversionDiagnostic.NO_DATE_INFORMATION) == 1;
+			assert sink.count(LocalTime.class, Date.class, ConversionDiagnostic.NO_DATE_INFORMATION) == 0;
+		} finally {
+			DateConverterFacade.setDiagnosticsSink(null);
+		}
+		assert DateConverterFacade.getDiagnosticsSink() == DiagnosticsSink.NO_OP;
+	}
+
+	public void testTryConvert() {
+		ConversionResult<LocalDate> result = new ConversionResult<>();
+		assert DateConverterFacade.tryConvert("2021-03-14", LocalDate.class, result);
+		assert result.isSuccess() && LocalDate.of(2021, 3, 14).equals(result.getValue());
+		for (int idx = 0; idx < 3; idx++) {
+			assert !DateConverterFacade.tryConvert("not a date", LocalDate.class, result);
+			assert result.getError() == ErrorCode.UNPARSEABLE_DATE && result.getValue() == null;
+		}
+		assert !DateConverterFacade.tryConvert(LocalTime.of(9, 30), LocalDate.class, result);
+		assert result.getError() == ErrorCode.INCOMPLETE_DATE;
+		assert !DateConverterFacade.tryConvert(Integer.valueOf(42), LocalDate.class, result);
+		assert result.getError() == ErrorCode.UNSUPPORTED_CONVERSION;
+		assert DateConverterFacade.tryConvert("14/03/2021", LocalDate.class, "dd/MM/yyyy", result);
+		assert LocalDate.of(2021, 3, 14).equals(result.orElse(LocalDate.MIN));
+		assert !DateConverterFacade.tryConvert("2021-03-14", LocalDate.class, "dd/MM/yyyy", result);
+		assert result.orElse(LocalDate.MIN) == LocalDate.MIN;
+		ConversionResult<Date> date = new ConversionResult<>();
+		assert !DateConverterFacade.tryConvert("2021-03-14", Date.class, "dd/MM/yyyy", date);
+		assert DateConverter.getDefault().tryConvert("[2021-03-14]", 1, 11, Date.class, date);
+		assert date.getValue().equals(DateConverterFacade.convert("2021-03-14", Date.class));
+		try {
+			DateConverterFacade.convert("not a date", LocalDate.class, "dd/MM/yyyy");
+			assert false;
+		} catch (DateConverterException e) {
+			assert e.getCode() == ErrorCode.UNPARSEABLE_DATE && "UNPARSEABLE_DATE".equals(e.getErrorCode());
+		}
+	}
+
+	public void testTryConvertRejectsFailingClasses() {
+		FormatShapeCache.clear();
+		ConversionResult<Date> result = new ConversionResult<>();
+		String[] bad = new String[] { "foo 1 bar", "baz 2 qux", "abc 3 def", "ghi 4 jkl" };
+		for (int idx = 0; idx < FormatShapeCache.CONFIRMATIONS; idx++) {
+			assert !DateConverterFacade.tryConvert(bad[idx], Date.class, result);
+		}
+		long misses = FormatShapeCache.missCount();
+		assert !DateConverterFacade.tryConvert(bad[3], Date.class, result);
+		assert result.getError() == ErrorCode.UNPARSEABLE_DATE && FormatShapeCache.missCount() == misses;
+		for (String invalid : new String[] { "2021-13-45", "2021-00-01", "2021-14-01" }) {
+			assert !DateConverterFacade.tryConvert(invalid, Date.class, result);
+		}
+		assert DateConverterFacade.tryConvert("2021-03-14", Date.class, result);
+		assert result.getValue().equals(DateConverterFacade.convert("2021-03-14", Date.class));
+	}
+
+	public void testConversionMetrics() throws Exception {
+		ConversionMetrics metrics = ConversionMetrics.getInstance();
+		metrics.reset();
+		metrics.setEnabled(true);
+		try {
+			assert metrics.isEnabled();
+			LocalDate date = LocalDate.of(2023, 5, 17);
+			assert DateConverterFacade.convert(date, Date.class) != null;
+			assert DateConverterFacade.convert(date, Date.class) != null;
+			assert DateConverterFacade.convert(LocalTime.NOON, Instant.class) == null;
+			assert DateConverterFacade.convert("2023-05-17", LocalDate.class, "yyyy-MM-dd").equals(date);
+			try {
+				DateConverterFacade.convert("not a date", LocalDate.class, "yyyy-MM-dd");
+				assert false;
+			} catch (DateConverterException e) {
+				// expected
+			}
+			ConversionResult<LocalDate> result = new ConversionResult<>();
+			assert !DateConverterFacade.tryConvert("17.05.2023", LocalDate.class, "yyyy-MM-dd", result);
+
+			ConversionPairStatistics pair = metrics.getPair(LocalDate.class, Date.class);
+			assert pair.getCount() == 2 && pair.getFailureCount() == 0;
+			assert pair.getSource().equals(LocalDate.class.getName()) && pair.getTarget().equals(Date.class.getName());
+			assert Arrays.stream(pair.getLatencyHistogram()).sum() == 2;
+			assert pair.getP99Nanos() >= pair.getP50Nanos();
+
+			pair = metrics.getPair(LocalTime.class, Instant.class);
+			assert pair.getFailures().equals(java.util.Collections.singletonMap("INCOMPLETE_DATE", 1L));
+
+			pair = metrics.getPair(String.class, LocalDate.class);
+			assert pair.getCount() == 3 && pair.getFailureCount() == 2;
+			assert pair.getFailures().get("UNPARSEABLE_DATE") == 2L;
+
+			assert metrics.getConversionCount() == 6 && metrics.getFailureCount() == 3;
+			assert metrics.getPairs().size() == 3;
+			Object count = ManagementFactory.getPlatformMBeanServer()
+					.getAttribute(new ObjectName(ConversionMetrics.OBJECT_NAME), "ConversionCount");
+			assert count.equals(6L);
+			Object pairs = ManagementFactory.getPlatformMBeanServer()
+					.getAttribute(new ObjectName(ConversionMetrics.OBJECT_NAME), "Pairs");
+			assert ((Object[]) pairs).length == 3;
+		} finally {
+			metrics.setEnabled(false);
+		}
+		DateConverterFacade.convert(LocalDate.of(2023, 5, 17), Date.class);
+		assert metrics.getConversionCount() == 6;
+		metrics.reset();
+		assert metrics.getPairs().isEmpty();
+	}
+
+	public void testNonIsoStringsInConverterZone() {
+		ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+		DateConverter converter = DateConverter.builder().zone(tokyo).build();
+		for (int idx = 0; idx < 2 * FormatShapeCache.CONFIRMATIONS; idx++) {
+			String date = String.format("%02d/03/2021 02:30", 14 + idx);
+			LocalDateTime expected = LocalDateTime.of(2021, 3, 14 + idx, 2, 30);
+			assert converter.convert(date, LocalDateTime.class).equals(expected);
+			assert converter.convert(date, LocalTime.class).equals(LocalTime.of(2, 30));
+			assert converter.convert(date, org.joda.time.LocalDateTime.class)
+					.equals(new org.joda.time.LocalDateTime(2021, 3, 14 + idx, 2, 30));
+			assert converter.convert(date, Instant.class).equals(expected.atZone(tokyo).toInstant());
+		}
+		assert converter.convert("14/03/2021 02:30 +01:00", Instant.class)
+				.equals(Instant.parse("2021-03-14T01:30:00Z"));
+		assert converter.convert("Sun Mar 14 02:30:00 UTC 2021", Instant.class)
+				.equals(Instant.parse("2021-03-14T02:30:00Z"));
+	}
+
+	public void testJodaLocalDateBefore1900ToLegacyDates() {
+		DateConverter newYork = DateConverter.builder().zone(ZoneId.of("America/New_York")).build();
+		TimeZone newYorkZone = TimeZone.getTimeZone("America/New_York");
+		for (int year : new int[] { 1200, 1582, 1583, 1700, 1883, 1899, 1900 }) {
+			org.joda.time.LocalDate date = new org.joda.time.LocalDate(year, 1, 1);
+			Date expected = date.toDate();
+			assert DateConverterFacade.convert(date, Date.class).equals(expected);
+			assert DateConverterFacade.convert(date, Timestamp.class).toString().equals(year + "-01-01 00:00:00.0");
+			assert DateConverterFacade.convert(date, java.sql.Date.class).getTime() == expected.getTime();
+			GregorianCalendar calendar = new GregorianCalendar(newYorkZone);
+			calendar.clear();
+			calendar.set(year, Calendar.JANUARY, 1);
+			assert newYork.convert(date, Timestamp.class).getTime() == calendar.getTimeInMillis();
+			assert newYork.convert(date, XMLGregorianCalendar.class).toXMLFormat().startsWith(year + "-01-01T00:00:00");
+		}
+	}
+
+	public void testLocalToLocalInDaylightSavingGap() {
+		DateConverter newYork = DateConverter.builder().zone(ZoneId.of("America/New_York")).build();
+		LocalDateTime date = LocalDateTime.of(2021, 3, 14, 2, 30, 15, 123_000_000);
+		org.joda.time.LocalDateTime jodaDate = new org.joda.time.LocalDateTime(2021, 3, 14, 2, 30, 15, 123);
+		assert newYork.convert(jodaDate, LocalDateTime.class).equals(date);
+		assert newYork.convert(jodaDate, LocalDate.class).equals(date.toLocalDate());
+		assert newYork.convert(jodaDate, LocalTime.class).equals(LocalTime.of(2, 30, 15));
+		assert newYork.convert(date, org.joda.time.LocalDateTime.class).equals(jodaDate);
+		assert newYork.convert(date, org.joda.time.LocalDate.class).equals(jodaDate.toLocalDate());
+		assert newYork.convert(date, org.joda.time.LocalTime.class).equals(jodaDate.toLocalTime());
+		assert DateConverterFacade.convert(jodaDate, LocalDateTime.class).equals(date);
+		assert DateConverterFacade.convert(date, org.joda.time.LocalDateTime.class).equals(jodaDate);
+	}
 }